@@ -30,6 +30,7 @@
 import co.aikar.util.JSONUtil;
 import co.aikar.util.JSONUtil.JsonObjectBuilder;
 import com.google.common.base.Joiner;
+import com.google.common.cache.CacheStats;
 import com.google.common.collect.Sets;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
@@ -48,7 +49,10 @@
 import org.spongepowered.api.text.action.TextActions;
 import org.spongepowered.api.text.format.TextColors;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.data.ImmutableDataCachingUtil;
 import org.spongepowered.common.entity.SpongeEntityType;
+import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+import org.spongepowered.common.world.AsyncLightingExecutor;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -121,6 +125,25 @@ static void reportTimings(CommandSource sender) {
                     return JSONUtil.singleObjectPair(input.getName(), JSONUtil.arrayOf(input.getCollectionCount(), input.getCollectionTime()));
                 })));
 
+        if (SpongeImpl.getGlobalConfig().getConfig().getModules().useOptimizations()
+                && SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useAsyncLighting()) {
+            // Report how far the async lighting threads are behind per world
+            builder.add("lighting", JSONUtil.mapArrayToObject(SpongeImpl.getServer().worlds, (world) -> {
+                final AsyncLightingExecutor executor = ((IMixinWorldServer) world).getLightingExecutor();
+                return JSONUtil.singleObjectPair(world.getWorldInfo().getWorldName(), JSONUtil.objectBuilder()
+                        .add("queued", executor.getPendingUpdates())
+                        .add("peak", executor.getAndResetPeakPendingUpdates())
+                        .build());
+            }));
+        }
+
+        // Report the hits, misses and evictions of the immutable data caches
+        final CacheStats manipulatorStats = ImmutableDataCachingUtil.getManipulatorCacheStats();
+        final CacheStats valueStats = ImmutableDataCachingUtil.getValueCacheStats();
+        builder.add("datacache", JSONUtil.objectBuilder()
+                .add("manipulators", JSONUtil.arrayOf(manipulatorStats.hitCount(), manipulatorStats.missCount(), manipulatorStats.evictionCount()))
+                .add("values", JSONUtil.arrayOf(valueStats.hitCount(), valueStats.missCount(), valueStats.evictionCount())));
+
         Set<BlockType> blockTypeSet = Sets.newHashSet();
         Set<EntityType> entityTypeSet = Sets.newHashSet();
 
@@ -0,0 +1,104 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.block;
+
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.tileentity.TileEntity;
+import org.spongepowered.common.interfaces.block.tile.IMixinTileEntity;
+
+import javax.annotation.Nullable;
+
+/**
+ * The data of a tile entity for one generation, that is from the time it was
+ * first captured until it changes. The data is only written once a snapshot
+ * of the generation needs it, or right before the tile entity changes,
+ * whichever comes first. All snapshots captured within the same generation
+ * share the same instance.
+ */
+public final class CapturedTileEntityData {
+
+    /**
+     * Gets the data of the current generation of the given tile entity.
+     *
+     * @param tileEntity The tile entity
+     * @return The captured data
+     */
+    public static CapturedTileEntityData capture(TileEntity tileEntity) {
+        final IMixinTileEntity mixinTileEntity = (IMixinTileEntity) tileEntity;
+        CapturedTileEntityData data = mixinTileEntity.getCapturedData();
+        if (data == null) {
+            data = new CapturedTileEntityData(tileEntity);
+            mixinTileEntity.setCapturedData(data);
+        }
+        return data;
+    }
+
+    /**
+     * Ends the current generation of the given tile entity, the pending data
+     * is written if it wasn't already. This must be called before the tile
+     * entity is changed in a way that doesn't go through
+     * {@link TileEntity#markDirty()}, such as breaking its block.
+     *
+     * @param tileEntity The tile entity that is about to change
+     */
+    public static void release(TileEntity tileEntity) {
+        final IMixinTileEntity mixinTileEntity = (IMixinTileEntity) tileEntity;
+        final CapturedTileEntityData data = mixinTileEntity.getCapturedData();
+        if (data != null) {
+            mixinTileEntity.setCapturedData(null);
+            data.getCompound();
+        }
+    }
+
+    @Nullable private TileEntity tileEntity;
+    @Nullable private NBTTagCompound compound;
+
+    private CapturedTileEntityData(TileEntity tileEntity) {
+        this.tileEntity = tileEntity;
+    }
+
+    /**
+     * Gets the written data, the returned compound is shared and must not be
+     * modified.
+     *
+     * @return The tile entity data, or null if it couldn't be written
+     */
+    @Nullable
+    public synchronized NBTTagCompound getCompound() {
+        final TileEntity tileEntity = this.tileEntity;
+        if (tileEntity != null) {
+            this.tileEntity = null;
+            final NBTTagCompound compound = new NBTTagCompound();
+            // Some mods like OpenComputers assert if attempting to save robot while moving
+            try {
+                tileEntity.writeToNBT(compound);
+                this.compound = compound;
+            } catch (Throwable t) {
+                // ignore
+            }
+        }
+        return this.compound;
+    }
+}
@@ -94,7 +94,9 @@ public class SpongeBlockSnapshot implements BlockSnapshot {
     private ImmutableList<ImmutableDataManipulator<?, ?>> blockData;
     private ImmutableMap<Key<?>, ImmutableValue<?>> blockKeyValueMap;
     private ImmutableSet<ImmutableValue<?>> blockValueSet;
-    @Nullable final NBTTagCompound compound;
+    @Nullable private NBTTagCompound compound;
+    // Set until the tile entity data is written, see getRawCompound
+    @Nullable private CapturedTileEntityData tileData;
     @Nullable final UUID creatorUniqueId;
     @Nullable final UUID notifierUniqueId;
     // Internal use only
@@ -117,18 +119,14 @@ public SpongeBlockSnapshot(SpongeBlockSnapshotBuilder builder) {
         this.pos = checkNotNull(builder.coords);
         this.blockPos = VecHelper.toBlockPos(this.pos);
 
-        // This avoids cross contamination of block state based values versus tile entity values.
+        // The tile entity values are kept apart from the block state values to avoid cross contamination,
+        // both are only built once they are queried.
         // TODO - delegate this to NbtProcessors when schematics are merged.
-        final ImmutableMap.Builder<Key<?>, ImmutableValue<?>> tileBuilder = ImmutableMap.builder();
         this.extraData = builder.manipulators == null ? ImmutableList.<ImmutableDataManipulator<?, ?>>of() : ImmutableList.copyOf(builder.manipulators);
-        for (ImmutableDataManipulator<?, ?> manipulator : this.extraData) {
-            for (ImmutableValue<?> value : manipulator.getValues()) {
-                tileBuilder.put(value.getKey(), value);
-            }
-        }
-        this.keyValueMap = tileBuilder.build();
-        this.valueSet = this.keyValueMap.isEmpty() ? ImmutableSet.of() : ImmutableSet.copyOf(this.keyValueMap.values());
-        this.compound = builder.compound == null ? null : builder.compound.copy();
+        // The compound is shared with the builder instead of copied, the builder copies it before modifying it again
+        this.compound = builder.compound;
+        builder.compoundShared = builder.compound != null;
+        this.tileData = builder.tileData;
         this.changeFlag = (SpongeBlockChangeFlag) BlockChangeFlags.ALL;
     }
 
@@ -196,10 +194,11 @@ public boolean restore(boolean force, BlockChangeFlag flag) {
             }
             mixinWorldServer.setBlockState(pos, replaced, flag);
             world.getPlayerChunkMap().markBlockForUpdate(pos);
-            if (this.compound != null) {
+            final NBTTagCompound compound = getRawCompound();
+            if (compound != null) {
                 final TileEntity te = world.getTileEntity(pos);
                 if (te != null) {
-                    te.readFromNBT(this.compound);
+                    te.readFromNBT(compound);
                     te.markDirty();
                 }
             }
@@ -251,8 +250,9 @@ public DataContainer toContainer() {
         if (this.blockState != this.extendedState) {
             container.set(DataQueries.BLOCK_EXTENDED_STATE, this.extendedState);
         }
-        if (this.compound != null) {
-            container.set(DataQueries.UNSAFE_NBT, NbtTranslator.getInstance().translateFrom(this.compound));
+        final NBTTagCompound compound = getRawCompound();
+        if (compound != null) {
+            container.set(DataQueries.UNSAFE_NBT, NbtTranslator.getInstance().translateFrom(compound));
         }
         final List<DataView> dataList = DataUtil.getSerializedImmutableManipulatorList(this.extraData);
         if (!dataList.isEmpty()) {
@@ -369,7 +369,7 @@ public BlockSnapshot merge(BlockSnapshot that, MergeFunction function) {
 
     @Override
     public <E> Optional<E> get(Key<? extends BaseValue<E>> key) {
-        if (this.keyValueMap.containsKey(key)) {
+        if (getTileMap().containsKey(key)) {
             return Optional.of((E) this.keyValueMap.get(key).get());
         } else if (getKeyValueMap().containsKey(key)) {
             return Optional.of((E) this.blockKeyValueMap.get(key).get());
@@ -425,7 +425,7 @@ private ImmutableMap<Key<?>, ImmutableValue<?>> getTileMap() {
 
     @Override
     public <E, V extends BaseValue<E>> Optional<V> getValue(Key<V> key) {
-        if (this.keyValueMap.containsKey(key)) {
+        if (getTileMap().containsKey(key)) {
             return Optional.of((V) this.keyValueMap.get(key).asMutable());
         } else if (getKeyValueMap().containsKey(key)) {
             return Optional.of((V) this.blockKeyValueMap.get(key).asMutable());
@@ -436,7 +436,7 @@ public <E, V extends BaseValue<E>> Optional<V> getValue(Key<V> key) {
     @Override
     public boolean supports(Key<?> key) {
         checkNotNull(key, "Key");
-        return this.keyValueMap.containsKey(key) || getKeyValueMap().containsKey(key);
+        return getTileMap().containsKey(key) || getKeyValueMap().containsKey(key);
     }
 
     @Override
@@ -463,7 +463,31 @@ public Set<ImmutableValue<?>> getValues() {
     }
 
     public Optional<NBTTagCompound> getCompound() {
-        return this.compound == null ? Optional.<NBTTagCompound>empty() : Optional.of(this.compound.copy());
+        final NBTTagCompound compound = getRawCompound();
+        return compound == null ? Optional.<NBTTagCompound>empty() : Optional.of(compound.copy());
+    }
+
+    /**
+     * Gets the tile entity data without copying it, the data of a captured
+     * tile entity is written the first time it is needed.
+     *
+     * @return The tile entity data, must not be modified
+     */
+    @Nullable
+    NBTTagCompound getRawCompound() {
+        final CapturedTileEntityData tileData = this.tileData;
+        if (tileData != null) {
+            this.compound = tileData.getCompound();
+            this.tileData = null;
+        }
+        return this.compound;
+    }
+
+    void shareTileData(SpongeBlockSnapshotBuilder builder) {
+        // Snapshots never modify their compound, so it is only copied once the builder changes it
+        builder.compound = this.compound;
+        builder.compoundShared = this.compound != null;
+        builder.tileData = this.tileData;
     }
 
     public SpongeBlockSnapshotBuilder createBuilder() {
@@ -475,9 +499,7 @@ public SpongeBlockSnapshotBuilder createBuilder() {
         for (ImmutableDataManipulator<?, ?> manipulator : this.extraData) {
             builder.add(manipulator);
         }
-        if (this.compound != null) {
-            builder.unsafeNbt(this.compound);
-        }
+        shareTileData(builder);
         return builder;
     }
 
@@ -517,10 +539,11 @@ public Optional<TileEntityArchetype> createArchetype() {
         if (!(type instanceof ITileEntityProvider)) {
             return Optional.empty();
         }
-        if (this.compound == null) { // We can't retrieve the TileEntityType
+        final NBTTagCompound compound = getRawCompound();
+        if (compound == null) { // We can't retrieve the TileEntityType
             return Optional.empty();
         }
-        final String tileId = this.compound.getString(NbtDataUtil.BLOCK_ENTITY_ID);
+        final String tileId = compound.getString(NbtDataUtil.BLOCK_ENTITY_ID);
         final Class<? extends TileEntity> tileClass = TileEntity.REGISTRY.getObject(new ResourceLocation(tileId));
         if (tileClass == null) {
             return Optional.empty();
@@ -530,7 +553,7 @@ public Optional<TileEntityArchetype> createArchetype() {
         final TileEntityArchetype archetype = TileEntityArchetype.builder()
                 .tile(tileType)
                 .state(this.blockState)
-                .tileData(NbtTranslator.getInstance().translate(this.compound))
+                .tileData(NbtTranslator.getInstance().translate(compound))
                 .build();
         return Optional.of(archetype);
     }
@@ -549,7 +572,7 @@ public boolean equals(Object o) {
                Objects.equal(this.worldUniqueId, that.worldUniqueId) &&
                Objects.equal(this.pos, that.pos) &&
                Objects.equal(this.extraData, that.extraData) &&
-               Objects.equal(this.compound, that.compound);
+               Objects.equal(getRawCompound(), that.getRawCompound());
     }
 
     @Override
@@ -560,6 +583,6 @@ public int hashCode() {
                 this.pos,
                 this.extraData,
                 this.changeFlag,
-                this.compound);
+                getRawCompound());
     }
 }
@@ -73,6 +73,10 @@ public class SpongeBlockSnapshotBuilder extends AbstractDataBuilder<BlockSnapsho
     Vector3i coords;
     @Nullable List<ImmutableDataManipulator<?, ?>> manipulators;
     @Nullable NBTTagCompound compound;
+    // Whether the compound is also held by a built snapshot and has to be copied before it is modified
+    boolean compoundShared;
+    // The tile entity data that is written on demand, instead of the compound
+    @Nullable CapturedTileEntityData tileData;
     SpongeBlockChangeFlag flag = (SpongeBlockChangeFlag) BlockChangeFlags.ALL;
 
 
@@ -105,7 +109,16 @@ public SpongeBlockSnapshotBuilder extendedState(BlockState extendedState) {
     @Override
     public SpongeBlockSnapshotBuilder position(Vector3i position) {
         this.coords = checkNotNull(position);
+        if (this.tileData != null) {
+            this.compound = this.tileData.getCompound();
+            this.compoundShared = true;
+            this.tileData = null;
+        }
         if (this.compound != null) {
+            if (this.compoundShared) {
+                this.compound = this.compound.copy();
+                this.compoundShared = false;
+            }
             this.compound.setInteger(NbtDataUtil.TILE_ENTITY_POSITION_X, position.getX());
             this.compound.setInteger(NbtDataUtil.TILE_ENTITY_POSITION_Y, position.getY());
             this.compound.setInteger(NbtDataUtil.TILE_ENTITY_POSITION_Z, position.getZ());
@@ -121,6 +134,8 @@ public SpongeBlockSnapshotBuilder from(Location<World> location) {
         if (this.blockState.getType() instanceof ITileEntityProvider) {
             if (location.hasTileEntity()) {
                 this.compound = new NBTTagCompound();
+                this.compoundShared = false;
+                this.tileData = null;
                 org.spongepowered.api.block.tileentity.TileEntity te = location.getTileEntity().get();
                 ((TileEntity) te).writeToNBT(this.compound);
                 this.manipulators = ((IMixinCustomDataHolder) te).getCustomManipulators().stream()
@@ -145,6 +160,23 @@ public BlockSnapshot.Builder notifier(UUID uuid) {
 
     public SpongeBlockSnapshotBuilder unsafeNbt(NBTTagCompound compound) {
         this.compound = compound.copy();
+        this.compoundShared = false;
+        this.tileData = null;
+        return this;
+    }
+
+    /**
+     * Sets the tile entity whose data is only written once the built
+     * snapshot needs it, or right before the tile entity changes. The
+     * position of the builder must already be set.
+     *
+     * @param tileEntity The tile entity at the position
+     * @return This builder, for chaining
+     */
+    public SpongeBlockSnapshotBuilder tileEntity(TileEntity tileEntity) {
+        this.tileData = CapturedTileEntityData.capture(tileEntity);
+        this.compound = null;
+        this.compoundShared = false;
         return this;
     }
 
@@ -198,9 +230,7 @@ public SpongeBlockSnapshotBuilder from(BlockSnapshot holder) {
         this.coords = holder.getPosition();
         this.manipulators = Lists.newArrayList(holder.getManipulators());
         if (holder instanceof SpongeBlockSnapshot) {
-            if (((SpongeBlockSnapshot) holder).compound != null) {
-                this.compound = ((SpongeBlockSnapshot) holder).compound.copy();
-            }
+            ((SpongeBlockSnapshot) holder).shareTileData(this);
         }
         return this;
     }
@@ -214,6 +244,8 @@ public SpongeBlockSnapshotBuilder reset() {
         this.coords = null;
         this.manipulators = null;
         this.compound = null;
+        this.compoundShared = false;
+        this.tileData = null;
         return this;
     }
 
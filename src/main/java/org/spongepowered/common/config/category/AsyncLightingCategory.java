@@ -36,6 +36,14 @@ public class AsyncLightingCategory extends ConfigCategory {
     @Setting(value = "num-threads", comment = "The amount of threads to dedicate for async lighting updates. (Default: 2)")
     private int numAsyncThreads = 2;
 
+    @Setting(value = "shard-size", comment = "The width in chunks of the regions of a world, every region is updated by a single thread.\n"
+            + "Rounded up to a power of two. (Default: 32)")
+    private int shardSize = 32;
+
+    @Setting(value = "max-pending-updates", comment = "The maximum amount of queued lighting updates of a world before the server waits\n"
+            + "for the lighting threads to catch up. Set to 0 for no limit. (Default: 0)")
+    private int maxPendingUpdates = 0;
+
     public boolean isEnabled() {
         return this.enabled;
     }
@@ -43,4 +51,12 @@ public boolean isEnabled() {
     public int getNumThreads() {
         return this.numAsyncThreads;
     }
+
+    public int getShardSize() {
+        return this.shardSize;
+    }
+
+    public int getMaxPendingUpdates() {
+        return this.maxPendingUpdates;
+    }
 }
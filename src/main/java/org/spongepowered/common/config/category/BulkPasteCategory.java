@@ -0,0 +1,57 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+
+@ConfigSerializable
+public class BulkPasteCategory extends ConfigCategory {
+
+    @Setting(value = "enabled", comment = "If enabled, archetype volumes such as schematics which are applied without neighbor\n"
+            + "notifications, physics or observers are written directly into the chunks. Lighting and\n"
+            + "height maps are recalculated once per chunk and each chunk is resent once to the players.\n"
+            + "No block change events are thrown for these blocks.")
+    private boolean enabled = false;
+
+    @Setting(value = "min-volume", comment = "The minimum amount of blocks in a volume before it's written directly into the chunks. (Default: 4096)")
+    private int minVolume = 4096;
+
+    @Setting(value = "max-millis-per-tick", comment = "The maximum amount of milliseconds to spend pasting each tick, remaining chunks\n"
+            + "are pasted during the next ticks. Set to 0 to paste everything at once. (Default: 0)")
+    private int maxMillisPerTick = 0;
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    public int getMinVolume() {
+        return this.minVolume;
+    }
+
+    public int getMaxMillisPerTick() {
+        return this.maxMillisPerTick;
+    }
+}
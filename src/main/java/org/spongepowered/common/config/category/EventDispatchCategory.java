@@ -0,0 +1,75 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@ConfigSerializable
+public class EventDispatchCategory extends ConfigCategory {
+
+    @Setting(value = "async-plugins", comment = "The ids of the plugins whose listeners with the order POST are run on a separate\n"
+            + "thread pool instead of the server thread. These listeners may only observe the event, they can't use the\n"
+            + "cause stack and they must not access the world. Only add plugins which are known to be safe. (Default: [])")
+    private List<String> asyncPlugins = new ArrayList<>();
+
+    @Setting(value = "async-threads", comment = "The amount of threads that run the asynchronous listeners. (Default: 2)")
+    private int asyncThreads = 2;
+
+    @Setting(value = "async-queue-capacity", comment = "The maximum amount of pending events per plugin. If the queue of a plugin is full,\n"
+            + "events are dropped for that plugin, see 'async-drop-oldest'. (Default: 4096)")
+    private int asyncQueueCapacity = 4096;
+
+    @Setting(value = "async-drop-oldest", comment = "If enabled, the oldest pending event is dropped when the queue of a plugin is full,\n"
+            + "otherwise the new event is dropped. The posting thread never waits for a plugin. (Default: false)")
+    private boolean asyncDropOldest = false;
+
+    @Setting(value = "async-batch-size", comment = "The maximum amount of pending events of one plugin handled in a single batch\n"
+            + "before the thread is handed to the next plugin. (Default: 64)")
+    private int asyncBatchSize = 64;
+
+    public List<String> getAsyncPlugins() {
+        return this.asyncPlugins;
+    }
+
+    public int getAsyncThreads() {
+        return Math.max(1, this.asyncThreads);
+    }
+
+    public int getAsyncQueueCapacity() {
+        return Math.max(1, this.asyncQueueCapacity);
+    }
+
+    public boolean isAsyncDropOldest() {
+        return this.asyncDropOldest;
+    }
+
+    public int getAsyncBatchSize() {
+        return Math.max(1, this.asyncBatchSize);
+    }
+}
@@ -39,6 +39,17 @@ public class MovementChecksCategory extends ConfigCategory {
     @Setting(value = "moved-wrongly", comment = "Controls whether the 'player/entity moved wrongly!' check will be enforced")
     private boolean movedWrongly = true;
 
+    @Setting(value = "move-event-position-threshold", comment = "The distance in blocks a player has to move before a MoveEntityEvent is fired.\n"
+            + "Smaller movements are accumulated until the threshold is reached.")
+    private double moveEventPositionThreshold = 1.0D / 16;
+
+    @Setting(value = "move-event-rotation-threshold", comment = "The change in degrees of the player's rotation required before a MoveEntityEvent is fired.")
+    private double moveEventRotationThreshold = 0.15D;
+
+    @Setting(value = "move-event-block-boundary-only", comment = "If enabled, player movement only fires a MoveEntityEvent when the player enters\n"
+            + "a different block. Rotation changes alone will no longer fire the event.")
+    private boolean moveEventBlockBoundaryOnly = false;
+
     public boolean playerMovedTooQuickly() {
         return playerMovedTooQuickly;
     }
@@ -51,4 +62,16 @@ public boolean movedWrongly() {
         return movedWrongly;
     }
 
+    public double getMoveEventPositionThreshold() {
+        return this.moveEventPositionThreshold;
+    }
+
+    public double getMoveEventRotationThreshold() {
+        return this.moveEventRotationThreshold;
+    }
+
+    public boolean moveEventBlockBoundaryOnly() {
+        return this.moveEventBlockBoundaryOnly;
+    }
+
 }
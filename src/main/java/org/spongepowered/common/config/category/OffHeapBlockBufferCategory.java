@@ -0,0 +1,55 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+
+@ConfigSerializable
+public class OffHeapBlockBufferCategory extends ConfigCategory {
+
+    @Setting(value = "enabled", comment = "If enabled, large block buffers, archetype volumes and block copies of extents\n"
+            + "store their blocks outside of the java heap.")
+    private boolean enabled = false;
+
+    @Setting(value = "min-volume", comment = "The minimum amount of blocks in a buffer before it's stored off heap. (Default: 16777216)")
+    private int minVolume = 16777216;
+
+    @Setting(value = "memory-mapped", comment = "If enabled, off heap buffers are backed by temporary files instead of native memory,\n"
+            + "allowing buffers larger than the available memory.")
+    private boolean memoryMapped = false;
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    public int getMinVolume() {
+        return this.minVolume;
+    }
+
+    public boolean isMemoryMapped() {
+        return this.memoryMapped;
+    }
+}
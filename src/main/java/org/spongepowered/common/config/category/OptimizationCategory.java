@@ -61,6 +61,18 @@ public class OptimizationCategory extends ConfigCategory {
             + "Note: This optimization has a few issues which is explained in the bug report. We are not responsible for any issues this may cause.")
     private boolean pandaRedstone = false;
 
+    @Setting(value = "parallel-block-workers", comment = "Splits the work of large plugin block workers over multiple threads.")
+    private ParallelBlockWorkerCategory parallelBlockWorkerCategory = new ParallelBlockWorkerCategory();
+
+    @Setting(value = "bulk-archetype-paste", comment = "Writes large archetype volumes and schematics directly into the chunks.")
+    private BulkPasteCategory bulkPasteCategory = new BulkPasteCategory();
+
+    @Setting(value = "off-heap-block-buffers", comment = "Stores large block buffers outside of the java heap.")
+    private OffHeapBlockBufferCategory offHeapBlockBufferCategory = new OffHeapBlockBufferCategory();
+
+    @Setting(value = "parallel-chunk-streams", comment = "Reads the chunks of plugin chunk data streams on multiple threads.")
+    private ParallelChunkStreamCategory parallelChunkStreamCategory = new ParallelChunkStreamCategory();
+
     public OptimizationCategory() {  
         try {  
             // Enabled by default on SpongeVanilla, disabled by default on SpongeForge.  
@@ -99,4 +111,20 @@ public boolean useAsyncLighting() {
     public boolean usePandaRedstone() {
         return this.pandaRedstone;
     }
+
+    public ParallelBlockWorkerCategory getParallelBlockWorkerCategory() {
+        return this.parallelBlockWorkerCategory;
+    }
+
+    public BulkPasteCategory getBulkPasteCategory() {
+        return this.bulkPasteCategory;
+    }
+
+    public OffHeapBlockBufferCategory getOffHeapBlockBufferCategory() {
+        return this.offHeapBlockBufferCategory;
+    }
+
+    public ParallelChunkStreamCategory getParallelChunkStreamCategory() {
+        return this.parallelChunkStreamCategory;
+    }
 }
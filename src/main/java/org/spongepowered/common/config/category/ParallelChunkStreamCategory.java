@@ -0,0 +1,55 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+
+@ConfigSerializable
+public class ParallelChunkStreamCategory extends ConfigCategory {
+
+    @Setting(value = "enabled", comment = "If enabled, the chunk data streams of WorldStorage#getGeneratedChunks read,\n"
+            + "decompress and translate the chunks ahead of time on multiple threads.\n"
+            + "The chunks are still returned in the same order.")
+    private boolean enabled = false;
+
+    @Setting(value = "threads", comment = "The amount of threads reading chunks, 0 uses one thread per processor. (Default: 0)")
+    private int threads = 0;
+
+    @Setting(value = "batch-size", comment = "The maximum amount of chunks read ahead per stream. (Default: 64)")
+    private int batchSize = 64;
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    public int getThreads() {
+        return this.threads <= 0 ? Runtime.getRuntime().availableProcessors() : this.threads;
+    }
+
+    public int getBatchSize() {
+        return Math.max(1, this.batchSize);
+    }
+}
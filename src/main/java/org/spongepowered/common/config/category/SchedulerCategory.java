@@ -0,0 +1,55 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+
+@ConfigSerializable
+public class SchedulerCategory extends ConfigCategory {
+
+    public static final String EXECUTOR_WORK_STEALING = "work-stealing";
+    public static final String EXECUTOR_CACHED = "cached";
+    public static final String EXECUTOR_VIRTUAL = "virtual";
+
+    @Setting(value = "async-executor", comment = "The executor that runs the asynchronous tasks of plugins. (Default: cached)\n"
+            + "cached: An unbounded pool which creates a thread for every concurrently running task.\n"
+            + "work-stealing: A bounded work-stealing pool, sized by 'async-parallelism'. Tasks that block, for example\n"
+            + "on database or web requests, hold one of its threads and can delay the tasks of every other plugin.\n"
+            + "virtual: Runs every task on a virtual thread, falls back to cached if the JVM doesn't support them.")
+    private String asyncExecutor = EXECUTOR_CACHED;
+
+    @Setting(value = "async-parallelism", comment = "The amount of threads of the work-stealing pool. Setting this to 0 will use the\n"
+            + "amount of available processors. (Default: 0)")
+    private int asyncParallelism = 0;
+
+    public String getAsyncExecutor() {
+        return this.asyncExecutor;
+    }
+
+    public int getAsyncParallelism() {
+        return this.asyncParallelism <= 0 ? Runtime.getRuntime().availableProcessors() : this.asyncParallelism;
+    }
+}
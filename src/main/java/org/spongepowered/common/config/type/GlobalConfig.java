@@ -33,12 +33,14 @@
 import org.spongepowered.common.config.category.BungeeCordCategory;
 import org.spongepowered.common.config.category.CauseTrackerCategory;
 import org.spongepowered.common.config.category.CommandsCategory;
+import org.spongepowered.common.config.category.EventDispatchCategory;
 import org.spongepowered.common.config.category.ExploitCategory;
 import org.spongepowered.common.config.category.GlobalGeneralCategory;
 import org.spongepowered.common.config.category.GlobalWorldCategory;
 import org.spongepowered.common.config.category.ModuleCategory;
 import org.spongepowered.common.config.category.MovementChecksCategory;
 import org.spongepowered.common.config.category.OptimizationCategory;
+import org.spongepowered.common.config.category.SchedulerCategory;
 import org.spongepowered.common.config.category.SqlCategory;
 import org.spongepowered.common.config.category.TeleportHelperCategory;
 import org.spongepowered.common.util.IpSet;
@@ -73,6 +75,12 @@ public class GlobalConfig extends GeneralConfigBase {
     @Setting(value = "optimizations")
     private OptimizationCategory optimizations = new OptimizationCategory();
 
+    @Setting(value = "scheduler", comment = "Configuration options related to the plugin task scheduler.")
+    private SchedulerCategory scheduler = new SchedulerCategory();
+
+    @Setting(value = "event-dispatch", comment = "Configuration options related to the dispatching of events to plugin listeners.")
+    private EventDispatchCategory eventDispatch = new EventDispatchCategory();
+
     @Setting
     protected GlobalGeneralCategory general = new GlobalGeneralCategory();
 
@@ -127,6 +135,14 @@ public OptimizationCategory getOptimizations() {
         return this.optimizations;
     }
 
+    public SchedulerCategory getScheduler() {
+        return this.scheduler;
+    }
+
+    public EventDispatchCategory getEventDispatch() {
+        return this.eventDispatch;
+    }
+
     public Predicate<InetAddress> getIpSet(String name) {
         return this.ipSets.containsKey(name) ? Predicates.and(this.ipSets.get(name)) : null;
     }
@@ -0,0 +1,768 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+import static org.spongepowered.api.data.DataQuery.of;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import com.google.common.collect.Maps;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import org.spongepowered.api.CatalogType;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataSerializable;
+import org.spongepowered.api.data.DataView;
+import org.spongepowered.api.data.key.Key;
+import org.spongepowered.api.data.persistence.DataTranslator;
+import org.spongepowered.api.data.value.BaseValue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+/**
+ * A compact implementation of a {@link DataView} which stores its values in
+ * parallel arrays instead of a map tree. Keys are interned, primitive values
+ * are kept unboxed in a {@code long[]} and {@link #copy()} shares the nodes
+ * of the copied view, a node is only copied once either side writes to it.
+ *
+ * <p>A view is a handle onto a {@link Node} of its container. Nested views
+ * look their node up again through their parent whenever a node of the
+ * container was replaced by a copy, so views which were handed out keep
+ * writing into the container they came from.</p>
+ */
+public class CompactDataView extends AbstractDataView {
+
+    private static final Interner<String> KEYS = Interners.newWeakInterner();
+
+    private static final byte TYPE_BOOLEAN = 0;
+    private static final byte TYPE_BYTE = 1;
+    private static final byte TYPE_SHORT = 2;
+    private static final byte TYPE_CHAR = 3;
+    private static final byte TYPE_INT = 4;
+    private static final byte TYPE_LONG = 5;
+    private static final byte TYPE_FLOAT = 6;
+    private static final byte TYPE_DOUBLE = 7;
+    private static final byte TYPE_OBJECT = 8;
+    // A list holding views, which are copied when they are exposed
+    private static final byte TYPE_VIEW_LIST = 9;
+    // A nested view, the object slot holds its node
+    private static final byte TYPE_VIEW = 10;
+
+    private final CompactDataView container;
+    @Nullable private final CompactDataView parent;
+    private final String key;
+    private final DataView.SafetyMode safety;
+    @Nullable private DataQuery path;
+    private Node node;
+
+    // Only used on the container, incremented whenever a node is replaced
+    private int structureVersion;
+    private int resolvedVersion;
+    private boolean detached;
+
+    CompactDataView(DataView.SafetyMode safety, Node node) {
+        checkState(this instanceof DataContainer, "Cannot construct a root CompactDataView without a container!");
+        this.container = this;
+        this.parent = null;
+        this.key = "";
+        this.path = of();
+        this.safety = checkNotNull(safety, "Safety mode");
+        this.node = node;
+    }
+
+    private CompactDataView(CompactDataView parent, String key, Node node) {
+        this.container = parent.container;
+        this.parent = parent;
+        this.key = key;
+        this.safety = parent.safety;
+        this.node = node;
+        this.resolvedVersion = this.container.structureVersion;
+    }
+
+    /**
+     * Gets the node of this view for reading.
+     *
+     * @return The node
+     */
+    private Node node() {
+        if (this.parent != null && !this.detached && this.resolvedVersion != this.container.structureVersion) {
+            final Node parentNode = this.parent.node();
+            final int index = parentNode.indexOf(this.key);
+            if (index >= 0 && parentNode.types[index] == TYPE_VIEW && ((Node) parentNode.objects[index]).lineage == this.node.lineage) {
+                this.node = (Node) parentNode.objects[index];
+            } else {
+                // Removed or replaced in the parent, keep the values like a removed MemoryDataView would
+                this.detached = true;
+            }
+            this.resolvedVersion = this.container.structureVersion;
+        }
+        return this.node;
+    }
+
+    /**
+     * Gets the node of this view for writing, copying it and every shared
+     * node above it first.
+     *
+     * @return The node, owned by this view alone
+     */
+    private Node mutableNode() {
+        Node node = node();
+        if (this.parent != null && !this.detached) {
+            final Node parentNode = this.parent.mutableNode();
+            final int index = parentNode.indexOf(this.key);
+            if (index >= 0 && parentNode.types[index] == TYPE_VIEW && ((Node) parentNode.objects[index]).lineage == node.lineage) {
+                // Copying the parent marked this node as shared
+                node = (Node) parentNode.objects[index];
+                if (node.shared) {
+                    node = node.copy(false);
+                    parentNode.objects[index] = node;
+                    this.container.structureVersion++;
+                }
+                this.node = node;
+                this.resolvedVersion = this.container.structureVersion;
+                return node;
+            }
+            this.detached = true;
+        }
+        if (node.shared) {
+            node = node.copy(false);
+            this.node = node;
+            this.container.structureVersion++;
+        }
+        return node;
+    }
+
+    @Override
+    public DataContainer getContainer() {
+        return (DataContainer) this.container;
+    }
+
+    @Override
+    public DataQuery getCurrentPath() {
+        DataQuery path = this.path;
+        if (path == null) {
+            path = checkNotNull(this.parent).getCurrentPath().then(this.key);
+            this.path = path;
+        }
+        return path;
+    }
+
+    @Override
+    public String getName() {
+        return this.key;
+    }
+
+    @Override
+    public Optional<DataView> getParent() {
+        return Optional.ofNullable(this.parent);
+    }
+
+    @Override
+    public Set<DataQuery> getKeys(boolean deep) {
+        return keysOf(node(), deep);
+    }
+
+    private static ImmutableSet<DataQuery> keysOf(Node node, boolean deep) {
+        final ImmutableSet.Builder<DataQuery> builder = ImmutableSet.builder();
+        for (int i = 0; i < node.size; i++) {
+            builder.add(of(node.keys[i]));
+        }
+        if (deep) {
+            for (int i = 0; i < node.size; i++) {
+                if (node.types[i] == TYPE_VIEW) {
+                    final DataQuery key = of(node.keys[i]);
+                    for (DataQuery query : keysOf((Node) node.objects[i], true)) {
+                        builder.add(key.then(query));
+                    }
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    @Override
+    public Map<DataQuery, Object> getValues(boolean deep) {
+        return valuesOf(node(), deep);
+    }
+
+    private ImmutableMap<DataQuery, Object> valuesOf(Node node, boolean deep) {
+        final ImmutableMap.Builder<DataQuery, Object> builder = ImmutableMap.builder();
+        final List<Map.Entry<DataQuery, Map<DataQuery, Object>>> subValues = deep ? new ArrayList<>() : null;
+        for (int i = 0; i < node.size; i++) {
+            final DataQuery query = of(node.keys[i]);
+            if (node.types[i] == TYPE_VIEW) {
+                final Map<DataQuery, Object> values = valuesOf((Node) node.objects[i], deep);
+                builder.put(query, values);
+                if (deep) {
+                    subValues.add(Maps.immutableEntry(query, values));
+                }
+            } else {
+                builder.put(query, valueAt(node, i));
+            }
+        }
+        if (deep) {
+            for (Map.Entry<DataQuery, Map<DataQuery, Object>> entry : subValues) {
+                for (Map.Entry<DataQuery, Object> subEntry : entry.getValue().entrySet()) {
+                    builder.put(entry.getKey().then(subEntry.getKey()), subEntry.getValue());
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Walks down the given path without creating any views.
+     *
+     * @param parts The parts of the path
+     * @return The node holding the last part, or null if a view is missing
+     */
+    @Nullable
+    private Node find(List<String> parts) {
+        Node node = node();
+        for (int i = 0, last = parts.size() - 1; i < last; i++) {
+            final int index = node.indexOf(parts.get(i));
+            if (index < 0 || node.types[index] != TYPE_VIEW) {
+                return null;
+            }
+            node = (Node) node.objects[index];
+        }
+        return node;
+    }
+
+    @Override
+    public boolean contains(DataQuery path) {
+        checkNotNull(path, "path");
+        final List<String> parts = path.getParts();
+        final String key = parts.get(parts.size() - 1);
+        final Node node = find(parts);
+        return node != null && node.indexOf(key) >= 0;
+    }
+
+    @Override
+    public Optional<Object> get(DataQuery path) {
+        checkNotNull(path, "path");
+        final List<String> parts = path.getParts();
+        if (parts.isEmpty()) {
+            return Optional.of(this);
+        }
+        final Node node = find(parts);
+        if (node == null) {
+            return Optional.empty();
+        }
+        final int index = node.indexOf(parts.get(parts.size() - 1));
+        if (index < 0) {
+            return Optional.empty();
+        }
+        if (node.types[index] == TYPE_VIEW) {
+            CompactDataView view = this;
+            for (String part : parts) {
+                view = view.getExistingView(part);
+            }
+            return Optional.of(view);
+        }
+        return Optional.of(valueAt(node, index));
+    }
+
+    @Nullable
+    private CompactDataView getExistingView(String key) {
+        final Node node = node();
+        final int index = node.indexOf(key);
+        if (index < 0 || node.types[index] != TYPE_VIEW) {
+            return null;
+        }
+        return new CompactDataView(this, node.keys[index], (Node) node.objects[index]);
+    }
+
+    private CompactDataView getOrCreateView(String key) {
+        final CompactDataView view = getExistingView(key);
+        if (view != null) {
+            return view;
+        }
+        final Node child = new Node();
+        putObject(key, TYPE_VIEW, child);
+        return new CompactDataView(this, key, child);
+    }
+
+    /**
+     * Gets the stored value at the given index, boxed but not cloned.
+     */
+    private static Object boxedAt(Node node, int index) {
+        final long primitive = node.primitives[index];
+        switch (node.types[index]) {
+            case TYPE_BOOLEAN:
+                return primitive != 0;
+            case TYPE_BYTE:
+                return (byte) primitive;
+            case TYPE_SHORT:
+                return (short) primitive;
+            case TYPE_CHAR:
+                return (char) primitive;
+            case TYPE_INT:
+                return (int) primitive;
+            case TYPE_LONG:
+                return primitive;
+            case TYPE_FLOAT:
+                return Float.intBitsToFloat((int) primitive);
+            case TYPE_DOUBLE:
+                return Double.longBitsToDouble(primitive);
+            default:
+                return node.objects[index];
+        }
+    }
+
+    /**
+     * Gets the value to expose for the value at the given index, arrays and
+     * views within lists are copied depending on the safety mode.
+     */
+    private Object valueAt(Node node, int index) {
+        final Object value = boxedAt(node, index);
+        if (this.safety == SafetyMode.ALL_DATA_CLONED) {
+            if (node.types[index] == TYPE_VIEW_LIST) {
+                final ImmutableList.Builder<Object> builder = ImmutableList.builder();
+                for (Object element : (List<?>) value) {
+                    builder.add(element instanceof DataView ? ((DataView) element).copy() : element);
+                }
+                return builder.build();
+            }
+            if (node.types[index] == TYPE_OBJECT && value.getClass().isArray()) {
+                return cloneArray(value);
+            }
+        }
+        return value;
+    }
+
+    private void putPrimitive(String key, byte type, long value) {
+        if (mutableNode().put(key, type, value, null) == TYPE_VIEW) {
+            this.container.structureVersion++;
+        }
+    }
+
+    private void putObject(String key, byte type, Object value) {
+        if (mutableNode().put(key, type, 0L, value) == TYPE_VIEW) {
+            this.container.structureVersion++;
+        }
+    }
+
+    @Override
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public DataView set(DataQuery path, Object value) {
+        checkNotNull(path, "path");
+        checkNotNull(value, "value");
+
+        final List<String> parts = path.getParts();
+        final String key = parts.get(0);
+        if (parts.size() > 1) {
+            getOrCreateView(key).set(path.popFirst(), value);
+            return this;
+        }
+        @Nullable DataTranslator serializer;
+        if (value instanceof String) {
+            putObject(key, TYPE_OBJECT, value);
+        } else if (value instanceof Integer) {
+            putPrimitive(key, TYPE_INT, (Integer) value);
+        } else if (value instanceof Double) {
+            putPrimitive(key, TYPE_DOUBLE, Double.doubleToRawLongBits((Double) value));
+        } else if (value instanceof Byte) {
+            putPrimitive(key, TYPE_BYTE, (Byte) value);
+        } else if (value instanceof Long) {
+            putPrimitive(key, TYPE_LONG, (Long) value);
+        } else if (value instanceof Boolean) {
+            putPrimitive(key, TYPE_BOOLEAN, (Boolean) value ? 1L : 0L);
+        } else if (value instanceof Short) {
+            putPrimitive(key, TYPE_SHORT, (Short) value);
+        } else if (value instanceof Float) {
+            putPrimitive(key, TYPE_FLOAT, Float.floatToRawIntBits((Float) value));
+        } else if (value instanceof Character) {
+            putPrimitive(key, TYPE_CHAR, (Character) value);
+        } else if (value instanceof DataView) {
+            checkArgument(value != this, "Cannot set a DataView to itself.");
+            setView(key, (DataView) value);
+        } else if (value instanceof DataSerializable) {
+            final DataContainer valueContainer = ((DataSerializable) value).toContainer();
+            checkArgument(!valueContainer.equals(this), "Cannot insert self-referencing DataSerializable");
+            setView(key, valueContainer);
+        } else if (value instanceof CatalogType) {
+            return set(path, ((CatalogType) value).getId());
+        } else if ((serializer = getTranslator(value)) != null) {
+            final DataContainer container = serializer.translate(value);
+            checkArgument(!container.equals(this), "Cannot insert self-referencing Objects!");
+            setView(key, container);
+        } else if (value instanceof Collection) {
+            final ImmutableList<Object> list = serializeCollection((Collection) value);
+            putObject(key, list.stream().anyMatch(DataView.class::isInstance) ? TYPE_VIEW_LIST : TYPE_OBJECT, list);
+        } else if (value instanceof Map) {
+            setMap(key, (Map) value);
+        } else if (value.getClass().isArray()) {
+            if (this.safety == SafetyMode.ALL_DATA_CLONED || this.safety == SafetyMode.CLONED_ON_SET) {
+                putObject(key, TYPE_OBJECT, cloneArray(value));
+            } else {
+                putObject(key, TYPE_OBJECT, value);
+            }
+        } else {
+            putObject(key, TYPE_OBJECT, value);
+        }
+        return this;
+    }
+
+    @Override
+    public <E> DataView set(Key<? extends BaseValue<E>> key, E value) {
+        return set(checkNotNull(key, "Key was null!").getQuery(), value);
+    }
+
+    /**
+     * Gets whether nodes may be shared between views of this safety mode and
+     * the given one. Stored arrays are only private to the nodes if they are
+     * cloned both on set and on get, without any cloning both sides already
+     * expect them to be shared.
+     */
+    private boolean sharesNodesWith(SafetyMode safety) {
+        return this.safety == safety && safety != SafetyMode.CLONED_ON_SET;
+    }
+
+    private void setView(String key, DataView value) {
+        final CompactDataView existing = getExistingView(key);
+        if (existing != null) {
+            // Merged into the existing view, like every value was set on its own
+            copyDataView(existing, value);
+        } else if (value.isEmpty()) {
+            // Nothing would be set, so no view is created either
+            return;
+        } else if (value instanceof CompactDataView && sharesNodesWith(((CompactDataView) value).safety)) {
+            putObject(key, TYPE_VIEW, ((CompactDataView) value).node().copy(true));
+        } else {
+            copyDataView(getOrCreateView(key), value);
+        }
+    }
+
+    private static void copyDataView(DataView target, DataView value) {
+        for (DataQuery key : value.getKeys(false)) {
+            target.set(key, value.get(key).get());
+        }
+    }
+
+    private void setMap(String key, Map<?, ?> value) {
+        final DataView view = createView(of(key));
+        for (Map.Entry<?, ?> entry : value.entrySet()) {
+            view.set(of(entry.getKey().toString()), entry.getValue());
+        }
+    }
+
+    @Override
+    DataView copyListElement(DataView view) {
+        if (view instanceof CompactDataView) {
+            return view.copy(this.safety);
+        }
+        final DataContainer copy = new CompactDataContainer(this.safety);
+        for (Map.Entry<DataQuery, Object> entry : view.getValues(false).entrySet()) {
+            copy.set(entry.getKey(), entry.getValue());
+        }
+        return copy;
+    }
+
+    @Override
+    public DataView remove(DataQuery path) {
+        checkNotNull(path, "path");
+        final List<String> parts = path.getParts();
+        if (parts.size() > 1) {
+            final CompactDataView view = getExistingView(parts.get(0));
+            if (view != null) {
+                view.remove(path.popFirst());
+            }
+        } else if (node().indexOf(parts.get(0)) >= 0) {
+            final Node node = mutableNode();
+            final int index = node.indexOf(parts.get(0));
+            if (node.types[index] == TYPE_VIEW) {
+                this.container.structureVersion++;
+            }
+            node.removeAt(index);
+        }
+        return this;
+    }
+
+    @Override
+    public DataView createView(DataQuery path) {
+        checkNotNull(path, "path");
+        final List<String> parts = path.getParts();
+        checkArgument(!parts.isEmpty(), "The size of the query must be at least 1");
+
+        final String key = parts.get(0);
+        if (parts.size() == 1) {
+            final Node child = new Node();
+            putObject(key, TYPE_VIEW, child);
+            return new CompactDataView(this, key, child);
+        }
+        return getOrCreateView(key).createView(path.popFirst());
+    }
+
+    @Override
+    public DataView createView(DataQuery path, Map<?, ?> map) {
+        checkNotNull(path, "path");
+        final DataView section = createView(path);
+
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (entry.getValue() instanceof Map) {
+                section.createView(of('.', entry.getKey().toString()), (Map<?, ?>) entry.getValue());
+            } else {
+                section.set(of('.', entry.getKey().toString()), entry.getValue());
+            }
+        }
+        return section;
+    }
+
+    @Override
+    public DataContainer copy(SafetyMode safety) {
+        final Node node = node();
+        if (sharesNodesWith(safety)) {
+            node.shared = true;
+            return new CompactDataContainer(safety, node);
+        }
+        final DataContainer container = new CompactDataContainer(safety);
+        for (int i = 0; i < node.size; i++) {
+            if (node.types[i] == TYPE_VIEW) {
+                container.set(of(node.keys[i]), new CompactDataView(this, node.keys[i], (Node) node.objects[i]));
+            } else {
+                container.set(of(node.keys[i]), valueAt(node, i));
+            }
+        }
+        return container;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return node().size == 0;
+    }
+
+    @Override
+    public SafetyMode getSafetyMode() {
+        return this.safety;
+    }
+
+    @Override
+    int contentHashCode() {
+        return hashOf(node());
+    }
+
+    private static int hashOf(Node node) {
+        int hash = 0;
+        for (int i = 0; i < node.size; i++) {
+            final int valueHash = node.types[i] == TYPE_VIEW ? hashOf((Node) node.objects[i]) : valueHashCode(boxedAt(node, i));
+            hash += node.keys[i].hashCode() ^ valueHash;
+        }
+        return hash;
+    }
+
+    @Override
+    boolean contentEquals(DataView other) {
+        if (other instanceof CompactDataView) {
+            return nodeEquals(node(), ((CompactDataView) other).node());
+        }
+        return super.contentEquals(other);
+    }
+
+    private static boolean nodeEquals(Node node, Node other) {
+        if (node == other) {
+            return true;
+        }
+        if (node.size != other.size) {
+            return false;
+        }
+        for (int i = 0; i < node.size; i++) {
+            final int index = other.indexOf(node.keys[i]);
+            if (index < 0) {
+                return false;
+            }
+            final byte type = node.types[i];
+            if (type == TYPE_VIEW || other.types[index] == TYPE_VIEW) {
+                if (type != other.types[index] || !nodeEquals((Node) node.objects[i], (Node) other.objects[index])) {
+                    return false;
+                }
+            } else if (type == other.types[index] && type < TYPE_FLOAT) {
+                if (node.primitives[i] != other.primitives[index]) {
+                    return false;
+                }
+            } else if (!valueEquals(boxedAt(node, i), boxedAt(other, index))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        final MoreObjects.ToStringHelper helper = MoreObjects.toStringHelper(this);
+        if (!getCurrentPath().toString().isEmpty()) {
+            helper.add("path", getCurrentPath());
+        }
+        helper.add("safety", this.safety.name());
+        return helper.add("values", getValues(false)).toString();
+    }
+
+    /**
+     * The values of one view, stored in parallel arrays in insertion order.
+     *
+     * <p>A node which is {@link #shared} is referenced by more than one
+     * parent or container and is never changed again, it is copied by
+     * whoever wants to write to it.</p>
+     */
+    static final class Node {
+
+        private static final int INITIAL_CAPACITY = 4;
+        // Above this many keys, lookups go through a hash index instead of a scan
+        private static final int INDEX_THRESHOLD = 32;
+
+        // Identifies a node and the copies which replaced it for writing
+        final Object lineage;
+        String[] keys;
+        byte[] types;
+        long[] primitives;
+        Object[] objects;
+        int size;
+        boolean shared;
+        @Nullable private Object2IntOpenHashMap<String> index;
+
+        Node() {
+            this.lineage = new Object();
+            this.keys = new String[INITIAL_CAPACITY];
+            this.types = new byte[INITIAL_CAPACITY];
+            this.primitives = new long[INITIAL_CAPACITY];
+            this.objects = new Object[INITIAL_CAPACITY];
+        }
+
+        private Node(Node from, Object lineage) {
+            this.lineage = lineage;
+            this.keys = from.keys.clone();
+            this.types = from.types.clone();
+            this.primitives = from.primitives.clone();
+            this.objects = from.objects.clone();
+            this.size = from.size;
+            if (from.index != null) {
+                this.index = new Object2IntOpenHashMap<>(from.index);
+                this.index.defaultReturnValue(-1);
+            }
+            for (int i = 0; i < this.size; i++) {
+                if (this.types[i] == TYPE_VIEW) {
+                    // Now referenced by both the original and this copy
+                    ((Node) this.objects[i]).shared = true;
+                }
+            }
+        }
+
+        /**
+         * Copies this node, the nested nodes are shared with the copy.
+         *
+         * @param detach Whether views of this node must not follow the copy
+         * @return The copy
+         */
+        Node copy(boolean detach) {
+            return new Node(this, detach ? new Object() : this.lineage);
+        }
+
+        int indexOf(String key) {
+            if (this.index != null) {
+                return this.index.getInt(key);
+            }
+            for (int i = 0; i < this.size; i++) {
+                final String candidate = this.keys[i];
+                if (candidate == key || candidate.equals(key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Sets the value for the given key, appending it if the key is new.
+         *
+         * @return The type of the replaced value, or -1 if the key is new
+         */
+        int put(String key, byte type, long primitive, @Nullable Object object) {
+            int index = indexOf(key);
+            final int previous;
+            if (index < 0) {
+                if (this.size == this.keys.length) {
+                    final int capacity = this.size * 2;
+                    this.keys = Arrays.copyOf(this.keys, capacity);
+                    this.types = Arrays.copyOf(this.types, capacity);
+                    this.primitives = Arrays.copyOf(this.primitives, capacity);
+                    this.objects = Arrays.copyOf(this.objects, capacity);
+                }
+                index = this.size++;
+                this.keys[index] = KEYS.intern(key);
+                if (this.index != null) {
+                    this.index.put(this.keys[index], index);
+                } else if (this.size > INDEX_THRESHOLD) {
+                    rebuildIndex();
+                }
+                previous = -1;
+            } else {
+                previous = this.types[index];
+            }
+            this.types[index] = type;
+            this.primitives[index] = primitive;
+            this.objects[index] = object;
+            return previous;
+        }
+
+        void removeAt(int index) {
+            final int moved = this.size - index - 1;
+            System.arraycopy(this.keys, index + 1, this.keys, index, moved);
+            System.arraycopy(this.types, index + 1, this.types, index, moved);
+            System.arraycopy(this.primitives, index + 1, this.primitives, index, moved);
+            System.arraycopy(this.objects, index + 1, this.objects, index, moved);
+            this.size--;
+            this.keys[this.size] = null;
+            this.objects[this.size] = null;
+            if (this.size > INDEX_THRESHOLD) {
+                rebuildIndex();
+            } else {
+                this.index = null;
+            }
+        }
+
+        private void rebuildIndex() {
+            final Object2IntOpenHashMap<String> index = new Object2IntOpenHashMap<>(this.size * 2);
+            index.defaultReturnValue(-1);
+            for (int i = 0; i < this.size; i++) {
+                index.put(this.keys[i], i);
+            }
+            this.index = index;
+        }
+    }
+}
@@ -33,6 +33,7 @@
 import org.spongepowered.api.data.merge.MergeFunction;
 import org.spongepowered.api.data.value.BaseValue;
 import org.spongepowered.api.entity.EntityType;
+import org.spongepowered.common.data.util.DataProcessorDelegate;
 
 import java.util.Optional;
 
@@ -55,6 +56,19 @@
 
     boolean supports(DataHolder dataHolder);
 
+    /**
+     * Checks if any {@link DataHolder} of the provided class could be
+     * supported by this {@link DataProcessor}. The {@link DataProcessorDelegate}
+     * caches the result per holder class and never asks this processor to
+     * {@link #supports(DataHolder)} holders of a class it rejects.
+     *
+     * @param holderClass The class of the data holder
+     * @return False if no holder of the class is ever supported
+     */
+    default boolean canSupport(Class<?> holderClass) {
+        return true;
+    }
+
     boolean supports(EntityType entityType);
 
     /**
@@ -28,7 +28,11 @@
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
-import org.spongepowered.api.CatalogType;
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.MapMaker;
 import org.spongepowered.api.data.key.Key;
 import org.spongepowered.api.data.manipulator.ImmutableDataManipulator;
 import org.spongepowered.api.data.value.BaseValue;
@@ -37,6 +41,11 @@
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 
@@ -45,18 +54,19 @@ public final class ImmutableDataCachingUtil {
     private ImmutableDataCachingUtil() {}
 
     public static final int CACHE_LIMIT_FOR_INDIVIDUAL_TYPE = 100;
-    public static final int MANIPULATOR_CACHE_LIMIT = 100000;
-    public static final int VALUE_CACHE_LIMIT = 100000;
+    public static final int MANIPULATOR_TYPE_CACHE_LIMIT = 1000;
+    public static final int VALUE_TYPE_CACHE_LIMIT = 1000;
 
-    private static final Cache<String, ImmutableDataManipulator<?, ?>> manipulatorCache = CacheBuilder.newBuilder()
-        .maximumSize(MANIPULATOR_CACHE_LIMIT)
+    // One bounded cache per manipulator class and per key, both looked up by identity
+    private static final Map<Class<?>, Cache<CacheKey, ImmutableDataManipulator<?, ?>>> manipulatorCaches = new MapMaker()
         .concurrencyLevel(4)
-        .build();
+        .weakKeys()
+        .makeMap();
 
-    private static final Cache<String, ImmutableValue<?>> valueCache = CacheBuilder.newBuilder()
+    private static final Map<Key<?>, Cache<CacheKey, ImmutableValue<?>>> valueCaches = new MapMaker()
         .concurrencyLevel(4)
-        .maximumSize(VALUE_CACHE_LIMIT)
-        .build();
+        .weakKeys()
+        .makeMap();
 
     /**
      * Retrieves a basic manipulator from {@link Cache}. If the {@link Cache}
@@ -75,11 +85,10 @@ private ImmutableDataCachingUtil() {}
      */
     @SuppressWarnings("unchecked")
     public static <T extends ImmutableDataManipulator<?, ?>> T getManipulator(final Class<T> immutableClass, final Object... args) {
-        final String key = getKey(immutableClass, args);
+        final CacheKey key = new CacheKey(args);
         // We can't really use the generic typing here because it's complicated...
         try {
-            // Let's get the key
-            return (T) ImmutableDataCachingUtil.manipulatorCache.get(key, (Callable<ImmutableDataManipulator<?, ?>>) () -> {
+            return (T) getCache(manipulatorCaches, immutableClass, MANIPULATOR_TYPE_CACHE_LIMIT).get(key, (Callable<ImmutableDataManipulator<?, ?>>) () -> {
                     try {
                         return createUnsafeInstance(immutableClass, args);
                     } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
@@ -97,9 +106,9 @@ private ImmutableDataCachingUtil() {}
     @SuppressWarnings("unchecked")
     public static <E, V extends ImmutableValue<?>, T extends ImmutableValue<E>> T getValue(final Class<V> valueClass,
             final Key<? extends BaseValue<E>> usedKey, final E defaultArg, final E arg, final Object... extraArgs) {
-        final String key = getKey(valueClass, usedKey.getQuery().asString('.'), arg.getClass(), arg);
+        final CacheKey key = new CacheKey(valueClass, arg);
         try {
-            return (T) ImmutableDataCachingUtil.valueCache.get(key, (Callable<ImmutableValue<?>>) () -> {
+            return (T) getCache(valueCaches, usedKey, VALUE_TYPE_CACHE_LIMIT).get(key, (Callable<ImmutableValue<?>>) () -> {
                     try {
                         if (extraArgs == null || extraArgs.length == 0) {
                             return createUnsafeInstance(valueClass, usedKey, defaultArg, arg);
@@ -115,15 +124,81 @@ public static <E, V extends ImmutableValue<?>, T extends ImmutableValue<E>> T ge
         }
     }
 
-    private static String getKey(final Class<?> immutableClass, final Object... args) {
-        final StringBuilder builder = new StringBuilder(immutableClass.getCanonicalName() + ":");
-        for (Object object : args) {
-            if (object instanceof CatalogType) {
-                builder.append("{").append(((CatalogType) object).getId()).append("}");
-            } else {
-                builder.append("{").append(object.toString()).append("}");
+    /**
+     * Gets the combined hit and miss statistics of all manipulator caches.
+     *
+     * @return The manipulator cache statistics
+     */
+    public static CacheStats getManipulatorCacheStats() {
+        return getStats(manipulatorCaches);
+    }
+
+    /**
+     * Gets the combined hit and miss statistics of all value caches.
+     *
+     * @return The value cache statistics
+     */
+    public static CacheStats getValueCacheStats() {
+        return getStats(valueCaches);
+    }
+
+    private static <K, V> Cache<CacheKey, V> getCache(Map<K, Cache<CacheKey, V>> caches, K type, int limit) {
+        final Cache<CacheKey, V> cache = caches.get(type);
+        if (cache != null) {
+            return cache;
+        }
+        return caches.computeIfAbsent(type, k -> CacheBuilder.newBuilder()
+            .concurrencyLevel(4)
+            .maximumSize(limit)
+            .recordStats()
+            .build());
+    }
+
+    private static CacheStats getStats(Map<?, ? extends Cache<?, ?>> caches) {
+        CacheStats stats = new CacheStats(0, 0, 0, 0, 0, 0);
+        for (Cache<?, ?> cache : caches.values()) {
+            stats = stats.plus(cache.stats());
+        }
+        return stats;
+    }
+
+    /**
+     * A cache key comparing the constructor arguments by value. Collections are
+     * copied so that later changes by the caller can't corrupt the cache.
+     */
+    private static final class CacheKey {
+
+        private final Object[] args;
+        private final int hashCode;
+
+        CacheKey(Object... args) {
+            this.args = new Object[args.length];
+            for (int i = 0; i < args.length; i++) {
+                this.args[i] = freeze(args[i]);
             }
+            this.hashCode = Arrays.deepHashCode(this.args);
+        }
+
+        private static Object freeze(Object arg) {
+            if (arg instanceof List && !(arg instanceof ImmutableList)) {
+                return Arrays.asList(((List<?>) arg).toArray());
+            } else if (arg instanceof Set && !(arg instanceof ImmutableSet)) {
+                return new HashSet<>((Set<?>) arg);
+            } else if (arg instanceof Map && !(arg instanceof ImmutableMap)) {
+                return new HashMap<>((Map<?, ?>) arg);
+            }
+            return arg;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj == this || obj instanceof CacheKey && this.hashCode == ((CacheKey) obj).hashCode
+                && Arrays.deepEquals(this.args, ((CacheKey) obj).args);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
         }
-        return builder.toString();
     }
 }
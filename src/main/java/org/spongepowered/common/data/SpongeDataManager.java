@@ -269,12 +269,12 @@ public <T> Optional<DataTranslator<T>> getTranslator(Class<T> objectclass) {
 
     @Override
     public DataContainer createContainer() {
-        return new MemoryDataContainer();
+        return new CompactDataContainer();
     }
 
     @Override
     public DataContainer createContainer(DataView.SafetyMode safety) {
-        return new MemoryDataContainer(safety);
+        return new CompactDataContainer(safety);
     }
 
     public Optional<DataManipulatorBuilder<?, ?>> getWildManipulatorBuilder(Class<? extends DataManipulator<?, ?>> manipulatorClass) {
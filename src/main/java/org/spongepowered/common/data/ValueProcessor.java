@@ -35,6 +35,7 @@
 import org.spongepowered.api.data.value.mutable.CollectionValue;
 import org.spongepowered.api.data.value.mutable.Value;
 import org.spongepowered.api.entity.Entity;
+import org.spongepowered.common.data.util.ValueProcessorDelegate;
 
 import java.util.Optional;
 
@@ -139,6 +140,19 @@
      */
     boolean supports(ValueContainer<?> container);
 
+    /**
+     * Checks if any {@link ValueContainer} of the provided class could be
+     * supported by this {@link ValueProcessor}. The {@link ValueProcessorDelegate}
+     * caches the result per container class and never asks this processor to
+     * {@link #supports(ValueContainer)} containers of a class it rejects.
+     *
+     * @param containerClass The class of the value container
+     * @return False if no container of the class is ever supported
+     */
+    default boolean canSupport(Class<?> containerClass) {
+        return true;
+    }
+
     /**
      * Offers the provided {@link BaseValue} containing a value of the
      * appropriate value type of this {@link ValueProcessor} to offer
@@ -0,0 +1,408 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.spongepowered.api.data.DataQuery.of;
+
+import com.google.common.collect.Lists;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataSerializable;
+import org.spongepowered.api.data.DataView;
+import org.spongepowered.common.data.util.NbtDataUtil;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+/**
+ * Reads and writes the binary NBT format directly from and to
+ * {@link DataView}s, producing exactly the same data as going through
+ * {@link net.minecraft.nbt.CompressedStreamTools} and the {@link NbtTranslator}
+ * but without building the intermediate {@link net.minecraft.nbt.NBTBase} tree.
+ */
+public final class NbtStreams {
+
+    // Same limit as NBTTagCompound#read
+    private static final int MAX_DEPTH = 512;
+    private static final byte TAG_LONG_ARRAY = 12;
+
+    /**
+     * Reads a named root compound from the given input.
+     *
+     * @param input The input to read from
+     * @return The read container
+     * @throws IOException If the data could not be read
+     */
+    public static DataContainer read(DataInput input) throws IOException {
+        checkNotNull(input, "input");
+        readRootHeader(input);
+        final DataContainer container = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED);
+        readCompound(input, container, 0);
+        return container;
+    }
+
+    /**
+     * Reads only the compound stored under the given key of the root compound,
+     * every other entry is skipped without being decoded.
+     *
+     * @param input The input to read from
+     * @param key The key of the compound to read
+     * @return The read container, or null if the root has no such compound
+     * @throws IOException If the data could not be read
+     */
+    @Nullable
+    public static DataContainer readChild(DataInput input, String key) throws IOException {
+        checkNotNull(input, "input");
+        checkNotNull(key, "key");
+        readRootHeader(input);
+        DataContainer child = null;
+        byte type;
+        while ((type = input.readByte()) != NbtDataUtil.TAG_END) {
+            final String name = input.readUTF();
+            if (type == NbtDataUtil.TAG_COMPOUND && name.equals(key)) {
+                child = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED);
+                readCompound(input, child, 1);
+            } else {
+                skip(input, type);
+            }
+        }
+        return child;
+    }
+
+    private static void readRootHeader(DataInput input) throws IOException {
+        if (input.readByte() != NbtDataUtil.TAG_COMPOUND) {
+            throw new IOException("Root tag must be a named compound tag");
+        }
+        input.readUTF();
+    }
+
+    /**
+     * Reads the entries of a compound payload into the given view.
+     *
+     * @param input The input to read from
+     * @param view The view to populate
+     * @param depth The current nesting depth
+     * @throws IOException If the data could not be read
+     */
+    public static void readCompound(DataInput input, DataView view, int depth) throws IOException {
+        if (depth > MAX_DEPTH) {
+            throw new IOException("Tried to read NBT tag with too high complexity, depth > " + MAX_DEPTH);
+        }
+        byte type;
+        while ((type = input.readByte()) != NbtDataUtil.TAG_END) {
+            final String key = input.readUTF();
+            if (type == NbtDataUtil.TAG_COMPOUND) {
+                // Populate the child view in place instead of building a container that would be copied in
+                readCompound(input, view.createView(of(key)), depth + 1);
+            } else if (type == NbtDataUtil.TAG_BYTE && key.contains(NbtTranslator.BOOLEAN_IDENTIFER)) {
+                view.set(of(key.replace(NbtTranslator.BOOLEAN_IDENTIFER, "")), input.readByte() != 0);
+            } else {
+                view.set(of(key), readValue(input, type, depth));
+            }
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object readValue(DataInput input, byte type, int depth) throws IOException {
+        switch (type) {
+            case NbtDataUtil.TAG_BYTE:
+                return input.readByte();
+            case NbtDataUtil.TAG_SHORT:
+                return input.readShort();
+            case NbtDataUtil.TAG_INT:
+                return input.readInt();
+            case NbtDataUtil.TAG_LONG:
+                return input.readLong();
+            case NbtDataUtil.TAG_FLOAT:
+                return input.readFloat();
+            case NbtDataUtil.TAG_DOUBLE:
+                return input.readDouble();
+            case NbtDataUtil.TAG_BYTE_ARRAY: {
+                final byte[] array = new byte[input.readInt()];
+                input.readFully(array);
+                return array;
+            }
+            case NbtDataUtil.TAG_STRING:
+                return input.readUTF();
+            case NbtDataUtil.TAG_LIST: {
+                if (depth > MAX_DEPTH) {
+                    throw new IOException("Tried to read NBT tag with too high complexity, depth > " + MAX_DEPTH);
+                }
+                final byte listType = input.readByte();
+                final int count = input.readInt();
+                if (listType == NbtDataUtil.TAG_END && count > 0) {
+                    throw new IOException("Missing type on ListTag");
+                }
+                final List list = Lists.newArrayListWithCapacity(count);
+                for (int i = 0; i < count; i++) {
+                    list.add(readValue(input, listType, depth + 1));
+                }
+                return list;
+            }
+            case NbtDataUtil.TAG_COMPOUND: {
+                final DataContainer container = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED);
+                readCompound(input, container, depth + 1);
+                return container;
+            }
+            case NbtDataUtil.TAG_INT_ARRAY: {
+                final int[] array = new int[input.readInt()];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = input.readInt();
+                }
+                return array;
+            }
+            default:
+                throw new IllegalArgumentException("Unknown NBT type " + type);
+        }
+    }
+
+    /**
+     * Skips over the payload of a tag of the given type without decoding it.
+     *
+     * @param input The input to read from
+     * @param type The type of the tag
+     * @throws IOException If the data could not be read
+     */
+    public static void skip(DataInput input, byte type) throws IOException {
+        switch (type) {
+            case NbtDataUtil.TAG_BYTE:
+                input.skipBytes(1);
+                break;
+            case NbtDataUtil.TAG_SHORT:
+                input.skipBytes(2);
+                break;
+            case NbtDataUtil.TAG_INT:
+            case NbtDataUtil.TAG_FLOAT:
+                input.skipBytes(4);
+                break;
+            case NbtDataUtil.TAG_LONG:
+            case NbtDataUtil.TAG_DOUBLE:
+                input.skipBytes(8);
+                break;
+            case NbtDataUtil.TAG_BYTE_ARRAY:
+                skipFully(input, input.readInt());
+                break;
+            case NbtDataUtil.TAG_STRING:
+                skipFully(input, input.readUnsignedShort());
+                break;
+            case NbtDataUtil.TAG_LIST: {
+                final byte listType = input.readByte();
+                final int count = input.readInt();
+                for (int i = 0; i < count; i++) {
+                    skip(input, listType);
+                }
+                break;
+            }
+            case NbtDataUtil.TAG_COMPOUND: {
+                byte entryType;
+                while ((entryType = input.readByte()) != NbtDataUtil.TAG_END) {
+                    skipFully(input, input.readUnsignedShort());
+                    skip(input, entryType);
+                }
+                break;
+            }
+            case NbtDataUtil.TAG_INT_ARRAY:
+                skipFully(input, input.readInt() * 4L);
+                break;
+            case TAG_LONG_ARRAY:
+                skipFully(input, input.readInt() * 8L);
+                break;
+            default:
+                throw new IOException("Unknown NBT type " + type);
+        }
+    }
+
+    private static void skipFully(DataInput input, long bytes) throws IOException {
+        while (bytes > 0) {
+            final int skipped = input.skipBytes((int) Math.min(bytes, Integer.MAX_VALUE));
+            if (skipped <= 0) {
+                // skipBytes may legitimately skip less, fall back to reading
+                input.readByte();
+                bytes--;
+            } else {
+                bytes -= skipped;
+            }
+        }
+    }
+
+    /**
+     * Writes the given view as an unnamed root compound to the output.
+     *
+     * @param output The output to write to
+     * @param view The view to write
+     * @throws IOException If the data could not be written
+     */
+    public static void write(DataOutput output, DataView view) throws IOException {
+        checkNotNull(output, "output");
+        checkNotNull(view, "view");
+        output.writeByte(NbtDataUtil.TAG_COMPOUND);
+        output.writeUTF("");
+        writeView(output, view);
+    }
+
+    private static void writeView(DataOutput output, DataView view) throws IOException {
+        // Nested views are found through the instance checks, so no deep values are needed
+        for (Map.Entry<DataQuery, Object> entry : view.getValues(false).entrySet()) {
+            final Object value = entry.getValue();
+            final String key = entry.getKey().asString('.');
+            if (value instanceof Boolean) {
+                output.writeByte(NbtDataUtil.TAG_BYTE);
+                output.writeUTF(key + NbtTranslator.BOOLEAN_IDENTIFER);
+                output.writeByte((Boolean) value ? 1 : 0);
+            } else {
+                output.writeByte(getType(value));
+                output.writeUTF(key);
+                writeValue(output, value);
+            }
+        }
+        output.writeByte(NbtDataUtil.TAG_END);
+    }
+
+    private static byte getType(Object value) {
+        checkNotNull(value);
+        if (value instanceof Boolean || value instanceof Byte) {
+            return NbtDataUtil.TAG_BYTE;
+        } else if (value instanceof Short) {
+            return NbtDataUtil.TAG_SHORT;
+        } else if (value instanceof Integer) {
+            return NbtDataUtil.TAG_INT;
+        } else if (value instanceof Long) {
+            return NbtDataUtil.TAG_LONG;
+        } else if (value instanceof Float) {
+            return NbtDataUtil.TAG_FLOAT;
+        } else if (value instanceof Double) {
+            return NbtDataUtil.TAG_DOUBLE;
+        } else if (value instanceof String) {
+            return NbtDataUtil.TAG_STRING;
+        } else if (value instanceof byte[] || value instanceof Byte[]) {
+            return NbtDataUtil.TAG_BYTE_ARRAY;
+        } else if (value instanceof int[] || value instanceof Integer[]) {
+            return NbtDataUtil.TAG_INT_ARRAY;
+        } else if (value instanceof List) {
+            return NbtDataUtil.TAG_LIST;
+        } else if (value instanceof Map || value instanceof DataSerializable || value instanceof DataView) {
+            return NbtDataUtil.TAG_COMPOUND;
+        }
+        throw new IllegalArgumentException("Unable to translate object to NBTBase: " + value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void writeValue(DataOutput output, Object value) throws IOException {
+        if (value instanceof Boolean) {
+            output.writeByte((Boolean) value ? 1 : 0);
+        } else if (value instanceof Byte) {
+            output.writeByte((Byte) value);
+        } else if (value instanceof Short) {
+            output.writeShort((Short) value);
+        } else if (value instanceof Integer) {
+            output.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            output.writeLong((Long) value);
+        } else if (value instanceof Float) {
+            output.writeFloat((Float) value);
+        } else if (value instanceof Double) {
+            output.writeDouble((Double) value);
+        } else if (value instanceof String) {
+            output.writeUTF((String) value);
+        } else if (value instanceof byte[]) {
+            final byte[] array = (byte[]) value;
+            output.writeInt(array.length);
+            output.write(array);
+        } else if (value instanceof Byte[]) {
+            final Byte[] array = (Byte[]) value;
+            output.writeInt(array.length);
+            for (Byte data : array) {
+                output.writeByte(data);
+            }
+        } else if (value instanceof int[]) {
+            final int[] array = (int[]) value;
+            output.writeInt(array.length);
+            for (int data : array) {
+                output.writeInt(data);
+            }
+        } else if (value instanceof Integer[]) {
+            final Integer[] array = (Integer[]) value;
+            output.writeInt(array.length);
+            for (Integer data : array) {
+                output.writeInt(data);
+            }
+        } else if (value instanceof List) {
+            writeList(output, (List<Object>) value);
+        } else if (value instanceof Map) {
+            for (Map.Entry<Object, Object> entry : ((Map<Object, Object>) value).entrySet()) {
+                final Object entryValue = entry.getValue();
+                final Object entryKey = entry.getKey();
+                if (entryKey instanceof DataQuery) {
+                    final String key = ((DataQuery) entryKey).asString('.');
+                    if (entryValue instanceof Boolean) {
+                        output.writeByte(NbtDataUtil.TAG_BYTE);
+                        output.writeUTF(key + NbtTranslator.BOOLEAN_IDENTIFER);
+                    } else {
+                        output.writeByte(getType(entryValue));
+                        output.writeUTF(key);
+                    }
+                } else {
+                    output.writeByte(getType(entryValue));
+                    output.writeUTF(entryKey instanceof String ? (String) entryKey : entryKey.toString());
+                }
+                writeValue(output, entryValue);
+            }
+            output.writeByte(NbtDataUtil.TAG_END);
+        } else if (value instanceof DataSerializable) {
+            writeView(output, ((DataSerializable) value).toContainer());
+        } else if (value instanceof DataView) {
+            writeView(output, (DataView) value);
+        } else {
+            throw new IllegalArgumentException("Unable to translate object to NBTBase: " + value);
+        }
+    }
+
+    private static void writeList(DataOutput output, List<Object> list) throws IOException {
+        // NBTTagList only accepts elements of the type of its first element and drops the rest
+        final byte listType = list.isEmpty() ? NbtDataUtil.TAG_END : getType(list.get(0));
+        int count = 0;
+        for (Object element : list) {
+            if (getType(element) == listType) {
+                count++;
+            }
+        }
+        output.writeByte(listType);
+        output.writeInt(count);
+        for (Object element : list) {
+            if (getType(element) == listType) {
+                writeValue(output, element);
+            }
+        }
+    }
+
+    private NbtStreams() {
+    }
+}
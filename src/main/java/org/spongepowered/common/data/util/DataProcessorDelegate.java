@@ -41,11 +41,15 @@
 import org.spongepowered.common.data.DataProcessor;
 import org.spongepowered.common.util.ServerUtils;
 
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class DataProcessorDelegate<M extends DataManipulator<M, I>, I extends ImmutableDataManipulator<I, M>> implements DataProcessor<M, I> {
 
     private final ImmutableList<Tuple<DataProcessor<M, I>, Timing>> processors;
+    // The processors that can support a holder class, the delegates are rebuilt on registry changes
+    private final Map<Class<?>, ImmutableList<Tuple<DataProcessor<M, I>, Timing>>> processorsByClass = new ConcurrentHashMap<>();
 
     public DataProcessorDelegate(ImmutableList<DataProcessor<M, I>> processors) {
         ImmutableList.Builder<Tuple<DataProcessor<M, I>, Timing>> builder = ImmutableList.builder();
@@ -55,6 +59,24 @@ public DataProcessorDelegate(ImmutableList<DataProcessor<M, I>> processors) {
         this.processors = builder.build();
     }
 
+    private ImmutableList<Tuple<DataProcessor<M, I>, Timing>> getProcessors(Class<?> holderClass) {
+        final ImmutableList<Tuple<DataProcessor<M, I>, Timing>> processors = this.processorsByClass.get(holderClass);
+        if (processors != null) {
+            return processors;
+        }
+        return this.processorsByClass.computeIfAbsent(holderClass, this::filterProcessors);
+    }
+
+    private ImmutableList<Tuple<DataProcessor<M, I>, Timing>> filterProcessors(Class<?> holderClass) {
+        final ImmutableList.Builder<Tuple<DataProcessor<M, I>, Timing>> builder = ImmutableList.builder();
+        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
+            if (tuple.getFirst().canSupport(holderClass)) {
+                builder.add(tuple);
+            }
+        }
+        return builder.build();
+    }
+
     @Override
     public int getPriority() {
         return Integer.MAX_VALUE;
@@ -64,7 +86,7 @@ public int getPriority() {
     public boolean supports(DataHolder dataHolder) {
         final boolean callingFromMinecraftThread = ServerUtils.isCallingFromMainThread();
 
-        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
+        for (Tuple<DataProcessor<M, I>, Timing> tuple : getProcessors(dataHolder.getClass())) {
             if (callingFromMinecraftThread) {
                 tuple.getSecond().startTiming();
             }
@@ -81,6 +103,11 @@ public boolean supports(DataHolder dataHolder) {
         return false;
     }
 
+    @Override
+    public boolean canSupport(Class<?> holderClass) {
+        return !getProcessors(holderClass).isEmpty();
+    }
+
     @Override
     public boolean supports(EntityType entityType) {
         return false;
@@ -90,7 +117,7 @@ public boolean supports(EntityType entityType) {
     public Optional<M> from(DataHolder dataHolder) {
         final boolean callingFromMinecraftThread = ServerUtils.isCallingFromMainThread();
 
-        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
+        for (Tuple<DataProcessor<M, I>, Timing> tuple : getProcessors(dataHolder.getClass())) {
             if (callingFromMinecraftThread) {
                 tuple.getSecond().startTiming();
             }
@@ -115,7 +142,7 @@ public Optional<M> from(DataHolder dataHolder) {
     public Optional<M> fill(DataHolder dataHolder, M manipulator, MergeFunction overlap) {
         final boolean callingFromMinecraftThread = ServerUtils.isCallingFromMainThread();
 
-        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
+        for (Tuple<DataProcessor<M, I>, Timing> tuple : getProcessors(dataHolder.getClass())) {
             if (callingFromMinecraftThread) {
                 tuple.getSecond().startTiming();
             }
@@ -159,7 +186,7 @@ public Optional<M> fill(DataContainer container, M m) {
     public DataTransactionResult set(DataHolder dataHolder, M manipulator, MergeFunction function) {
         final boolean callingFromMinecraftThread = ServerUtils.isCallingFromMainThread();
 
-        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
+        for (Tuple<DataProcessor<M, I>, Timing> tuple : getProcessors(dataHolder.getClass())) {
             if (callingFromMinecraftThread) {
                 tuple.getSecond().startTiming();
             }
@@ -203,7 +230,7 @@ public Optional<I> with(Key<? extends BaseValue<?>> key, Object value, I immutab
     public DataTransactionResult remove(DataHolder dataHolder) {
         final boolean callingFromMinecraftThread = ServerUtils.isCallingFromMainThread();
 
-        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
+        for (Tuple<DataProcessor<M, I>, Timing> tuple : getProcessors(dataHolder.getClass())) {
             if (callingFromMinecraftThread) {
                 tuple.getSecond().startTiming();
             }
@@ -228,7 +255,7 @@ public DataTransactionResult remove(DataHolder dataHolder) {
     public Optional<M> createFrom(DataHolder dataHolder) {
         final boolean callingFromMinecraftThread = ServerUtils.isCallingFromMainThread();
 
-        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
+        for (Tuple<DataProcessor<M, I>, Timing> tuple : getProcessors(dataHolder.getClass())) {
             if (callingFromMinecraftThread) {
                 tuple.getSecond().startTiming();
             }
@@ -32,7 +32,9 @@
 import org.spongepowered.api.data.value.mutable.Value;
 import org.spongepowered.common.data.ValueProcessor;
 
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This is really just a lazy class to handle processing on multiple
@@ -45,12 +47,32 @@
 
     private final Key<V> key;
     private final ImmutableList<ValueProcessor<E, V>> processors;
+    // The processors that can support a container class, the delegates are rebuilt on registry changes
+    private final Map<Class<?>, ImmutableList<ValueProcessor<E, V>>> processorsByClass = new ConcurrentHashMap<>();
 
     public ValueProcessorDelegate(Key<V> key, ImmutableList<ValueProcessor<E, V>> processors) {
         this.key = key;
         this.processors = processors;
     }
 
+    private ImmutableList<ValueProcessor<E, V>> getProcessors(Class<?> containerClass) {
+        final ImmutableList<ValueProcessor<E, V>> processors = this.processorsByClass.get(containerClass);
+        if (processors != null) {
+            return processors;
+        }
+        return this.processorsByClass.computeIfAbsent(containerClass, this::filterProcessors);
+    }
+
+    private ImmutableList<ValueProcessor<E, V>> filterProcessors(Class<?> containerClass) {
+        final ImmutableList.Builder<ValueProcessor<E, V>> builder = ImmutableList.builder();
+        for (ValueProcessor<E, V> processor : this.processors) {
+            if (processor.canSupport(containerClass)) {
+                builder.add(processor);
+            }
+        }
+        return builder.build();
+    }
+
     @Override
     public Key<? extends BaseValue<E>> getKey() {
         return this.key;
@@ -63,7 +85,7 @@ public int getPriority() {
 
     @Override
     public Optional<E> getValueFromContainer(ValueContainer<?> container) {
-        for (ValueProcessor<E, V> processor : this.processors) {
+        for (ValueProcessor<E, V> processor : getProcessors(container.getClass())) {
             if (processor.supports(container)) {
                 final Optional<E> optional = processor.getValueFromContainer(container);
                 if (optional.isPresent()) {
@@ -76,7 +98,7 @@ public Optional<E> getValueFromContainer(ValueContainer<?> container) {
 
     @Override
     public Optional<V> getApiValueFromContainer(ValueContainer<?> container) {
-        for (ValueProcessor<E, V> processor : this.processors) {
+        for (ValueProcessor<E, V> processor : getProcessors(container.getClass())) {
             if (processor.supports(container)) {
                 final Optional<V> optional = processor.getApiValueFromContainer(container);
                 if (optional.isPresent()) {
@@ -87,9 +109,14 @@ public Optional<V> getApiValueFromContainer(ValueContainer<?> container) {
         return Optional.empty();
     }
 
+    @Override
+    public boolean canSupport(Class<?> containerClass) {
+        return !getProcessors(containerClass).isEmpty();
+    }
+
     @Override
     public boolean supports(ValueContainer<?> container) {
-        for (ValueProcessor<E, V> processor : this.processors) {
+        for (ValueProcessor<E, V> processor : getProcessors(container.getClass())) {
             if (processor.supports(container)) {
                 return true;
             }
@@ -99,7 +126,7 @@ public boolean supports(ValueContainer<?> container) {
 
     @Override
     public DataTransactionResult offerToStore(ValueContainer<?> container, E value) {
-        for (ValueProcessor<E, V> processor : this.processors) {
+        for (ValueProcessor<E, V> processor : getProcessors(container.getClass())) {
             if (processor.supports(container)) {
                 final DataTransactionResult result = processor.offerToStore(container, value);
                 if (!result.getType().equals(DataTransactionResult.Type.FAILURE)) {
@@ -107,7 +134,7 @@ public DataTransactionResult offerToStore(ValueContainer<?> container, E value)
                 }
             }
         }
-        for (ValueProcessor<E, V> processor : this.processors) {
+        for (ValueProcessor<E, V> processor : getProcessors(container.getClass())) {
             if (processor.supports(container)) {
                 final Optional<V> optional = processor.getApiValueFromContainer(container);
                 if (optional.isPresent()) {
@@ -122,7 +149,7 @@ public DataTransactionResult offerToStore(ValueContainer<?> container, E value)
 
     @Override
     public DataTransactionResult removeFrom(ValueContainer<?> container) {
-        for (ValueProcessor<E, V> processor : this.processors) {
+        for (ValueProcessor<E, V> processor : getProcessors(container.getClass())) {
             if (processor.supports(container)) {
                 final DataTransactionResult result = processor.removeFrom(container);
                 if (!result.getType().equals(DataTransactionResult.Type.FAILURE)) {
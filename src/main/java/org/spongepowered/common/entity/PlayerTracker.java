@@ -31,9 +31,35 @@ public enum Type {
         NOTIFIER
     }
 
+    /**
+     * The packed form of a position that has neither an owner nor a notifier,
+     * used as the default value of the chunk tracking maps.
+     */
+    public static final long NONE = pack(-1, -1);
+
     public int ownerIndex;
     public int notifierIndex;
 
+    /**
+     * Packs the owner and notifier index of a tracked position into a single
+     * long, as stored in the chunk tracking maps.
+     *
+     * @param ownerIndex The owner index, or -1
+     * @param notifierIndex The notifier index, or -1
+     * @return The packed indices
+     */
+    public static long pack(int ownerIndex, int notifierIndex) {
+        return ((long) ownerIndex << 32) | (notifierIndex & 0xFFFFFFFFL);
+    }
+
+    public static int getOwnerIndex(long packed) {
+        return (int) (packed >> 32);
+    }
+
+    public static int getNotifierIndex(long packed) {
+        return (int) packed;
+    }
+
     public PlayerTracker() {
         this.ownerIndex = -1;
         this.notifierIndex = -1;
@@ -0,0 +1,232 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.api.event.impl.AbstractEvent;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.config.category.EventDispatchCategory;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nullable;
+
+/**
+ * Runs the observing listeners of the plugins that are configured as async
+ * safe on a separate thread pool. Every plugin has a bounded queue, the
+ * events of one plugin are handled in the order they were posted, in batches
+ * so that a busy plugin can't starve the others.
+ */
+final class AsyncListenerDispatcher {
+
+    private static final long OVERFLOW_WARNING_INTERVAL = TimeUnit.MINUTES.toNanos(1);
+
+    private final Logger logger;
+    private final Map<PluginContainer, PluginQueue> queues = new ConcurrentHashMap<>();
+
+    @Nullable private volatile Set<String> asyncPlugins;
+    @Nullable private ExecutorService executor;
+    private int queueCapacity;
+    private int batchSize;
+    private boolean dropOldest;
+
+    AsyncListenerDispatcher(Logger logger) {
+        this.logger = logger;
+    }
+
+    private Set<String> getAsyncPlugins() {
+        Set<String> asyncPlugins = this.asyncPlugins;
+        if (asyncPlugins == null) {
+            synchronized (this) {
+                asyncPlugins = this.asyncPlugins;
+                if (asyncPlugins == null) {
+                    final EventDispatchCategory config = SpongeImpl.getGlobalConfig().getConfig().getEventDispatch();
+                    this.queueCapacity = config.getAsyncQueueCapacity();
+                    this.batchSize = config.getAsyncBatchSize();
+                    this.dropOldest = config.isAsyncDropOldest();
+                    asyncPlugins = ImmutableSet.copyOf(config.getAsyncPlugins());
+                    if (!asyncPlugins.isEmpty()) {
+                        this.executor = Executors.newFixedThreadPool(config.getAsyncThreads(), new ThreadFactoryBuilder()
+                                .setNameFormat("Sponge - Async Event Dispatcher #%d")
+                                .setDaemon(true)
+                                .build());
+                    }
+                    this.asyncPlugins = asyncPlugins;
+                }
+            }
+        }
+        return asyncPlugins;
+    }
+
+    /**
+     * Gets whether the given listener may be handled asynchronously. Only
+     * listeners with the order {@code POST} observe the final state of an
+     * event, so they are the only ones that can be moved off the posting
+     * thread without changing the outcome of the event.
+     *
+     * @param plugin The plugin of the listener
+     * @param order The order of the listener
+     * @param beforeModifications Whether the listener runs before modifications
+     * @return Whether the listener can be dispatched asynchronously
+     */
+    boolean isAsync(PluginContainer plugin, Order order, boolean beforeModifications) {
+        return order == Order.POST && !beforeModifications && getAsyncPlugins().contains(plugin.getId());
+    }
+
+    /**
+     * Queues the event for the given listener. If the queue of the plugin is
+     * full either the new or the oldest pending event is dropped, depending
+     * on the config, so a slow plugin never holds up the posting thread. The
+     * listener is never handled on the current thread, so the events of a
+     * plugin stay in order.
+     *
+     * @param listener The listener
+     * @param event The event
+     */
+    void dispatch(RegisteredListener<?> listener, Event event) {
+        final PluginQueue queue = this.queues.computeIfAbsent(listener.getPlugin(), PluginQueue::new);
+        if (!queue.offer(listener, event)) {
+            queue.onOverflow();
+            if (this.dropOldest) {
+                queue.replaceOldest(listener, event);
+            }
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void handle(RegisteredListener listener, Event event) {
+        try {
+            if (event instanceof AbstractEvent) {
+                // Only POST listeners are dispatched here, this is never reset because the
+                // posting thread may still be handling its own POST listeners at this point
+                ((AbstractEvent) event).currentOrder = listener.getOrder();
+            }
+            listener.handle(event);
+        } catch (Throwable e) {
+            this.logger.error("Could not pass {} to {}", event.getClass().getSimpleName(), listener.getPlugin(), e);
+        }
+    }
+
+    private static final class PendingEvent {
+
+        final RegisteredListener<?> listener;
+        final Event event;
+
+        PendingEvent(RegisteredListener<?> listener, Event event) {
+            this.listener = listener;
+            this.event = event;
+        }
+    }
+
+    private final class PluginQueue {
+
+        private final PluginContainer plugin;
+        private final ArrayBlockingQueue<PendingEvent> pending;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private final AtomicLong dispatched = new AtomicLong();
+        private final AtomicLong overflowed = new AtomicLong();
+        private volatile int peakDepth;
+        private volatile long lastWarning;
+
+        PluginQueue(PluginContainer plugin) {
+            this.plugin = plugin;
+            this.pending = new ArrayBlockingQueue<>(AsyncListenerDispatcher.this.queueCapacity);
+        }
+
+        boolean offer(RegisteredListener<?> listener, Event event) {
+            if (!this.pending.offer(new PendingEvent(listener, event))) {
+                return false;
+            }
+            onQueued();
+            return true;
+        }
+
+        void replaceOldest(RegisteredListener<?> listener, Event event) {
+            final PendingEvent pending = new PendingEvent(listener, event);
+            // The workers only ever take from the queue, so after a poll the offer
+            // only fails if another thread dispatched in between, don't spin on that
+            for (int i = 0; i < 4; i++) {
+                this.pending.poll();
+                if (this.pending.offer(pending)) {
+                    onQueued();
+                    return;
+                }
+            }
+        }
+
+        private void onQueued() {
+            this.dispatched.incrementAndGet();
+            final int depth = this.pending.size();
+            if (depth > this.peakDepth) {
+                this.peakDepth = depth;
+            }
+            schedule();
+        }
+
+        void onOverflow() {
+            final long overflowed = this.overflowed.incrementAndGet();
+            final long now = System.nanoTime();
+            if (overflowed == 1 || now - this.lastWarning > OVERFLOW_WARNING_INTERVAL) {
+                this.lastWarning = now;
+                AsyncListenerDispatcher.this.logger.warn("The async listener queue of {} is full, {} of {} events were dropped "
+                        + "so far (peak queue depth {}).", this.plugin.getId(), overflowed,
+                        this.dispatched.get() + 1, this.peakDepth);
+            }
+        }
+
+        private void schedule() {
+            if (this.scheduled.compareAndSet(false, true)) {
+                AsyncListenerDispatcher.this.executor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            final int batchSize = AsyncListenerDispatcher.this.batchSize;
+            PendingEvent pending;
+            for (int i = 0; i < batchSize && (pending = this.pending.poll()) != null; i++) {
+                handle(pending.listener, pending.event);
+            }
+            this.scheduled.set(false);
+            // Requeue instead of looping so other plugins get a turn
+            if (!this.pending.isEmpty()) {
+                schedule();
+            }
+        }
+    }
+}
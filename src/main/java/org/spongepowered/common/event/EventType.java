@@ -74,7 +74,7 @@ public boolean equals(@Nullable Object o) {
     @Override
     public int hashCode() {
         if (this.hashCode == 0) {
-            this.hashCode = Objects.hash(this.eventType, this.genericType);
+            this.hashCode = 31 * this.eventType.hashCode() + Objects.hashCode(this.genericType);
         }
         return this.hashCode;
     }
@@ -25,46 +25,45 @@
 package org.spongepowered.common.event;
 
 import com.google.common.base.CaseFormat;
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
+import com.google.common.collect.HashMultiset;
+import com.google.common.collect.Multiset;
 import com.google.common.reflect.TypeToken;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.SpongeEventFactory;
+import org.spongepowered.common.SpongeImpl;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
-import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
-import java.util.function.Predicate;
 
+/**
+ * Keeps the flags of a class like {@link ShouldFire} in sync with the
+ * registered listeners.
+ *
+ * <p>Every public static boolean field of the flag class is mapped to the
+ * event type with the same name, resolved from the event class hierarchy
+ * exposed by {@link SpongeEventFactory}. For example, the field
+ * {@code SPAWN_ENTITY_EVENT_CUSTOM} is mapped to {@code SpawnEntityEvent.Custom}.
+ * A flag is set to 'true' as long as there is at least one listener that could
+ * receive an event of its type, that is a listener for the type itself, one
+ * of its supertypes or one of its subtypes.</p>
+ */
 public class ListenerChecker {
 
     private static final boolean ALL_TRUE = Boolean.parseBoolean(System.getProperty("sponge.shouldFireAll", "").toLowerCase());
     private static final boolean DEBUG = Boolean.parseBoolean(System.getProperty("sponge.debugShouldFire", "").toLowerCase());
 
     private final Class<?> clazz;
-    private Map<String, Field> fields = new HashMap<>();
-
-    private LoadingCache<Class<?>, Optional<Field>> fieldCache = CacheBuilder.newBuilder().build(new CacheLoader<Class<?>, Optional<Field>>() {
-
-        @Override
-        public Optional<Field> load(Class<?> key) throws Exception {
-            return Optional.ofNullable(ListenerChecker.this.fields.get(getName(key)));
-        }
-    });
+    // The flag fields, keyed by the event type they represent
+    private final Map<Class<?>, Field> fields = new HashMap<>();
+    // The event types that listeners are registered for, counted per listener
+    private final Multiset<Class<?>> listenerTypes = HashMultiset.create();
 
-    private LoadingCache<Class<?>, Set<Class<?>>> subtypeMappings = CacheBuilder.newBuilder().build(new CacheLoader<Class<?>, Set<Class<?>>>() {
-
-        @Override
-        public Set<Class<?>> load(Class<?> key) throws Exception {
-            return new HashSet<>();
-        }
-    });
-
-    private static String getName(Class<?> clazz) {
+    static String getName(Class<?> clazz) {
         // Properly account for inner classes. Class#getName uses a $
         // to separate inner classes, so the last '.' is the end of the package name
         //
@@ -72,85 +71,120 @@ private static String getName(Class<?> clazz) {
         return CaseFormat.UPPER_CAMEL.to(CaseFormat.UPPER_UNDERSCORE, name);
     }
 
-    public <T> void registerListenerFor(Class<T> eventClass) {
-        Set<Class<? super T>> types = TypeToken.of(eventClass).getTypes().rawTypes();
-        for (Class<?> type: types) {
-            this.subtypeMappings.getUnchecked(type).add(eventClass);
+    private static String joinAcronyms(String name) {
+        final StringBuilder builder = new StringBuilder(name.length());
+        boolean previousLetter = false;
+        for (String part : name.split("_")) {
+            final boolean letter = part.length() == 1;
+            if (builder.length() > 0 && !(letter && previousLetter)) {
+                builder.append('_');
+            }
+            builder.append(part);
+            previousLetter = letter;
         }
-
-        // Walk up the tree. The event class and all its supertypes have their
-        // flags set to 'true', because there is a possibility of them being fired.
-
-        // For example, if a listener is registered for SpawnEntityEvent.Custom,
-        // then SpawnEntityEvent.Custom, SpawnEntityEvent, and Event (plus others)
-        // will have their flags set to 'true'. When the implementation checks
-        // ShouldFire.SPAWN_ENTITY_EVENT, it will be 'true', because there is a possibility
-        // than something that matches the type 'SpawnEntityEvent' will have a listener.
-        // The actual type might be SpawnEntityEvent.ChunkLoad, which might have no listeners.
-        // However, the base flags takes into account that some of the subevent *do* have listeners.
-
-        // We don't need to walk down the tree, because a more-specific flag can never be turned
-        // from false to true by a less-specific event (and therefore flag) being registered.
-        this.updateFields(types, c -> true);
+        return builder.toString();
     }
 
-    public <T> void unregisterListenerFor(Class<T> eventClass) {
-        Set<Class<? super T>> types = TypeToken.of(eventClass).getTypes().rawTypes();
-        for (Class<?> type: types) {
-            this.subtypeMappings.getUnchecked(type).remove(eventClass);
+    /**
+     * Collects all the event types which can be created through the
+     * {@link SpongeEventFactory}, including all their supertypes, keyed
+     * by their flag name.
+     *
+     * @return The event types by name
+     */
+    static Map<String, Class<?>> getEventTypesByName() {
+        final Map<String, Class<?>> types = new HashMap<>();
+        for (Method method : SpongeEventFactory.class.getMethods()) {
+            if (Modifier.isStatic(method.getModifiers()) && Event.class.isAssignableFrom(method.getReturnType())) {
+                for (Class<?> type : TypeToken.of(method.getReturnType()).getTypes().rawTypes()) {
+                    if (Event.class.isAssignableFrom(type)) {
+                        final String name = getName(type);
+                        types.put(name, type);
+                        // Acronyms like the AI in AITaskEvent are split into single letters,
+                        // so also accept the name with those joined, AI_TASK_EVENT
+                        types.putIfAbsent(joinAcronyms(name), type);
+                    }
+                }
+            }
         }
+        return types;
+    }
 
-        // As in 'registerListenerFor', we only set flags when walking up the tree - that is,
-        // only the flags for the event class and its superinterfaces can be flipped (from 'true'
-        // to 'false' in this case). However, we need to look *down* the tree to see if we can
-        // flip the flag. If a given class has any listeners registered for its subtypes (recorded
-        // earlier in 'registerListenerFor'), we can't set the flag to false, because there's still
-        // the possibility that an event which matches that type will have a listener (if it's the correct
-        // subtype, which the less-specific flag cannot make assumptions about).
-
-        // If the set is empty for a class (there are no direct listeners or subclass listeners)
-        // we set it to false (opposite of isEmpty/true)
-        this.updateFields(types, c -> !this.subtypeMappings.getUnchecked(c).isEmpty());
+    private static boolean isRelated(Class<?> first, Class<?> second) {
+        return first.isAssignableFrom(second) || second.isAssignableFrom(first);
     }
 
     public ListenerChecker(Class<?> clazz) {
         this.clazz = clazz;
+        final Map<String, Class<?>> eventTypes = getEventTypesByName();
         for (Field field: this.clazz.getDeclaredFields()) {
             if (Modifier.isStatic(field.getModifiers()) && Modifier.isPublic(field.getModifiers())) {
-                this.fields.put(field.getName(), field);
-                if (ALL_TRUE) {
-                    if (DEBUG) {
+                final Class<?> eventType = eventTypes.get(field.getName());
+                if (ALL_TRUE || eventType == null) {
+                    if (eventType == null) {
+                        // A flag that can't be mapped would never be updated, so
+                        // it's safer to always fire the event.
+                        SpongeImpl.getLogger().warn("Could not find the event type for {}.{}, forcing it to true!",
+                                this.clazz.getSimpleName(), field.getName());
+                    } else if (DEBUG) {
                         System.err.println(String.format("Forcing field %s to true!", field.getName()));
                     }
-                    try {
-                        field.set(null, true);
-                    } catch (IllegalAccessException e) {
-                        e.printStackTrace();
-                    }
+                    this.setField(field, true);
+                } else {
+                    this.fields.put(eventType, field);
                 }
             }
         }
     }
 
-    public <T> void updateFields(Collection<Class<? super T>> classes, Predicate<Class<?>> enable) {
-        if (ALL_TRUE) {
+    public <T> void registerListenerFor(Class<T> eventClass) {
+        // Only the first listener of a type can change flags. Every flag of a
+        // type which is related to the event class is set to 'true'.
+
+        // For example, if a listener is registered for SpawnEntityEvent, then
+        // SpawnEntityEvent and all its subevents like SpawnEntityEvent.Custom
+        // will be set to 'true' because such events will be received by the
+        // listener. Supertypes like Event (plus others) will be set to 'true'
+        // too, because an event that matches the type 'Event' may be a
+        // SpawnEntityEvent.
+        if (this.listenerTypes.add(eventClass, 1) > 0 || ALL_TRUE) {
             return;
         }
+        for (Map.Entry<Class<?>, Field> entry : this.fields.entrySet()) {
+            if (isRelated(entry.getKey(), eventClass)) {
+                this.updateField(entry.getKey(), entry.getValue(), true);
+            }
+        }
+    }
 
-        for (Class<?> clazz: classes) {
-            this.fieldCache.getUnchecked(clazz).ifPresent(f -> {
-                boolean isEnabled = enable.test(clazz);
+    public <T> void unregisterListenerFor(Class<T> eventClass) {
+        // Only the removal of the last listener of a type can change flags. The
+        // flags of the types related to the event class are recomputed against
+        // the event types that still have listeners.
+        if (this.listenerTypes.remove(eventClass, 1) != 1 || ALL_TRUE) {
+            return;
+        }
+        final Set<Class<?>> remaining = new HashSet<>(this.listenerTypes.elementSet());
+        for (Map.Entry<Class<?>, Field> entry : this.fields.entrySet()) {
+            final Class<?> type = entry.getKey();
+            if (isRelated(type, eventClass)) {
+                this.updateField(type, entry.getValue(), remaining.stream().anyMatch(listenerType -> isRelated(type, listenerType)));
+            }
+        }
+    }
 
-                if (DEBUG) {
-                    System.err.println(String.format("Updating field for class %s with value %s", clazz.getName(), isEnabled));
-                }
+    private void updateField(Class<?> type, Field field, boolean enabled) {
+        if (DEBUG) {
+            System.err.println(String.format("Updating field for class %s with value %s", type.getName(), enabled));
+        }
+        this.setField(field, enabled);
+    }
 
-                try {
-                    f.set(null, isEnabled);
-                } catch (IllegalAccessException e) {
-                    e.printStackTrace();
-                }
-            });
+    private void setField(Field field, boolean enabled) {
+        try {
+            field.set(null, enabled);
+        } catch (IllegalAccessException e) {
+            e.printStackTrace();
         }
     }
 
@@ -48,14 +48,21 @@
     private final EventListener<? super T> listener;
 
     private final boolean beforeModifications;
+    private final boolean async;
     private Timing listenerTimer;
 
     RegisteredListener(PluginContainer plugin, EventType<T> eventType, Order order, EventListener<? super T> listener, boolean beforeModifications) {
+        this(plugin, eventType, order, listener, beforeModifications, false);
+    }
+
+    RegisteredListener(PluginContainer plugin, EventType<T> eventType, Order order, EventListener<? super T> listener, boolean beforeModifications,
+            boolean async) {
         this.plugin = checkNotNull(plugin, "plugin");
         this.eventType = checkNotNull(eventType, "eventType");
         this.order = checkNotNull(order, "order");
         this.listener = checkNotNull(listener, "listener");
         this.beforeModifications = beforeModifications;
+        this.async = async;
     }
 
     public PluginContainer getPlugin() {
@@ -74,6 +81,16 @@ public boolean isBeforeModifications() {
         return this.beforeModifications;
     }
 
+    /**
+     * Gets whether this listener is handled asynchronously when the event is
+     * posted on the main thread.
+     *
+     * @return Whether this listener is async
+     */
+    public boolean isAsync() {
+        return this.async;
+    }
+
     public Timing getTimingsHandler() {
         if (this.listenerTimer == null) {
             this.listenerTimer = SpongeTimings.getPluginTimings(this.plugin, getHandle().getClass().getSimpleName());
@@ -30,43 +30,78 @@ public class ShouldFire {
     // For example: SpawnEntityEvent.Spawner becomes SPAWN_ENTITY_EVENT_SPAWNER
     // DropItemEvent becomes DROP_ITEM_EVENT
 
-    // Each boolean includes all subevents
-    // For example, if no listeners are registed for SpawnEntityEvent,
-    // but one is registered for SpawnEntityEvent.SPAWNER, both
-    // SPAWN_ENTITY_EVENT and SPAWN_ENTITY_EVENT_SPAWNER will be true
-    // However, SPAWN_ENTITY_EVENT_CHUNKLOAD will be false
+    // The fields are mapped to their event class by the ListenerChecker, which
+    // updates them whenever listeners are registered or unregistered. A field
+    // is true if any listener may receive an event of its type: a listener
+    // for the event itself, one of its subevents or one of its supertypes.
+    // For example, if a listener is registered for SpawnEntityEvent.Spawner,
+    // both SPAWN_ENTITY_EVENT and SPAWN_ENTITY_EVENT_SPAWNER will be true,
+    // while SPAWN_ENTITY_EVENT_CHUNKLOAD will be false. A listener for
+    // SpawnEntityEvent would set all of them to true.
 
-    public static boolean AI_TASK_EVENT_ADD = false;
-    public static boolean AI_TASK_EVENT_REMOVE = false;
+    // Adding a field for a new event is enough to have it updated, fields
+    // that don't match an event are always true.
 
-    public static boolean SPAWN_ENTITY_EVENT = false;
-    public static boolean SPAWN_ENTITY_EVENT_CHUNKLOAD = false;
-    public static boolean SPAWN_ENTITY_EVENT_SPAWNER = false;
-    public static boolean SPAWN_ENTITY_EVENT_CUSTOM = false;
+    public static volatile boolean AI_TASK_EVENT_ADD = false;
+    public static volatile boolean AI_TASK_EVENT_REMOVE = false;
 
-    public static boolean CHANGE_BLOCK_EVENT = false;
-    public static boolean CHANGE_BLOCK_EVENT_BREAK = false;
-    public static boolean CHANGE_BLOCK_EVENT_PLACE = false;
-    public static boolean CHANGE_BLOCK_EVENT_POST = false;
+    public static volatile boolean SPAWN_ENTITY_EVENT = false;
+    public static volatile boolean SPAWN_ENTITY_EVENT_CHUNKLOAD = false;
+    public static volatile boolean SPAWN_ENTITY_EVENT_SPAWNER = false;
+    public static volatile boolean SPAWN_ENTITY_EVENT_CUSTOM = false;
 
-    public static boolean DROP_ITEM_EVENT = false;
-    public static boolean DROP_ITEM_EVENT_DESTRUCT = false;
-    public static boolean DROP_ITEM_EVENT_DISPENSE = false;
+    public static volatile boolean CHANGE_BLOCK_EVENT = false;
+    public static volatile boolean CHANGE_BLOCK_EVENT_PRE = false;
+    public static volatile boolean CHANGE_BLOCK_EVENT_BREAK = false;
+    public static volatile boolean CHANGE_BLOCK_EVENT_MODIFY = false;
+    public static volatile boolean CHANGE_BLOCK_EVENT_PLACE = false;
+    public static volatile boolean CHANGE_BLOCK_EVENT_POST = false;
 
-    public static boolean RIDE_ENTITY_EVENT = false;
-    public static boolean RIDE_ENTITY_EVENT_MOUNT = false;
-    public static boolean RIDE_ENTITY_EVENT_DISMOUNT = false;
+    public static volatile boolean NOTIFY_NEIGHBOR_BLOCK_EVENT = false;
 
-    public static boolean PRIME_EXPLOSIVE_EVENT_PRE = false;
-    public static boolean PRIME_EXPLOSIVE_EVENT_POST = false;
+    public static volatile boolean COLLIDE_BLOCK_EVENT = false;
+    public static volatile boolean COLLIDE_BLOCK_EVENT_IMPACT = false;
+    public static volatile boolean COLLIDE_ENTITY_EVENT = false;
+    public static volatile boolean COLLIDE_ENTITY_EVENT_IMPACT = false;
 
-    public static boolean DEFUSE_EXPLOSIVE_EVENT_PRE = false;
-    public static boolean DEFUSE_EXPLOSIVE_EVENT_POST = false;
+    public static volatile boolean DROP_ITEM_EVENT = false;
+    public static volatile boolean DROP_ITEM_EVENT_DESTRUCT = false;
+    public static volatile boolean DROP_ITEM_EVENT_DISPENSE = false;
 
-    public static boolean SET_A_I_TARGET_EVENT = false;
+    public static volatile boolean RIDE_ENTITY_EVENT = false;
+    public static volatile boolean RIDE_ENTITY_EVENT_MOUNT = false;
+    public static volatile boolean RIDE_ENTITY_EVENT_DISMOUNT = false;
 
-    public static boolean CHANGE_INVENTORY_EVENT_TRANSFER_PRE = false;
-    public static boolean CHANGE_INVENTORY_EVENT_TRANSFER_POST = false;
+    public static volatile boolean PRIME_EXPLOSIVE_EVENT_PRE = false;
+    public static volatile boolean PRIME_EXPLOSIVE_EVENT_POST = false;
 
-    public static boolean TICK_BLOCK_EVENT = false;
+    public static volatile boolean DEFUSE_EXPLOSIVE_EVENT_PRE = false;
+    public static volatile boolean DEFUSE_EXPLOSIVE_EVENT_POST = false;
+
+    public static volatile boolean SET_A_I_TARGET_EVENT = false;
+
+    public static volatile boolean CHANGE_INVENTORY_EVENT_PICKUP = false;
+    public static volatile boolean CHANGE_INVENTORY_EVENT_PICKUP_PRE = false;
+    public static volatile boolean CHANGE_INVENTORY_EVENT_TRANSFER_PRE = false;
+    public static volatile boolean CHANGE_INVENTORY_EVENT_TRANSFER_POST = false;
+
+    public static volatile boolean CLICK_INVENTORY_EVENT_CREATIVE = false;
+    public static volatile boolean INTERACT_INVENTORY_EVENT_OPEN = false;
+    public static volatile boolean INTERACT_INVENTORY_EVENT_CLOSE = false;
+
+    public static volatile boolean CRAFT_ITEM_EVENT_PREVIEW = false;
+    public static volatile boolean CRAFT_ITEM_EVENT_CRAFT = false;
+
+    public static volatile boolean INTERACT_BLOCK_EVENT_PRIMARY = false;
+    public static volatile boolean INTERACT_BLOCK_EVENT_SECONDARY = false;
+    public static volatile boolean INTERACT_ENTITY_EVENT_PRIMARY = false;
+    public static volatile boolean INTERACT_ENTITY_EVENT_SECONDARY = false;
+    public static volatile boolean INTERACT_ITEM_EVENT_PRIMARY = false;
+    public static volatile boolean INTERACT_ITEM_EVENT_SECONDARY = false;
+
+    public static volatile boolean DESTRUCT_ENTITY_EVENT_DEATH = false;
+
+    public static volatile boolean TICK_BLOCK_EVENT = false;
+
+    public static volatile boolean MOVE_ENTITY_EVENT = false;
 }
@@ -165,6 +165,9 @@ public class SpongeCommonEventFactory {
     public static WeakReference<EntityPlayerMP> lastAnimationPlayer;
 
     public static boolean callPlayerChangeInventoryPickupPreEvent(EntityPlayer player, EntityItem itemToPickup, int pickupDelay, UUID creator) {
+        if (!ShouldFire.CHANGE_INVENTORY_EVENT_PICKUP_PRE) {
+            return true;
+        }
         ItemStack stack = itemToPickup.getItem();
         Sponge.getCauseStackManager().pushCause(player);
         ItemStackSnapshot snapshot = ItemStackUtil.snapshotOf(stack);
@@ -213,6 +216,11 @@ public static boolean callPlayerChangeInventoryPickupEvent(EntityPlayer player,
         if (inventory.getCapturedTransactions().isEmpty()) {
             return true;
         }
+        if (!ShouldFire.CHANGE_INVENTORY_EVENT_PICKUP) {
+            // The transactions are already applied to the inventory
+            inventory.getCapturedTransactions().clear();
+            return true;
+        }
         Sponge.getCauseStackManager().pushCause(player);
         ChangeInventoryEvent.Pickup event = SpongeEventFactory.createChangeInventoryEventPickup(Sponge.getCauseStackManager().getCurrentCause(), (Inventory) player.inventoryContainer,
                 inventory.getCapturedTransactions());
@@ -243,6 +251,9 @@ private static void applyTransactions(ChangeInventoryEvent.Pickup event) {
     @Nullable
     public static CollideEntityEvent callCollideEntityEvent(net.minecraft.world.World world, @Nullable net.minecraft.entity.Entity sourceEntity,
             List<net.minecraft.entity.Entity> entities) {
+        if (!ShouldFire.COLLIDE_ENTITY_EVENT) {
+            return null;
+        }
 
         PhaseTracker phaseTracker = PhaseTracker.getInstance();
         try (CauseStackManager.StackFrame frame = Sponge.getCauseStackManager().pushCauseFrame()) {
@@ -307,13 +318,13 @@ private static ChangeBlockEvent.Pre callChangeBlockEventPre(IMixinWorldServer wo
         final PhaseData data = phaseTracker.getCurrentPhaseData();
         if (source == null) {
             source = data.context.getSource(LocatableBlock.class).orElse(null);
-            if (source == null) {
-                // safety measure, return a dummy event
-                if (DUMMY_BLOCK_PRE_EVENT == null) {
-                    DUMMY_BLOCK_PRE_EVENT = SpongeEventFactory.createChangeBlockEventPre(Sponge.getCauseStackManager().getCurrentCause(), ImmutableList.of());
-                }
-                return DUMMY_BLOCK_PRE_EVENT;
+        }
+        // Without listeners, or as a safety measure without a source, return a dummy event
+        if (source == null || !ShouldFire.CHANGE_BLOCK_EVENT_PRE) {
+            if (DUMMY_BLOCK_PRE_EVENT == null) {
+                DUMMY_BLOCK_PRE_EVENT = SpongeEventFactory.createChangeBlockEventPre(Sponge.getCauseStackManager().getCurrentCause(), ImmutableList.of());
             }
+            return DUMMY_BLOCK_PRE_EVENT;
         }
 
         EntityPlayer player = null;
@@ -344,7 +355,11 @@ private static ChangeBlockEvent.Pre callChangeBlockEventPre(IMixinWorldServer wo
         return event;
     }
 
+    @Nullable
     public static ChangeBlockEvent.Modify callChangeBlockEventModifyLiquidMix(net.minecraft.world.World worldIn, BlockPos pos, IBlockState state, @Nullable Object source) {
+        if (!ShouldFire.CHANGE_BLOCK_EVENT_MODIFY) {
+            return null;
+        }
         final PhaseTracker phaseTracker = PhaseTracker.getInstance();
         final PhaseData data = phaseTracker.getCurrentPhaseData();
 
@@ -374,13 +389,16 @@ public static ChangeBlockEvent.Modify callChangeBlockEventModifyLiquidMix(net.mi
                                                                        BlockSnapshot.builder().blockState(toState).world(world).position(position).build());
             ChangeBlockEvent.Modify event = SpongeEventFactory.createChangeBlockEventModify(Sponge.getCauseStackManager().getCurrentCause(),
                     Collections.singletonList(transaction));
-
             SpongeImpl.postEvent(event);
             return event;
         }
     }
 
+    @Nullable
     public static ChangeBlockEvent.Break callChangeBlockEventModifyLiquidBreak(net.minecraft.world.World worldIn, BlockPos pos, IBlockState state, int flags) {
+        if (!ShouldFire.CHANGE_BLOCK_EVENT_BREAK) {
+            return null;
+        }
         final PhaseTracker phaseTracker = PhaseTracker.getInstance();
         final PhaseData data = phaseTracker.getCurrentPhaseData();
 
@@ -408,7 +426,6 @@ public static ChangeBlockEvent.Break callChangeBlockEventModifyLiquidBreak(net.m
                     BlockSnapshot.builder().blockState(toState).world(world).position(position).build());
             ChangeBlockEvent.Break event = SpongeEventFactory.createChangeBlockEventBreak(Sponge.getCauseStackManager().getCurrentCause(),
                     Collections.singletonList(transaction));
-
             SpongeImpl.postEvent(event);
             return event;
         }
@@ -423,6 +440,9 @@ public static ChangeBlockEvent.Break callChangeBlockEventModifyLiquidBreak(net.m
      */
     public static boolean handlePistonEvent(IMixinWorldServer world, WorldServer.ServerBlockEventList list, Object obj, BlockPos pos, Block blockIn,
             int eventId, int eventParam) {
+        if (!ShouldFire.CHANGE_BLOCK_EVENT_PRE) {
+            return false;
+        }
         boolean extending = (eventId == 0);
         final IBlockState blockstate = ((net.minecraft.world.World) world).getBlockState(pos);
         EnumFacing direction = blockstate.getValue(BlockDirectional.FACING);
@@ -471,6 +491,9 @@ public static boolean handlePistonEvent(IMixinWorldServer world, WorldServer.Ser
 
     @SuppressWarnings("rawtypes")
     public static NotifyNeighborBlockEvent callNotifyNeighborEvent(World world, BlockPos sourcePos, EnumSet notifiedSides) {
+        if (!ShouldFire.NOTIFY_NEIGHBOR_BLOCK_EVENT) {
+            return null;
+        }
         final PhaseTracker phaseTracker = PhaseTracker.getInstance();
         final PhaseData peek = phaseTracker.getCurrentPhaseData();
         final PhaseContext<?> context = peek.context;
@@ -516,9 +539,12 @@ public static NotifyNeighborBlockEvent callNotifyNeighborEvent(World world, Bloc
         }
     }
 
-    public static InteractEntityEvent.Primary callInteractEntityEventPrimary(EntityPlayerMP player, net.minecraft.entity.Entity entity, EnumHand
+    public static boolean callInteractEntityEventPrimary(EntityPlayerMP player, net.minecraft.entity.Entity entity, EnumHand
             hand, @Nullable Vector3d hitVec) {
         Sponge.getCauseStackManager().pushCause(player);
+        if (!ShouldFire.INTERACT_ENTITY_EVENT_PRIMARY) {
+            return false;
+        }
         InteractEntityEvent.Primary event;
         if (hand == EnumHand.MAIN_HAND) {
             event = SpongeEventFactory.createInteractEntityEventPrimaryMainHand(
@@ -527,12 +553,14 @@ public static InteractEntityEvent.Primary callInteractEntityEventPrimary(EntityP
             event = SpongeEventFactory.createInteractEntityEventPrimaryOffHand(
                     Sponge.getCauseStackManager().getCurrentCause(), HandTypes.OFF_HAND, Optional.ofNullable(hitVec), EntityUtil.fromNative(entity));
         }
-        SpongeImpl.postEvent(event);
-        return event;
+        return SpongeImpl.postEvent(event);
     }
 
-    public static InteractEntityEvent.Secondary callInteractEntityEventSecondary(EntityPlayerMP player, net.minecraft.entity.Entity entity,
+    public static boolean callInteractEntityEventSecondary(EntityPlayerMP player, net.minecraft.entity.Entity entity,
             EnumHand hand, @Nullable Vector3d hitVec) {
+        if (!ShouldFire.INTERACT_ENTITY_EVENT_SECONDARY) {
+            return false;
+        }
         InteractEntityEvent.Secondary event;
         if (hand == EnumHand.MAIN_HAND) {
             event = SpongeEventFactory.createInteractEntityEventSecondaryMainHand(
@@ -541,12 +569,14 @@ public static InteractEntityEvent.Secondary callInteractEntityEventSecondary(Ent
             event = SpongeEventFactory.createInteractEntityEventSecondaryOffHand(
                     Sponge.getCauseStackManager().getCurrentCause(), HandTypes.OFF_HAND, Optional.ofNullable(hitVec), EntityUtil.fromNative(entity));
         }
-        SpongeImpl.postEvent(event);
-        return event;
+        return SpongeImpl.postEvent(event);
     }
 
-    public static InteractItemEvent callInteractItemEventPrimary(EntityPlayer player, ItemStack stack, EnumHand hand,
+    public static boolean callInteractItemEventPrimary(EntityPlayer player, ItemStack stack, EnumHand hand,
         @Nullable Vector3d hitVec, Object hitTarget) {
+        if (!ShouldFire.INTERACT_ITEM_EVENT_PRIMARY) {
+            return false;
+        }
         try (CauseStackManager.StackFrame frame = Sponge.getCauseStackManager().pushCauseFrame()) {
             if (hitTarget instanceof Entity) {
                 Sponge.getCauseStackManager().addContext(EventContextKeys.ENTITY_HIT, ((Entity) hitTarget));
@@ -561,13 +591,15 @@ public static InteractItemEvent callInteractItemEventPrimary(EntityPlayer player
                 event = SpongeEventFactory.createInteractItemEventPrimaryOffHand(Sponge.getCauseStackManager().getCurrentCause(),
                         HandTypes.OFF_HAND, Optional.ofNullable(hitVec), ItemStackUtil.snapshotOf(stack));
             }
-            SpongeImpl.postEvent(event);
-            return event;
+            return SpongeImpl.postEvent(event);
         }
     }
 
-    public static InteractItemEvent callInteractItemEventSecondary(EntityPlayer player, ItemStack stack, EnumHand hand,
+    public static boolean callInteractItemEventSecondary(EntityPlayer player, ItemStack stack, EnumHand hand,
             @Nullable Vector3d hitVec, Object hitTarget) {
+        if (!ShouldFire.INTERACT_ITEM_EVENT_SECONDARY) {
+            return false;
+        }
         try (CauseStackManager.StackFrame frame = Sponge.getCauseStackManager().pushCauseFrame()) {
             if (hitTarget instanceof Entity) {
                 Sponge.getCauseStackManager().addContext(EventContextKeys.ENTITY_HIT, ((Entity) hitTarget));
@@ -582,12 +614,14 @@ public static InteractItemEvent callInteractItemEventSecondary(EntityPlayer play
                 event = SpongeEventFactory.createInteractItemEventSecondaryOffHand(Sponge.getCauseStackManager().getCurrentCause(),
                         HandTypes.OFF_HAND, Optional.ofNullable(hitVec), ItemStackUtil.snapshotOf(stack));
             }
-            SpongeImpl.postEvent(event);
-            return event;
+            return SpongeImpl.postEvent(event);
         }
     }
 
-    public static InteractBlockEvent.Primary callInteractBlockEventPrimary(EntityPlayer player, EnumHand hand, @Nullable Vector3d hitVec) {
+    public static boolean callInteractBlockEventPrimary(EntityPlayer player, EnumHand hand, @Nullable Vector3d hitVec) {
+        if (!ShouldFire.INTERACT_BLOCK_EVENT_PRIMARY) {
+            return false;
+        }
         InteractBlockEvent.Primary event;
         if (hand == EnumHand.MAIN_HAND) {
             event = SpongeEventFactory.createInteractBlockEventPrimaryMainHand(Sponge.getCauseStackManager().getCurrentCause(), HandTypes.MAIN_HAND,
@@ -596,12 +630,14 @@ public static InteractBlockEvent.Primary callInteractBlockEventPrimary(EntityPla
             event = SpongeEventFactory.createInteractBlockEventPrimaryOffHand(Sponge.getCauseStackManager().getCurrentCause(), HandTypes.OFF_HAND,
                     Optional.ofNullable(hitVec), BlockSnapshot.NONE, Direction.NONE);
         }
-        SpongeImpl.postEvent(event);
-        return event;
+        return SpongeImpl.postEvent(event);
     }
 
-    public static InteractBlockEvent.Primary callInteractBlockEventPrimary(EntityPlayer player, BlockSnapshot blockSnapshot, EnumHand hand,
+    public static boolean callInteractBlockEventPrimary(EntityPlayer player, BlockSnapshot blockSnapshot, EnumHand hand,
             EnumFacing side, @Nullable Vector3d hitVec) {
+        if (!ShouldFire.INTERACT_BLOCK_EVENT_PRIMARY) {
+            return false;
+        }
         InteractBlockEvent.Primary event;
         Direction direction = DirectionFacingProvider.getInstance().getKey(side).get();
         if (hand == EnumHand.MAIN_HAND) {
@@ -611,8 +647,7 @@ public static InteractBlockEvent.Primary callInteractBlockEventPrimary(EntityPla
             event = SpongeEventFactory.createInteractBlockEventPrimaryOffHand(Sponge.getCauseStackManager().getCurrentCause(), HandTypes.OFF_HAND,
                     Optional.ofNullable(hitVec), blockSnapshot, direction);
         }
-        SpongeImpl.postEvent(event);
-        return event;
+        return SpongeImpl.postEvent(event);
     }
 
     public static InteractBlockEvent.Secondary callInteractBlockEventSecondary(EntityPlayer player, ItemStack heldItem, @Nullable Vector3d hitVec,
@@ -638,7 +673,9 @@ public static InteractBlockEvent.Secondary callInteractBlockEventSecondary(Entit
                         originalUseBlockResult, useBlockResult, originalUseItemResult, useItemResult, HandTypes.OFF_HAND, Optional.ofNullable
                                 (hitVec), targetBlock, targetSide);
             }
-            SpongeImpl.postEvent(event);
+            if (ShouldFire.INTERACT_BLOCK_EVENT_SECONDARY) {
+                SpongeImpl.postEvent(event);
+            }
             return event;
         }
     }
@@ -682,7 +719,9 @@ public static DestructEntityEvent.Death callDestructEntityEventDeath(EntityLivin
             DestructEntityEvent.Death event = SpongeEventFactory.createDestructEntityEventDeath(cause,
                 originalChannel, Optional.of(channel), formatter,
                 (Living) entity, entity.world.getGameRules().getBoolean("keepInventory"), messageCancelled);
-            SpongeImpl.postEvent(event);
+            if (ShouldFire.DESTRUCT_ENTITY_EVENT_DEATH) {
+                SpongeImpl.postEvent(event);
+            }
             Text message = event.getMessage();
             if (!event.isMessageCancelled() && !message.isEmpty()) {
                 event.getChannel().ifPresent(eventChannel -> eventChannel.send(entity, event.getMessage()));
@@ -697,6 +736,10 @@ public static boolean handleCollideBlockEvent(Block block, net.minecraft.world.W
         }
 
         final PhaseTracker phaseTracker = PhaseTracker.getInstance();
+        if (!ShouldFire.COLLIDE_BLOCK_EVENT) {
+            trackCollidedBlock(phaseTracker, block, world, pos, entity);
+            return false;
+        }
         try (StackFrame frame = Sponge.getCauseStackManager().pushCauseFrame()) {
             Sponge.getCauseStackManager().pushCause( entity);
 
@@ -713,24 +756,42 @@ public static boolean handleCollideBlockEvent(Block block, net.minecraft.world.W
                     new Location<>((World) world, VecHelper.toVector3d(pos)), direction);
             boolean cancelled = SpongeImpl.postEvent(event);
             if (!cancelled) {
-                IMixinEntity spongeEntity = (IMixinEntity) entity;
-                if (!pos.equals(spongeEntity.getLastCollidedBlockPos())) {
-                    final PhaseData peek = phaseTracker.getCurrentPhaseData();
-                    final Optional<User> notifier = peek.context.getNotifier();
-                    if (notifier.isPresent()) {
-                        IMixinChunk spongeChunk = (IMixinChunk) world.getChunkFromBlockCoords(pos);
-                        spongeChunk.addTrackedBlockPosition(block, pos, notifier.get(), PlayerTracker.Type.NOTIFIER);
-                    }
-                }
+                trackCollidedBlock(phaseTracker, block, world, pos, entity);
             }
             return cancelled;
         }
     }
 
+    private static void trackCollidedBlock(PhaseTracker phaseTracker, Block block, net.minecraft.world.World world, BlockPos pos,
+            net.minecraft.entity.Entity entity) {
+        IMixinEntity spongeEntity = (IMixinEntity) entity;
+        if (!pos.equals(spongeEntity.getLastCollidedBlockPos())) {
+            final PhaseData peek = phaseTracker.getCurrentPhaseData();
+            final Optional<User> notifier = peek.context.getNotifier();
+            if (notifier.isPresent()) {
+                IMixinChunk spongeChunk = (IMixinChunk) world.getChunkFromBlockCoords(pos);
+                spongeChunk.addTrackedBlockPosition(block, pos, notifier.get(), PlayerTracker.Type.NOTIFIER);
+            }
+        }
+    }
+
     public static boolean handleCollideImpactEvent(net.minecraft.entity.Entity projectile, @Nullable ProjectileSource projectileSource,
             RayTraceResult movingObjectPosition) {
         final PhaseTracker phaseTracker = PhaseTracker.getInstance();
         RayTraceResult.Type movingObjectType = movingObjectPosition.typeOfHit;
+        if (movingObjectType == RayTraceResult.Type.BLOCK ? !ShouldFire.COLLIDE_BLOCK_EVENT_IMPACT : !ShouldFire.COLLIDE_ENTITY_EVENT_IMPACT) {
+            // Without listeners the impact can't be cancelled, only the tracking remains
+            final BlockPos blockPos = movingObjectPosition.getBlockPos();
+            if (movingObjectType == RayTraceResult.Type.BLOCK && blockPos.getY() > 0) {
+                phaseTracker.getCurrentPhaseData().context.getOwner().ifPresent(user -> {
+                    final BlockPos targetPos = new BlockPos(movingObjectPosition.hitVec);
+                    IMixinChunk spongeChunk = (IMixinChunk) projectile.world.getChunkFromBlockCoords(targetPos);
+                    spongeChunk.addTrackedBlockPosition(projectile.world.getBlockState(blockPos).getBlock(), targetPos, user,
+                            PlayerTracker.Type.NOTIFIER);
+                });
+            }
+            return false;
+        }
         try (CauseStackManager.StackFrame frame = Sponge.getCauseStackManager().pushCauseFrame()) {
             Sponge.getCauseStackManager().pushCause(projectile);
             Sponge.getCauseStackManager().addContext(EventContextKeys.PROJECTILE_SOURCE, projectileSource == null
@@ -800,12 +861,18 @@ public static ClickInventoryEvent.Creative callCreativeClickInventoryEvent(Entit
                 SpongeEventFactory.createClickInventoryEventCreative(Sponge.getCauseStackManager().getCurrentCause(), cursorTransaction,
                         (org.spongepowered.api.item.inventory.Container) player.openContainer,
                         ((IMixinContainer) player.openContainer).getCapturedTransactions());
-        SpongeImpl.postEvent(event);
+        if (ShouldFire.CLICK_INVENTORY_EVENT_CREATIVE) {
+            SpongeImpl.postEvent(event);
+        }
         Sponge.getCauseStackManager().popCause();
         return event;
     }
 
     public static boolean callInteractInventoryOpenEvent(EntityPlayerMP player) {
+        if (!ShouldFire.INTERACT_INVENTORY_EVENT_OPEN) {
+            // Without listeners the event can't be cancelled and the cursor stays the same
+            return true;
+        }
         ItemStackSnapshot newCursor =
                 player.inventory.getItemStack().isEmpty() ? ItemStackSnapshot.NONE
                         : ((org.spongepowered.api.item.inventory.ItemStack) player.inventory.getItemStack()).createSnapshot();
@@ -832,7 +899,9 @@ public static InteractInventoryEvent.Close callInteractInventoryCloseEvent(Conta
         Transaction<ItemStackSnapshot> cursorTransaction = new Transaction<>(lastCursor, newCursor);
         final InteractInventoryEvent.Close event =
                 SpongeEventFactory.createInteractInventoryEventClose(Sponge.getCauseStackManager().getCurrentCause(), cursorTransaction, ContainerUtil.fromNative(container));
-        SpongeImpl.postEvent(event);
+        if (ShouldFire.INTERACT_INVENTORY_EVENT_CLOSE) {
+            SpongeImpl.postEvent(event);
+        }
         if (event.isCancelled()) {
             if (clientSource && container.getSlot(0) != null) {
                 if (!(container instanceof ContainerPlayer)) {
@@ -993,13 +1062,16 @@ private static boolean checkValidVanillaCustomInventory(CustomInventory inventor
         return true;
     }
 
-    public static ChangeInventoryEvent.Transfer.Pre callTransferPre(Inventory source, Inventory destination) {
+    public static boolean callTransferPre(Inventory source, Inventory destination) {
+        if (!ShouldFire.CHANGE_INVENTORY_EVENT_TRANSFER_PRE) {
+            return false;
+        }
         Sponge.getCauseStackManager().pushCause(source);
         ChangeInventoryEvent.Transfer.Pre event = SpongeEventFactory.createChangeInventoryEventTransferPre(
                 Sponge.getCauseStackManager().getCurrentCause(), source, destination);
-        SpongeImpl.postEvent(event);
+        boolean cancelled = SpongeImpl.postEvent(event);
         Sponge.getCauseStackManager().popCause();
-        return event;
+        return cancelled;
     }
 
     public static boolean callTransferPost(IMixinInventory captureSource, Inventory source, Inventory destination) {
@@ -1007,6 +1079,11 @@ public static boolean callTransferPost(IMixinInventory captureSource, Inventory
         if (captureSource == null || source == null || destination == null) {
             return true;
         }
+        if (!ShouldFire.CHANGE_INVENTORY_EVENT_TRANSFER_POST) {
+            // The transactions are already applied to the inventories
+            captureSource.getCapturedTransactions().clear();
+            return false;
+        }
         Sponge.getCauseStackManager().pushCause(source);
         ChangeInventoryEvent.Transfer.Post event =
                 SpongeEventFactory.createChangeInventoryEventTransferPost(Sponge.getCauseStackManager().getCurrentCause(),
@@ -1086,7 +1163,11 @@ public static ItemStack captureTransaction(IMixinInventory captureIn, Inventory
         return transaction.get();
     }
 
+    @Nullable
     public static SetAITargetEvent callSetAttackTargetEvent(@Nullable Entity target, Agent agent) {
+        if (!ShouldFire.SET_A_I_TARGET_EVENT) {
+            return null;
+        }
         SetAITargetEvent event = SpongeEventFactory.createSetAITargetEvent(Sponge.getCauseStackManager().getCurrentCause(), Optional.ofNullable(target), agent);
         SpongeImpl.postEvent(event);
         return event;
@@ -1100,7 +1181,9 @@ public static CraftItemEvent.Preview callCraftEventPre(EntityPlayer player, Craf
             SlotTransaction previewTransaction, @Nullable CraftingRecipe recipe, Container container, List<SlotTransaction> transactions) {
         CraftItemEvent.Preview event = SpongeEventFactory
                 .createCraftItemEventPreview(Sponge.getCauseStackManager().getCurrentCause(), inventory, previewTransaction, Optional.ofNullable(recipe), ((Inventory) container), transactions);
-        SpongeImpl.postEvent(event);
+        if (ShouldFire.CRAFT_ITEM_EVENT_PREVIEW) {
+            SpongeImpl.postEvent(event);
+        }
         PacketPhaseUtil.handleSlotRestore(player, container, new ArrayList<>(transactions), event.isCancelled());
         if (player instanceof EntityPlayerMP) {
             if (event.getPreview().getCustom().isPresent() || event.isCancelled() || !event.getPreview().isValid()) {
@@ -1127,7 +1210,9 @@ public static CraftItemEvent.Craft callCraftEventPost(EntityPlayer player, Craft
         CraftItemEvent.Craft event = SpongeEventFactory
                 .createCraftItemEventCraft(Sponge.getCauseStackManager().getCurrentCause(), result, inventory,
                         cursorTransaction, Optional.ofNullable(recipe), ((org.spongepowered.api.item.inventory.Container) container), transactions);
-        SpongeImpl.postEvent(event);
+        if (ShouldFire.CRAFT_ITEM_EVENT_CRAFT) {
+            SpongeImpl.postEvent(event);
+        }
 
         ((IMixinContainer) container).setCaptureInventory(false);
         // handle slot-transactions
@@ -28,9 +28,8 @@
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import co.aikar.timings.TimingsManager;
-import com.github.benmanes.caffeine.cache.Caffeine;
-import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.Sets;
@@ -53,7 +52,6 @@
 import org.spongepowered.common.event.gen.DefineableClassLoader;
 import org.spongepowered.common.util.TypeTokenHelper;
 
-import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.TypeVariable;
@@ -61,6 +59,7 @@
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -81,6 +80,7 @@ public class SpongeEventManager implements EventManager {
     private final Object lock = new Object();
     protected final Logger logger;
     private final PluginManager pluginManager;
+    private final AsyncListenerDispatcher asyncDispatcher;
     private final DefineableClassLoader classLoader = new DefineableClassLoader(getClass().getClassLoader());
     private final AnnotatedEventListener.Factory handlerFactory = new ClassEventListenerFactory("org.spongepowered.common.event.listener",
             new FilterFactory("org.spongepowered.common.event.filters", this.classLoader), this.classLoader);
@@ -91,62 +91,51 @@ public class SpongeEventManager implements EventManager {
 
     /**
      * A cache of all the handlers for an event type for quick event posting.
-     * <p>The cache is currently entirely invalidated if handlers are added or
-     * removed.</p>
+     * <p>The map is immutable and replaced as a whole when it changes, so
+     * posting an event only needs a single volatile read. Adding or removing
+     * handlers only rebakes the event types that are affected by them.</p>
      */
-    private final LoadingCache<EventType<?>, RegisteredListener.Cache> handlersCache =
-            Caffeine.newBuilder().initialCapacity(150).build(this::bakeHandlers);
+    private volatile Map<EventType<?>, RegisteredListener.Cache> handlersCache = ImmutableMap.of();
+
+    /**
+     * The supertypes of every baked event class which are events themselves.
+     */
+    private final Map<Class<?>, Class<?>[]> eventSupertypes = new ConcurrentHashMap<>();
 
     @Inject
     public SpongeEventManager(Logger logger, PluginManager pluginManager) {
         this.logger = logger;
         this.pluginManager = checkNotNull(pluginManager, "pluginManager");
+        this.asyncDispatcher = new AsyncListenerDispatcher(logger);
+    }
 
-        // Caffeine offers no control over the concurrency level of the
-        // ConcurrentHashMap which backs the cache. By default this concurrency
-        // level is 16. We replace the backing map before any use can occur
-        // a new ConcurrentHashMap with a concurrency level of 1
-        try {
-            // Cache impl class is UnboundedLocalLoadingCache which extends
-            // UnboundedLocalManualCache
-
-            // UnboundedLocalManualCache has a field 'cache' with an
-            // UnboundedLocalCache which contains the actual backing map
-            Field innerCache = this.handlersCache.getClass().getSuperclass().getDeclaredField("cache");
-            innerCache.setAccessible(true);
-            Object innerCacheValue = innerCache.get(this.handlersCache);
-            Class<?> innerCacheClass = innerCacheValue.getClass(); // UnboundedLocalCache
-            Field cacheData = innerCacheClass.getDeclaredField("data");
-            cacheData.setAccessible(true);
-            ConcurrentHashMap<Class<? extends Event>, RegisteredListener.Cache> newBackingData = new ConcurrentHashMap<>(150, 0.75f, 1);
-            cacheData.set(innerCacheValue, newBackingData);
-        } catch (NoSuchFieldException | SecurityException | IllegalArgumentException | IllegalAccessException e) {
-            this.logger.warn("Failed to set event cache backing array, type was " + this.handlersCache.getClass().getName());
-            this.logger.warn("  Caused by: " + e.getClass().getName() + ": " + e.getMessage());
-        }
+    private Class<?>[] getEventSupertypes(Class<?> eventClass) {
+        return this.eventSupertypes.computeIfAbsent(eventClass, key -> TypeToken.of(key).getTypes().rawTypes().stream()
+                .filter(Event.class::isAssignableFrom)
+                .toArray(Class<?>[]::new));
     }
 
     <T extends Event> RegisteredListener.Cache bakeHandlers(EventType<T> eventType) {
         final List<RegisteredListener<?>> handlers = new ArrayList<>();
-        final Set<Class<? super T>> types = TypeToken.of(eventType.getType()).getTypes().rawTypes();
 
         synchronized (this.lock) {
-            for (Class<? super T> type : types) {
-                if (Event.class.isAssignableFrom(type)) {
-                    final Collection<RegisteredListener<?>> listeners = this.handlersByEvent.get(type);
-                    if (GenericEvent.class.isAssignableFrom(type)) {
-                        final TypeToken<?> genericType = eventType.getGenericType();
-                        checkNotNull(genericType);
-                        for (RegisteredListener<?> listener : listeners) {
-                            final TypeToken<?> genericType1 = listener.getEventType().getGenericType();
-                            checkNotNull(genericType1);
-                            if (TypeTokenHelper.isAssignable(genericType, genericType1)) {
-                                handlers.add(listener);
-                            }
+            for (Class<?> type : this.getEventSupertypes(eventType.getType())) {
+                final Collection<RegisteredListener<?>> listeners = this.handlersByEvent.get(type);
+                if (listeners.isEmpty()) {
+                    continue;
+                }
+                if (GenericEvent.class.isAssignableFrom(type)) {
+                    final TypeToken<?> genericType = eventType.getGenericType();
+                    checkNotNull(genericType);
+                    for (RegisteredListener<?> listener : listeners) {
+                        final TypeToken<?> genericType1 = listener.getEventType().getGenericType();
+                        checkNotNull(genericType1);
+                        if (TypeTokenHelper.isAssignable(genericType, genericType1)) {
+                            handlers.add(listener);
                         }
-                    } else {
-                        handlers.addAll(listeners);
                     }
+                } else {
+                    handlers.addAll(listeners);
                 }
             }
         }
@@ -190,21 +179,39 @@ private void register(RegisteredListener<? extends Event> handler) {
     }
 
     private void register(List<RegisteredListener<? extends Event>> handlers) {
-        boolean changed = false;
-
         synchronized (this.lock) {
+            final Set<Class<?>> changedTypes = new HashSet<>();
             for (RegisteredListener<?> handler : handlers) {
                 final Class<?> raw = handler.getEventType().getType();
                 if (this.handlersByEvent.put(raw, handler)) {
-                    changed = true;
+                    changedTypes.add(raw);
                     this.checker.registerListenerFor(raw);
                 }
             }
+            this.rebakeHandlers(changedTypes);
         }
+    }
 
-        if (changed) {
-            this.handlersCache.invalidateAll();
+    /**
+     * Rebakes the cached handlers of the event types which can be received by
+     * listeners of the given types, the other cached handlers are kept as is.
+     *
+     * @param listenerTypes The event types of the added or removed listeners
+     */
+    private void rebakeHandlers(Set<Class<?>> listenerTypes) {
+        if (listenerTypes.isEmpty()) {
+            return;
+        }
+        final ImmutableMap.Builder<EventType<?>, RegisteredListener.Cache> builder = ImmutableMap.builder();
+        for (Map.Entry<EventType<?>, RegisteredListener.Cache> entry : this.handlersCache.entrySet()) {
+            final Class<?> eventClass = entry.getKey().getType();
+            if (listenerTypes.stream().anyMatch(type -> type.isAssignableFrom(eventClass))) {
+                builder.put(entry.getKey(), this.bakeHandlers(entry.getKey()));
+            } else {
+                builder.put(entry);
+            }
         }
+        this.handlersCache = builder.build();
     }
 
     @SuppressWarnings("unchecked")
@@ -267,19 +274,20 @@ public void registerListener(PluginContainer plugin, Object listenerObject) {
         register(handlers);
     }
 
-    private static <T extends Event> RegisteredListener<T> createRegistration(PluginContainer plugin, TypeToken<T> eventClass, Listener listener,
+    private <T extends Event> RegisteredListener<T> createRegistration(PluginContainer plugin, TypeToken<T> eventClass, Listener listener,
             EventListener<? super T> handler) {
         return createRegistration(plugin, eventClass, listener.order(), listener.beforeModifications(), handler);
     }
 
     @SuppressWarnings("unchecked")
-    private static <T extends Event> RegisteredListener<T> createRegistration(PluginContainer plugin, TypeToken<T> eventType, Order order,
+    private <T extends Event> RegisteredListener<T> createRegistration(PluginContainer plugin, TypeToken<T> eventType, Order order,
             boolean beforeModifications, EventListener<? super T> handler) {
         TypeToken<?> genericType = null;
         if (GenericEvent.class.isAssignableFrom(eventType.getRawType())) {
             genericType = eventType.resolveType(GENERIC_EVENT_TYPE);
         }
-        return new RegisteredListener(plugin, new EventType(eventType.getRawType(), genericType), order, handler, beforeModifications);
+        return new RegisteredListener(plugin, new EventType(eventType.getRawType(), genericType), order, handler, beforeModifications,
+                this.asyncDispatcher.isAsync(plugin, order, beforeModifications));
     }
 
     private PluginContainer getPlugin(Object plugin) {
@@ -326,24 +334,19 @@ public <T extends Event> void registerListener(Object plugin, TypeToken<T> event
     }
 
     private void unregister(Predicate<RegisteredListener<?>> unregister) {
-        boolean changed = false;
-
         synchronized (this.lock) {
+            final Set<Class<?>> changedTypes = new HashSet<>();
             Iterator<RegisteredListener<?>> itr = this.handlersByEvent.values().iterator();
             while (itr.hasNext()) {
                 RegisteredListener<?> handler = itr.next();
                 if (unregister.test(handler)) {
                     itr.remove();
-                    changed = true;
-                    // TODO: This doesn't seem right, even as it was before
+                    changedTypes.add(handler.getEventType().getType());
                     this.checker.unregisterListenerFor(handler.getEventType().getType());
                     this.registeredListeners.remove(handler.getHandle());
                 }
             }
-        }
-
-        if (changed) {
-            this.handlersCache.invalidateAll();
+            this.rebakeHandlers(changedTypes);
         }
     }
 
@@ -369,7 +372,20 @@ protected RegisteredListener.Cache getHandlerCache(Event event) {
         } else {
             eventType = new EventType(eventClass, null);
         }
-        return this.handlersCache.get(eventType);
+        RegisteredListener.Cache handlers = this.handlersCache.get(eventType);
+        if (handlers == null) {
+            synchronized (this.lock) {
+                handlers = this.handlersCache.get(eventType);
+                if (handlers == null) {
+                    handlers = this.bakeHandlers(eventType);
+                    this.handlersCache = ImmutableMap.<EventType<?>, RegisteredListener.Cache>builder()
+                            .putAll(this.handlersCache)
+                            .put(eventType, handlers)
+                            .build();
+                }
+            }
+        }
+        return handlers;
     }
 
     @SuppressWarnings("unchecked")
@@ -394,6 +410,12 @@ protected boolean post(Event event, List<RegisteredListener<?>> handlers) {
         }
         TimingsManager.PLUGIN_EVENT_HANDLER.startTimingIfSync();
         for (@SuppressWarnings("rawtypes") RegisteredListener handler : handlers) {
+            if (handler.isAsync()) {
+                // Observers which are known to be thread safe don't need to hold up the main thread,
+                // events posted from any other thread were already handled inline above
+                this.asyncDispatcher.dispatch(handler, event);
+                continue;
+            }
             Sponge.getCauseStackManager().pushCause(handler.getPlugin());
             try (CauseStackManager.StackFrame frame = Sponge.getCauseStackManager().pushCauseFrame()) {
                 handler.getTimingsHandler().startTimingIfSync();
@@ -208,7 +208,7 @@ default boolean isInteraction() {
         return false;
     }
 
-    default void postTrackBlock(BlockSnapshot snapshot, PhaseTracker tracker, C context) {
+    default void postTrackBlock(BlockPos pos, PhaseTracker tracker, C context) {
 
     }
 
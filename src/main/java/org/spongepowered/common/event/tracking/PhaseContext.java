@@ -51,6 +51,7 @@
 import org.spongepowered.common.event.tracking.context.EntityItemDropsSupplier;
 import org.spongepowered.common.event.tracking.context.EntityItemEntityDropsSupplier;
 import org.spongepowered.common.event.tracking.context.ItemDropData;
+import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 
 import java.util.Collections;
 import java.util.List;
@@ -89,6 +90,9 @@
 
     @Nullable private Object source;
 
+    @Nullable PhaseContextPool<?> pool;
+    boolean pooled;
+
     public P source(Object owner) {
         checkState(!this.isCompleted, "Cannot add a new object to the context if it's already marked as completed!");
         this.source = owner;
@@ -279,7 +283,7 @@ public List<BlockSnapshot> getCapturedBlocks() throws IllegalStateException {
         return this.blocksSupplier.get();
     }
 
-    public CapturedSupplier<BlockSnapshot> getCapturedBlockSupplier() throws IllegalStateException {
+    public CapturedBlocksSupplier getCapturedBlockSupplier() throws IllegalStateException {
         if (this.blocksSupplier == null) {
             throw TrackingUtil.throwWithContext("Expected to be capturing blocks, but we're not capturing them!", this).get();
         }
@@ -392,6 +396,52 @@ public P markEmpty() {
     @Override
     public void close() { // Should never throw an exception
         PhaseTracker.getInstance().completePhase(this.state);
+        if (this.pool != null) {
+            this.pool.release(this);
+        }
+    }
+
+    /**
+     * Resets this context before it is reused by its {@link PhaseContextPool}.
+     * The capture suppliers are kept, only their captured objects are cleared.
+     */
+    protected void reset() {
+        this.isCompleted = false;
+        this.owner = null;
+        this.notifier = null;
+        this.source = null;
+        this.processImmediately = false;
+        if (this.blocksSupplier != null) {
+            this.blocksSupplier.clear();
+        }
+        if (this.blockItemDropsSupplier != null) {
+            this.blockItemDropsSupplier.clear();
+        }
+        if (this.blockItemEntityDropsSupplier != null) {
+            this.blockItemEntityDropsSupplier.clear();
+        }
+        if (this.capturedItemsSupplier != null) {
+            this.capturedItemsSupplier.clear();
+        }
+        if (this.capturedEntitiesSupplier != null) {
+            this.capturedEntitiesSupplier.clear();
+        }
+        if (this.capturedItemStackSupplier != null) {
+            this.capturedItemStackSupplier.clear();
+        }
+        if (this.entityItemDropsSupplier != null) {
+            this.entityItemDropsSupplier.clear();
+        }
+        if (this.entityItemEntityDropsSupplier != null) {
+            this.entityItemEntityDropsSupplier.clear();
+        }
+        if (this.blockEntitySpawnSupplier != null) {
+            this.blockEntitySpawnSupplier.clear();
+        }
+        if (this.captureBlockPos != null) {
+            this.captureBlockPos.setPos(null);
+            this.captureBlockPos.setWorld((IMixinWorldServer) null);
+        }
     }
 
 
@@ -0,0 +1,106 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking;
+
+import org.spongepowered.api.Sponge;
+import org.spongepowered.common.SpongeImpl;
+
+import java.util.ArrayDeque;
+import java.util.function.Supplier;
+
+/**
+ * A pool of {@link PhaseContext}s for the phase states which are entered for
+ * every entity, tile entity and block tick. Contexts that are created on the
+ * main thread are returned to the pool when they are closed, and reset when
+ * they are taken from the pool again. Resetting them lazily keeps the data
+ * of a closed context intact for any exception printing that happens right
+ * after it was closed.
+ *
+ * <p>The pool is confined to the main thread, contexts created on other
+ * threads are never pooled.</p>
+ *
+ * @param <C> The type of phase context
+ */
+public final class PhaseContextPool<C extends PhaseContext<C>> {
+
+    /**
+     * The maximum amount of idle contexts kept, this only needs to cover the
+     * depth that the pooled phases can be nested in.
+     */
+    private static final int MAX_IDLE = 16;
+
+    /**
+     * The amount of contexts which may be in use at the same time before we
+     * consider them to be leaked, only checked when the tracker is verbose.
+     */
+    private static final int LEAK_THRESHOLD = 256;
+
+    private final Supplier<C> factory;
+    private final ArrayDeque<C> idle = new ArrayDeque<>(MAX_IDLE);
+    private int inUse;
+    private boolean printedLeak;
+
+    public PhaseContextPool(Supplier<C> factory) {
+        this.factory = factory;
+    }
+
+    public C acquire() {
+        if (!Sponge.isServerAvailable() || !Sponge.getServer().isMainThread()) {
+            return this.factory.get();
+        }
+        C context = this.idle.pollFirst();
+        if (context == null) {
+            context = this.factory.get();
+            context.pool = this;
+        } else {
+            context.reset();
+        }
+        context.pooled = false;
+        if (PhaseTracker.getInstance().isVerbose && ++this.inUse > LEAK_THRESHOLD && !this.printedLeak) {
+            this.printedLeak = true;
+            SpongeImpl.getLogger().warn("{} contexts of {} are in use at the same time, they are most likely not being closed.",
+                    this.inUse, context.state, new IllegalStateException("Leaked phase context"));
+        }
+        return context;
+    }
+
+    @SuppressWarnings("unchecked")
+    void release(PhaseContext<?> context) {
+        if (context.pooled) {
+            if (PhaseTracker.getInstance().isVerbose) {
+                SpongeImpl.getLogger().warn("The phase context of {} was closed more than once.", context.state,
+                        new IllegalStateException("Phase context closed twice"));
+            }
+            return;
+        }
+        context.pooled = true;
+        if (PhaseTracker.getInstance().isVerbose) {
+            this.inUse--;
+        }
+        if (this.idle.size() < MAX_IDLE && Sponge.getServer().isMainThread()) {
+            this.idle.addFirst((C) context);
+        }
+    }
+}
@@ -73,6 +73,8 @@
 import org.spongepowered.common.block.SpongeBlockSnapshot;
 import org.spongepowered.common.entity.EntityUtil;
 import org.spongepowered.common.event.ShouldFire;
+import org.spongepowered.common.event.tracking.context.CapturedBlockList;
+import org.spongepowered.common.event.tracking.context.CapturedBlocksSupplier;
 import org.spongepowered.common.event.tracking.context.ItemDropData;
 import org.spongepowered.common.event.tracking.phase.block.BlockPhase;
 import org.spongepowered.common.event.tracking.phase.general.GeneralPhase;
@@ -95,7 +97,6 @@
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.world.BlockChange;
 import org.spongepowered.common.world.SpongeBlockChangeFlag;
-import org.spongepowered.common.world.SpongeProxyBlockAccess;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -103,11 +104,13 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
+import java.util.UUID;
 import java.util.function.Consumer;
-import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import javax.annotation.Nullable;
+
 /**
  * A simple utility for aiding in tracking, either with resolving notifiers
  * and owners, or proxying out the logic for ticking a block, entity, etc.
@@ -120,23 +123,18 @@ public final class TrackingUtil {
     public static final int DECAY_BLOCK_INDEX = 2;
     public static final int CHANGE_BLOCK_INDEX = 3;
     public static final int MULTI_CHANGE_INDEX = 4;
-    public static final Function<ImmutableList.Builder<Transaction<BlockSnapshot>>[], Consumer<Transaction<BlockSnapshot>>> TRANSACTION_PROCESSOR =
-            builders ->
-                    transaction -> {
-                        final BlockChange blockChange = ((SpongeBlockSnapshot) transaction.getOriginal()).blockChange;
-                        builders[blockChange.ordinal()].add(transaction);
-                        builders[MULTI_CHANGE_INDEX].add(transaction);
-                    }
-            ;
     public static final int EVENT_COUNT = 5;
-    public static final Function<BlockSnapshot, Transaction<BlockSnapshot>> TRANSACTION_CREATION = (blockSnapshot) -> {
-        final Location<World> originalLocation = blockSnapshot.getLocation().get();
-        final WorldServer worldServer = (WorldServer) originalLocation.getExtent();
-        final BlockPos blockPos = ((IMixinLocation) (Object) originalLocation).getBlockPos();
-        final IBlockState newState = worldServer.getBlockState(blockPos);
-        final IBlockState newActualState = newState.getActualState(worldServer, blockPos);
-        final BlockSnapshot newSnapshot = ((IMixinWorldServer) worldServer).createSpongeBlockSnapshot(newState, newActualState, blockPos, BlockChangeFlags.NONE);
-        return new Transaction<>(blockSnapshot, newSnapshot);
+    // Whether a phase state does anything with the transactions passed to handleBlockChangeWithUser
+    private static final ClassValue<Boolean> HANDLES_BLOCK_CHANGE_WITH_USER = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("handleBlockChangeWithUser", BlockChange.class, Transaction.class, PhaseContext.class)
+                        .getDeclaringClass() != IPhaseState.class;
+            } catch (NoSuchMethodException e) {
+                return true;
+            }
+        }
     };
 
     public static void tickEntity(net.minecraft.entity.Entity entityIn) {
@@ -371,26 +369,27 @@ public static boolean fireMinecraftBlockEvent(WorldServer worldIn, BlockEventDat
     @SuppressWarnings("rawtypes")
     static boolean trackBlockChange(PhaseTracker phaseTracker, IMixinWorldServer mixinWorld, Chunk chunk, IBlockState currentState,
         IBlockState newState, BlockPos pos, BlockChangeFlag flags, PhaseContext<?> phaseContext, IPhaseState<?> phaseState) {
-        final SpongeBlockSnapshot originalBlockSnapshot;
         final WorldServer minecraftWorld = mixinWorld.asMinecraftWorld();
         if (((IPhaseState) phaseState).shouldCaptureBlockChangeOrSkip(phaseContext, pos)) {
             //final IBlockState actualState = currentState.getActualState(minecraftWorld, pos);
-            originalBlockSnapshot = mixinWorld.createSpongeBlockSnapshot(currentState, currentState, pos, flags);
-            final List<BlockSnapshot> capturedSnapshots = phaseContext.getCapturedBlocks();
-            final Block newBlock = newState.getBlock();
-
-            associateBlockChangeWithSnapshot(phaseState, newBlock, currentState, originalBlockSnapshot, capturedSnapshots);
+            // Only the original state is captured here, the snapshot is created once the captures are read
+            final CapturedBlocksSupplier capturedBlocks = phaseContext.getCapturedBlockSupplier();
+            final BlockChange blockChange = getBlockChange(phaseState, newState.getBlock(), currentState);
+            if (blockChange != null) {
+                capturedBlocks.capture(mixinWorld, currentState, pos, blockChange, flags);
+            }
             final IMixinChunk mixinChunk = (IMixinChunk) chunk;
-            final IBlockState originalBlockState = mixinChunk.setBlockState(pos, newState, currentState, originalBlockSnapshot);
+            final IBlockState originalBlockState = mixinChunk.setBlockState(pos, newState, currentState, BlockSnapshot.NONE);
             if (originalBlockState == null) {
-                capturedSnapshots.remove(originalBlockSnapshot);
+                if (blockChange != null) {
+                    capturedBlocks.removeLastCapture();
+                }
                 return false;
             }
-            ((IPhaseState) phaseState).postTrackBlock(originalBlockSnapshot, phaseTracker, phaseContext);
+            ((IPhaseState) phaseState).postTrackBlock(pos, phaseTracker, phaseContext);
         } else {
-            originalBlockSnapshot = (SpongeBlockSnapshot) BlockSnapshot.NONE;
             final IMixinChunk mixinChunk = (IMixinChunk) chunk;
-            final IBlockState originalBlockState = mixinChunk.setBlockState(pos, newState, currentState, originalBlockSnapshot);
+            final IBlockState originalBlockState = mixinChunk.setBlockState(pos, newState, currentState, BlockSnapshot.NONE);
             if (originalBlockState == null) {
                 return false;
             }
@@ -406,22 +405,17 @@ static boolean trackBlockChange(PhaseTracker phaseTracker, IMixinWorldServer mix
         return true;
     }
 
-    private static void associateBlockChangeWithSnapshot(IPhaseState<?> phaseState, Block newBlock, IBlockState currentState, SpongeBlockSnapshot snapshot, List<BlockSnapshot> capturedSnapshots) {
+    @Nullable
+    private static BlockChange getBlockChange(IPhaseState<?> phaseState, Block newBlock, IBlockState currentState) {
         Block originalBlock = currentState.getBlock();
         if (phaseState == BlockPhase.State.BLOCK_DECAY) {
-            if (newBlock == Blocks.AIR) {
-                snapshot.blockChange = BlockChange.DECAY;
-                capturedSnapshots.add(snapshot);
-            }
+            return newBlock == Blocks.AIR ? BlockChange.DECAY : null;
         } else if (newBlock == Blocks.AIR) {
-            snapshot.blockChange = BlockChange.BREAK;
-            capturedSnapshots.add(snapshot);
+            return BlockChange.BREAK;
         } else if (newBlock != originalBlock && !forceModify(originalBlock, newBlock)) {
-            snapshot.blockChange = BlockChange.PLACE;
-            capturedSnapshots.add(snapshot);
+            return BlockChange.PLACE;
         } else {
-            snapshot.blockChange = BlockChange.MODIFY;
-            capturedSnapshots.add(snapshot);
+            return BlockChange.MODIFY;
         }
     }
 
@@ -490,23 +484,12 @@ public static boolean processBlockCaptures(List<BlockSnapshot> snapshots, IPhase
         if (snapshots.isEmpty()) {
             return false;
         }
-        ImmutableList<Transaction<BlockSnapshot>>[] transactionArrays = new ImmutableList[EVENT_COUNT];
-        ImmutableList.Builder<Transaction<BlockSnapshot>>[] transactionBuilders = new ImmutableList.Builder[EVENT_COUNT];
-        for (int i = 0; i < EVENT_COUNT; i++) {
-            transactionBuilders[i] = new ImmutableList.Builder<>();
+        if (!ShouldFire.CHANGE_BLOCK_EVENT && snapshots instanceof CapturedBlockList && snapshots == context.getCapturedBlocksOrEmptyList()) {
+            return performCapturedBlockAdditions(state, context);
         }
+        final ImmutableList<Transaction<BlockSnapshot>>[] transactionArrays = createTransactionArrays(snapshots);
         final List<ChangeBlockEvent> blockEvents = new ArrayList<>();
 
-        for (BlockSnapshot snapshot : snapshots) {
-            // This processes each snapshot to assign them to the correct event in the next area, with the
-            // correct builder array entry.
-            TRANSACTION_PROCESSOR.apply(transactionBuilders).accept(TRANSACTION_CREATION.apply(snapshot));
-        }
-        for (int i = 0; i < EVENT_COUNT; i++) {
-            // Build each event array
-            transactionArrays[i] = transactionBuilders[i].build();
-        }
-
         // Clear captured snapshots after processing them
         context.getCapturedBlocksOrEmptyList().clear();
 
@@ -598,6 +581,150 @@ public static boolean processBlockCaptures(List<BlockSnapshot> snapshots, IPhase
         }
     }
 
+    /**
+     * Applies the captured block changes of the context like
+     * {@link #performBlockAdditions} does, but without creating any
+     * {@link ChangeBlockEvent}s since nothing listens to them. Snapshots and
+     * transactions are only created for the block changes that need them,
+     * for block drops, logging or when the phase state handles the change.
+     *
+     * @param state The phase state that is being processed
+     * @param context The phase context with the captured block changes
+     * @return Always true, nothing can be cancelled without events
+     */
+    @SuppressWarnings("rawtypes")
+    private static boolean performCapturedBlockAdditions(IPhaseState<?> state, PhaseContext<?> context) {
+        final CapturedBlocksSupplier capturedBlocks = context.getCapturedBlockSupplier();
+        // Block changes caused while processing are captured again by the context, separate from these
+        final CapturedBlockList captures = capturedBlocks.drainToBuffer();
+        try (CauseStackManager.StackFrame frame = Sponge.getCauseStackManager().pushCauseFrame()) {
+            if (context.getNotifier().isPresent()) {
+                Sponge.getCauseStackManager().addContext(EventContextKeys.NOTIFIER, context.getNotifier().get());
+            }
+            if (context.getOwner().isPresent()) {
+                Sponge.getCauseStackManager().addContext(EventContextKeys.OWNER, context.getOwner().get());
+            }
+            try {
+                state.associateAdditionalCauses(state, context);
+            } catch (Exception e) {
+                // See processBlockCaptures
+            }
+            final int size = captures.size();
+            // The new states are all read before any physics are performed, the same as the transactions would be
+            final BlockPos[] positions = new BlockPos[size];
+            final IBlockState[] newStates = new IBlockState[size];
+            for (int i = 0; i < size; i++) {
+                positions[i] = captures.getBlockPos(i);
+                newStates[i] = captures.getWorld(i).getBlockState(positions[i]);
+            }
+            final CapturedMultiMapSupplier<BlockPos, ItemDropData> capturedBlockDrops = context.getBlockDropSupplier();
+            final CapturedMultiMapSupplier<BlockPos, EntityItem> capturedBlockItemEntityDrops = context.getBlockItemDropSupplier();
+            final CapturedMultiMapSupplier<BlockPos, net.minecraft.entity.Entity> capturedBlockEntitySpawns = context.getBlockEntitySpawnSupplier();
+            final boolean handlesBlockChanges = HANDLES_BLOCK_CHANGE_WITH_USER.get(state.getClass());
+            final PhaseTracker phaseTracker = PhaseTracker.getInstance();
+            for (int i = 0; i < size; i++) {
+                final int index = i;
+                final WorldServer world = captures.getWorld(i);
+                final IMixinWorldServer mixinWorldServer = (IMixinWorldServer) world;
+                final BlockPos pos = positions[i];
+                final BlockChange blockChange = captures.getBlockChange(i);
+                final SpongeBlockChangeFlag changeFlag = captures.getChangeFlag(i);
+                final IBlockState originalState = captures.getState(i);
+                final IBlockState newState = newStates[i];
+
+                capturedBlockDrops.acceptAndRemoveIfPresent(pos, items -> spawnItemDataForBlockDrops(items,
+                        (SpongeBlockSnapshot) captures.get(index), context, state));
+                capturedBlockItemEntityDrops.acceptAndRemoveIfPresent(pos, items -> spawnItemEntitiesForBlockDrops(items,
+                        (SpongeBlockSnapshot) captures.get(index), context, state));
+                capturedBlockEntitySpawns.acceptAndRemoveIfPresent(pos, items -> spawnEntitiesForBlock(items,
+                        (SpongeBlockSnapshot) captures.get(index), context, state));
+
+                Transaction<BlockSnapshot> transaction = null;
+                if (handlesBlockChanges || SpongeHooks.isBlockActionLogged(world, blockChange)) {
+                    final BlockSnapshot newSnapshot = mixinWorldServer.createSpongeBlockSnapshot(newState, newState.getActualState(world, pos), pos,
+                            BlockChangeFlags.NONE);
+                    transaction = new Transaction<>(captures.get(i), newSnapshot);
+                    SpongeHooks.logBlockAction(world, blockChange, transaction);
+                }
+                if (changeFlag.performBlockPhysics() && originalState.getBlock() != newState.getBlock()) {
+                    newState.getBlock().onBlockAdded(world, pos, newState);
+                    final PhaseData peek = phaseTracker.getCurrentPhaseData();
+                    if (peek.state == GeneralPhase.Post.UNWINDING) {
+                        ((IPhaseState) peek.state).unwind(peek.context);
+                    }
+                }
+
+                if (handlesBlockChanges) {
+                    ((IPhaseState) state).handleBlockChangeWithUser(blockChange, transaction, context);
+                }
+
+                if (changeFlag.isNotifyClients()) {
+                    world.notifyBlockUpdate(pos, originalState, newState, changeFlag.getRawFlag());
+                }
+
+                if (changeFlag.updateNeighbors()) {
+                    mixinWorldServer.spongeNotifyNeighborsPostBlockChange(pos, originalState, newState, changeFlag);
+                } else if (changeFlag.notifyObservers()) {
+                    world.updateObservingBlocksAt(pos, newState.getBlock());
+                }
+
+                final PhaseData peek = phaseTracker.getCurrentPhaseData();
+                if (peek.state == GeneralPhase.Post.UNWINDING) {
+                    ((IPhaseState) peek.state).unwind(peek.context);
+                }
+            }
+            return true;
+        } finally {
+            capturedBlocks.releaseBuffer(captures);
+        }
+    }
+
+    /**
+     * Creates the {@link Transaction}s for the given captured snapshots, grouped
+     * by the ordinal of their {@link BlockChange}, with all transactions at the
+     * {@link #MULTI_CHANGE_INDEX}. Captured changes come in runs within the same
+     * world and chunk, so those are only looked up again when the run changes
+     * instead of for every snapshot.
+     *
+     * @param snapshots The captured snapshots
+     * @return The transaction lists, indexed like the events
+     */
+    @SuppressWarnings("unchecked")
+    public static ImmutableList<Transaction<BlockSnapshot>>[] createTransactionArrays(List<BlockSnapshot> snapshots) {
+        final ImmutableList.Builder<Transaction<BlockSnapshot>>[] transactionBuilders = new ImmutableList.Builder[EVENT_COUNT];
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            transactionBuilders[i] = new ImmutableList.Builder<>();
+        }
+        UUID worldId = null;
+        WorldServer worldServer = null;
+        Chunk chunk = null;
+        for (BlockSnapshot snapshot : snapshots) {
+            final SpongeBlockSnapshot original = (SpongeBlockSnapshot) snapshot;
+            if (!original.getWorldUniqueId().equals(worldId)) {
+                worldId = original.getWorldUniqueId();
+                worldServer = (WorldServer) Sponge.getServer().getWorld(worldId)
+                        .orElseThrow(() -> new IllegalStateException("Captured a block change in an unloaded world!"));
+                chunk = null;
+            }
+            final BlockPos blockPos = original.getBlockPos();
+            if (chunk == null || chunk.x != blockPos.getX() >> 4 || chunk.z != blockPos.getZ() >> 4) {
+                chunk = worldServer.getChunkFromBlockCoords(blockPos);
+            }
+            final IBlockState newState = chunk.getBlockState(blockPos);
+            final IBlockState newActualState = newState.getActualState(worldServer, blockPos);
+            final BlockSnapshot newSnapshot = ((IMixinWorldServer) worldServer).createSpongeBlockSnapshot(newState, newActualState, blockPos,
+                    BlockChangeFlags.NONE);
+            final Transaction<BlockSnapshot> transaction = new Transaction<>(original, newSnapshot);
+            transactionBuilders[original.blockChange.ordinal()].add(transaction);
+            transactionBuilders[MULTI_CHANGE_INDEX].add(transaction);
+        }
+        final ImmutableList<Transaction<BlockSnapshot>>[] transactionArrays = new ImmutableList[EVENT_COUNT];
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            transactionArrays[i] = transactionBuilders[i].build();
+        }
+        return transactionArrays;
+    }
+
     public static void iterateChangeBlockEvents(ImmutableList<Transaction<BlockSnapshot>>[] transactionArrays, List<ChangeBlockEvent> blockEvents,
             ChangeBlockEvent[] mainEvents) {
         for (BlockChange blockChange : BlockChange.values()) {
@@ -626,9 +753,6 @@ public static void iterateChangeBlockEvents(ImmutableList<Transaction<BlockSnaps
     @SuppressWarnings("rawtypes")
     public static boolean performBlockAdditions(List<Transaction<BlockSnapshot>> transactions, IPhaseState<?> phaseState,
                                                 PhaseContext<?> phaseContext, boolean noCancelledTransactions) {
-        // We have to use a proxy so that our pending changes are notified such that any accessors from block
-        // classes do not fail on getting the incorrect block state from the IBlockAccess
-        final SpongeProxyBlockAccess proxyBlockAccess = new SpongeProxyBlockAccess(transactions);
         final CapturedMultiMapSupplier<BlockPos, ItemDropData> capturedBlockDrops = phaseContext.getBlockDropSupplier();
         final CapturedMultiMapSupplier<BlockPos, EntityItem> capturedBlockItemEntityDrops = phaseContext.getBlockItemDropSupplier();
         final CapturedMultiMapSupplier<BlockPos, net.minecraft.entity.Entity> capturedBlockEntitySpawns = phaseContext.getBlockEntitySpawnSupplier();
@@ -648,10 +772,9 @@ public static boolean performBlockAdditions(List<Transaction<BlockSnapshot>> tra
             final SpongeBlockSnapshot oldBlockSnapshot = (SpongeBlockSnapshot) transaction.getOriginal();
             final SpongeBlockSnapshot newBlockSnapshot = (SpongeBlockSnapshot) transaction.getFinal();
 
-            final Location<World> worldLocation = oldBlockSnapshot.getLocation().get();
-            final IMixinWorldServer mixinWorldServer = (IMixinWorldServer) worldLocation.getExtent();
+            final IMixinWorldServer mixinWorldServer = (IMixinWorldServer) oldBlockSnapshot.getLocation().get().getExtent();
             // Handle item drops captured
-            final BlockPos pos = ((IMixinLocation) (Object) oldBlockSnapshot.getLocation().get()).getBlockPos();
+            final BlockPos pos = oldBlockSnapshot.getBlockPos();
             // This is for pre-merged items
             capturedBlockDrops.acceptAndRemoveIfPresent(pos, items -> spawnItemDataForBlockDrops(items, oldBlockSnapshot,
                 phaseContext, phaseState));
@@ -678,7 +801,6 @@ public static boolean performBlockAdditions(List<Transaction<BlockSnapshot>> tra
                 }
             }
 
-            proxyBlockAccess.proceed();
             ((IPhaseState) phaseState).handleBlockChangeWithUser(oldBlockSnapshot.blockChange, transaction, phaseContext);
 
             if (changeFlag.isNotifyClients()) { // Always try to notify clients of the change.
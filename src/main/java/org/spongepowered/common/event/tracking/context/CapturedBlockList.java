@@ -0,0 +1,393 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking.context;
+
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import net.minecraft.block.ITileEntityProvider;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.WorldServer;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.block.BlockSnapshot;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.world.BlockChangeFlag;
+import org.spongepowered.api.world.World;
+import org.spongepowered.common.block.SpongeBlockSnapshot;
+import org.spongepowered.common.block.SpongeBlockSnapshotBuilder;
+import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+import org.spongepowered.common.util.VecHelper;
+import org.spongepowered.common.world.BlockChange;
+import org.spongepowered.common.world.SpongeBlockChangeFlag;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+import java.util.UUID;
+
+/**
+ * The captured block changes of a phase context. The changes are stored in
+ * parallel arrays of their packed positions, original states, change types
+ * and flags, and are only turned into {@link SpongeBlockSnapshot}s once they
+ * are read through the {@link java.util.List} methods. The arrays are kept
+ * when the list is cleared, so a pooled context reuses them.
+ *
+ * <p>Block changes of tile entities are the exception, their data has to be
+ * written before the tile entity is replaced, so their snapshot is created
+ * when they are captured.</p>
+ */
+public final class CapturedBlockList extends AbstractList<BlockSnapshot> implements RandomAccess {
+
+    private static final int INITIAL_CAPACITY = 16;
+    // Don't let a single huge explosion pin large arrays for the lifetime of a pooled context
+    private static final int RETAINED_CAPACITY = 1024;
+
+    private final Long2IntOpenHashMap positionCounts = new Long2IntOpenHashMap();
+
+    private long[] positions = new long[INITIAL_CAPACITY];
+    private IBlockState[] states = new IBlockState[INITIAL_CAPACITY];
+    private BlockChange[] changes = new BlockChange[INITIAL_CAPACITY];
+    private SpongeBlockChangeFlag[] flags = new SpongeBlockChangeFlag[INITIAL_CAPACITY];
+    private WorldServer[] worlds = new WorldServer[INITIAL_CAPACITY];
+    private UUID[] creators = new UUID[INITIAL_CAPACITY];
+    private UUID[] notifiers = new UUID[INITIAL_CAPACITY];
+    private SpongeBlockSnapshot[] snapshots = new SpongeBlockSnapshot[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Captures the original state of a block that is about to change.
+     *
+     * @param world The world of the block
+     * @param state The original state of the block
+     * @param pos The position of the block
+     * @param change The type of the change
+     * @param flag The flag the block is changed with
+     */
+    public void capture(IMixinWorldServer world, IBlockState state, BlockPos pos, BlockChange change, BlockChangeFlag flag) {
+        // Matches the tile entity check of IMixinWorldServer#createSpongeBlockSnapshot
+        if (state.getBlock() instanceof ITileEntityProvider) {
+            final SpongeBlockSnapshot snapshot = world.createSpongeBlockSnapshot(state, state, pos, flag);
+            snapshot.blockChange = change;
+            this.add(snapshot);
+            return;
+        }
+        final World spongeWorld = (World) world;
+        final int index = this.prepareInsert(this.size);
+        this.positions[index] = pos.toLong();
+        this.states[index] = state;
+        this.changes[index] = change;
+        this.flags[index] = (SpongeBlockChangeFlag) flag;
+        this.worlds[index] = world.asMinecraftWorld();
+        this.creators[index] = spongeWorld.getCreator(pos.getX(), pos.getY(), pos.getZ()).orElse(null);
+        this.notifiers[index] = spongeWorld.getNotifier(pos.getX(), pos.getY(), pos.getZ()).orElse(null);
+        this.snapshots[index] = null;
+        this.indexPosition(this.positions[index]);
+    }
+
+    /**
+     * Removes the last captured block change, for when the block didn't change
+     * after all.
+     */
+    public void removeLast() {
+        if (this.size > 0) {
+            this.remove(this.size - 1);
+        }
+    }
+
+    /**
+     * Gets whether a block change is captured at the given position.
+     *
+     * @param pos The position to check
+     * @return True if a block change is captured at the position
+     */
+    public boolean hasCapturedAt(BlockPos pos) {
+        return this.positionCounts.containsKey(pos.toLong());
+    }
+
+    public BlockPos getBlockPos(int index) {
+        this.checkIndex(index);
+        return BlockPos.fromLong(this.positions[index]);
+    }
+
+    public IBlockState getState(int index) {
+        this.checkIndex(index);
+        return this.states[index];
+    }
+
+    public BlockChange getBlockChange(int index) {
+        this.checkIndex(index);
+        return this.changes[index];
+    }
+
+    public SpongeBlockChangeFlag getChangeFlag(int index) {
+        this.checkIndex(index);
+        return this.flags[index];
+    }
+
+    public WorldServer getWorld(int index) {
+        this.checkIndex(index);
+        return this.worlds[index];
+    }
+
+    @Override
+    public BlockSnapshot get(int index) {
+        this.checkIndex(index);
+        SpongeBlockSnapshot snapshot = this.snapshots[index];
+        if (snapshot == null) {
+            final BlockState state = (BlockState) this.states[index];
+            final BlockPos pos = BlockPos.fromLong(this.positions[index]);
+            final SpongeBlockSnapshotBuilder builder = new SpongeBlockSnapshotBuilder()
+                    .blockState(state)
+                    .extendedState(state)
+                    .worldId(((World) this.worlds[index]).getUniqueId())
+                    .position(VecHelper.toVector3i(pos));
+            if (this.creators[index] != null) {
+                builder.creator(this.creators[index]);
+            }
+            if (this.notifiers[index] != null) {
+                builder.notifier(this.notifiers[index]);
+            }
+            snapshot = new SpongeBlockSnapshot(builder, this.flags[index]);
+            snapshot.blockChange = this.changes[index];
+            this.snapshots[index] = snapshot;
+        }
+        return snapshot;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public BlockSnapshot set(int index, BlockSnapshot element) {
+        final BlockSnapshot previous = this.get(index);
+        this.unindexPosition(this.positions[index]);
+        this.store(index, (SpongeBlockSnapshot) element);
+        return previous;
+    }
+
+    @Override
+    public void add(int index, BlockSnapshot element) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+        }
+        this.store(this.prepareInsert(index), (SpongeBlockSnapshot) element);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends BlockSnapshot> collection) {
+        if (!(collection instanceof CapturedBlockList)) {
+            return super.addAll(collection);
+        }
+        // Copy the other captures as they are, without creating their snapshots
+        final CapturedBlockList other = (CapturedBlockList) collection;
+        final int count = other.size;
+        if (count == 0) {
+            return false;
+        }
+        this.ensureCapacity(this.size + count);
+        System.arraycopy(other.positions, 0, this.positions, this.size, count);
+        System.arraycopy(other.states, 0, this.states, this.size, count);
+        System.arraycopy(other.changes, 0, this.changes, this.size, count);
+        System.arraycopy(other.flags, 0, this.flags, this.size, count);
+        System.arraycopy(other.worlds, 0, this.worlds, this.size, count);
+        System.arraycopy(other.creators, 0, this.creators, this.size, count);
+        System.arraycopy(other.notifiers, 0, this.notifiers, this.size, count);
+        System.arraycopy(other.snapshots, 0, this.snapshots, this.size, count);
+        for (int i = 0; i < count; i++) {
+            this.indexPosition(other.positions[i]);
+        }
+        this.size += count;
+        this.modCount++;
+        return true;
+    }
+
+    @Override
+    public BlockSnapshot remove(int index) {
+        final BlockSnapshot removed = this.get(index);
+        this.unindexPosition(this.positions[index]);
+        final int moved = this.size - index - 1;
+        if (moved > 0) {
+            System.arraycopy(this.positions, index + 1, this.positions, index, moved);
+            System.arraycopy(this.states, index + 1, this.states, index, moved);
+            System.arraycopy(this.changes, index + 1, this.changes, index, moved);
+            System.arraycopy(this.flags, index + 1, this.flags, index, moved);
+            System.arraycopy(this.worlds, index + 1, this.worlds, index, moved);
+            System.arraycopy(this.creators, index + 1, this.creators, index, moved);
+            System.arraycopy(this.notifiers, index + 1, this.notifiers, index, moved);
+            System.arraycopy(this.snapshots, index + 1, this.snapshots, index, moved);
+        }
+        this.size--;
+        this.release(this.size, this.size + 1);
+        this.modCount++;
+        return removed;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        // Snapshots are almost always removed right after they were captured
+        final int index = this.lastIndexOf(o);
+        if (index < 0) {
+            return false;
+        }
+        this.remove(index);
+        return true;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        if (!(o instanceof SpongeBlockSnapshot)) {
+            return -1;
+        }
+        final long pos = ((SpongeBlockSnapshot) o).getBlockPos().toLong();
+        for (int i = 0; i < this.size; i++) {
+            if (this.positions[i] == pos && this.get(i).equals(o)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        if (!(o instanceof SpongeBlockSnapshot)) {
+            return -1;
+        }
+        final long pos = ((SpongeBlockSnapshot) o).getBlockPos().toLong();
+        for (int i = this.size - 1; i >= 0; i--) {
+            if (this.positions[i] == pos && this.get(i).equals(o)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof SpongeBlockSnapshot && this.hasCapturedAt(((SpongeBlockSnapshot) o).getBlockPos()) && this.lastIndexOf(o) >= 0;
+    }
+
+    @Override
+    public void clear() {
+        if (this.positions.length > RETAINED_CAPACITY) {
+            this.positions = new long[INITIAL_CAPACITY];
+            this.states = new IBlockState[INITIAL_CAPACITY];
+            this.changes = new BlockChange[INITIAL_CAPACITY];
+            this.flags = new SpongeBlockChangeFlag[INITIAL_CAPACITY];
+            this.worlds = new WorldServer[INITIAL_CAPACITY];
+            this.creators = new UUID[INITIAL_CAPACITY];
+            this.notifiers = new UUID[INITIAL_CAPACITY];
+            this.snapshots = new SpongeBlockSnapshot[INITIAL_CAPACITY];
+        } else {
+            this.release(0, this.size);
+        }
+        this.size = 0;
+        this.positionCounts.clear();
+        this.positionCounts.trim(RETAINED_CAPACITY);
+        this.modCount++;
+    }
+
+    private void store(int index, SpongeBlockSnapshot snapshot) {
+        this.positions[index] = snapshot.getBlockPos().toLong();
+        this.states[index] = (IBlockState) snapshot.getState();
+        this.changes[index] = snapshot.blockChange;
+        this.flags[index] = snapshot.getChangeFlag();
+        this.worlds[index] = (WorldServer) Sponge.getServer().getWorld(snapshot.getWorldUniqueId()).orElse(null);
+        this.creators[index] = snapshot.getCreator().orElse(null);
+        this.notifiers[index] = snapshot.getNotifier().orElse(null);
+        this.snapshots[index] = snapshot;
+        this.indexPosition(this.positions[index]);
+    }
+
+    /**
+     * Makes room for a new capture at the given index.
+     *
+     * @param index The index of the new capture
+     * @return The index
+     */
+    private int prepareInsert(int index) {
+        this.ensureCapacity(this.size + 1);
+        final int moved = this.size - index;
+        if (moved > 0) {
+            System.arraycopy(this.positions, index, this.positions, index + 1, moved);
+            System.arraycopy(this.states, index, this.states, index + 1, moved);
+            System.arraycopy(this.changes, index, this.changes, index + 1, moved);
+            System.arraycopy(this.flags, index, this.flags, index + 1, moved);
+            System.arraycopy(this.worlds, index, this.worlds, index + 1, moved);
+            System.arraycopy(this.creators, index, this.creators, index + 1, moved);
+            System.arraycopy(this.notifiers, index, this.notifiers, index + 1, moved);
+            System.arraycopy(this.snapshots, index, this.snapshots, index + 1, moved);
+        }
+        this.size++;
+        this.modCount++;
+        return index;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= this.positions.length) {
+            return;
+        }
+        final int newCapacity = Math.max(capacity, this.positions.length << 1);
+        this.positions = Arrays.copyOf(this.positions, newCapacity);
+        this.states = Arrays.copyOf(this.states, newCapacity);
+        this.changes = Arrays.copyOf(this.changes, newCapacity);
+        this.flags = Arrays.copyOf(this.flags, newCapacity);
+        this.worlds = Arrays.copyOf(this.worlds, newCapacity);
+        this.creators = Arrays.copyOf(this.creators, newCapacity);
+        this.notifiers = Arrays.copyOf(this.notifiers, newCapacity);
+        this.snapshots = Arrays.copyOf(this.snapshots, newCapacity);
+    }
+
+    /**
+     * Drops the references held by the given range of slots, so the reused
+     * arrays don't keep worlds or snapshots alive.
+     */
+    private void release(int from, int to) {
+        Arrays.fill(this.states, from, to, null);
+        Arrays.fill(this.changes, from, to, null);
+        Arrays.fill(this.flags, from, to, null);
+        Arrays.fill(this.worlds, from, to, null);
+        Arrays.fill(this.creators, from, to, null);
+        Arrays.fill(this.notifiers, from, to, null);
+        Arrays.fill(this.snapshots, from, to, null);
+    }
+
+    private void indexPosition(long pos) {
+        this.positionCounts.addTo(pos, 1);
+    }
+
+    private void unindexPosition(long pos) {
+        if (this.positionCounts.addTo(pos, -1) <= 1) {
+            this.positionCounts.remove(pos);
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+        }
+    }
+}
@@ -24,10 +24,92 @@
  */
 package org.spongepowered.common.event.tracking.context;
 
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.util.math.BlockPos;
 import org.spongepowered.api.block.BlockSnapshot;
+import org.spongepowered.api.world.BlockChangeFlag;
+import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+import org.spongepowered.common.world.BlockChange;
+
+import java.util.List;
+
+import javax.annotation.Nullable;
 
 public final class CapturedBlocksSupplier extends CapturedSupplier<BlockSnapshot> {
 
+    // Kept so processing the captures doesn't allocate a new buffer every time
+    @Nullable private CapturedBlockList spare;
+
     public CapturedBlocksSupplier() {
     }
+
+    @Override
+    List<BlockSnapshot> createList() {
+        return new CapturedBlockList();
+    }
+
+    /**
+     * Captures the original state of a block that is about to change, without
+     * creating its {@link BlockSnapshot} until the captures are read.
+     *
+     * @param world The world of the block
+     * @param state The original state of the block
+     * @param pos The position of the block
+     * @param change The type of the change
+     * @param flag The flag the block is changed with
+     */
+    public void capture(IMixinWorldServer world, IBlockState state, BlockPos pos, BlockChange change, BlockChangeFlag flag) {
+        ((CapturedBlockList) this.get()).capture(world, state, pos, change, flag);
+    }
+
+    /**
+     * Removes the last captured block change, for when the block didn't change
+     * after all.
+     */
+    public void removeLastCapture() {
+        if (!this.isEmpty()) {
+            ((CapturedBlockList) this.get()).removeLast();
+        }
+    }
+
+    /**
+     * Gets whether a block change is captured at the given position.
+     *
+     * @param pos The position to check
+     * @return True if a block change is captured at the position
+     */
+    public boolean hasCapturedAt(BlockPos pos) {
+        return !this.isEmpty() && ((CapturedBlockList) this.get()).hasCapturedAt(pos);
+    }
+
+    /**
+     * Moves all the captured block changes to a reused buffer and clears this
+     * supplier, so block changes that happen while the buffer is processed are
+     * captured separately. The buffer has to be given back through
+     * {@link #releaseBuffer(CapturedBlockList)}.
+     *
+     * @return The buffer with the captured block changes
+     */
+    public CapturedBlockList drainToBuffer() {
+        CapturedBlockList buffer = this.spare;
+        this.spare = null;
+        if (buffer == null) {
+            buffer = new CapturedBlockList();
+        }
+        if (!this.isEmpty()) {
+            buffer.addAll(this.get());
+            this.get().clear();
+        }
+        return buffer;
+    }
+
+    /**
+     * Clears and keeps the given buffer for the next {@link #drainToBuffer()}.
+     *
+     * @param buffer The buffer
+     */
+    public void releaseBuffer(CapturedBlockList buffer) {
+        buffer.clear();
+        this.spare = buffer;
+    }
 }
@@ -62,6 +62,15 @@ public final boolean isEmpty() {
         return this.captured == null || this.captured.isEmpty();
     }
 
+    /**
+     * Clears all captures, the multimap itself is kept to be reused.
+     */
+    public final void clear() {
+        if (this.captured != null) {
+            this.captured.clear();
+        }
+    }
+
     /**
      * If not empty, activates the {@link BiConsumer} with captures.
      * 
@@ -43,11 +43,21 @@
     @Override
     public final List<T> get() {
         if (this.captured == null) {
-            this.captured = new ArrayList<>();
+            this.captured = this.createList();
         }
         return this.captured;
     }
 
+    /**
+     * Creates the list that holds the captured objects, it is created once
+     * and reused for the lifetime of this supplier.
+     *
+     * @return The new list
+     */
+    List<T> createList() {
+        return new ArrayList<>();
+    }
+
     /**
      * Returns {@code true} if there are no captured objects.
      * 
@@ -57,6 +67,15 @@ public final boolean isEmpty() {
         return this.captured == null || this.captured.isEmpty();
     }
 
+    /**
+     * Clears all captures, the list itself is kept to be reused.
+     */
+    public final void clear() {
+        if (this.captured != null) {
+            this.captured.clear();
+        }
+    }
+
     /**
      * If not empty, activates the consumer then clears all captures.
      * 
@@ -52,7 +52,6 @@
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.world.BlockChange;
 import org.spongepowered.common.world.SpongeBlockChangeFlag;
-import org.spongepowered.common.world.SpongeProxyBlockAccess;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -96,25 +95,9 @@ private static final class Holder {
     public static void processBlockTransactionListsPost(PhaseContext<?> postContext, List<BlockSnapshot> snapshotsToProcess,
                                                         IPhaseState<?> unwindingState, PhaseContext<?> unwinding) {
         final List<Transaction<BlockSnapshot>> invalidTransactions = new ArrayList<>();
-        ImmutableList<Transaction<BlockSnapshot>>[] transactionArrays = new ImmutableList[TrackingUtil.EVENT_COUNT];
-        ImmutableList.Builder<Transaction<BlockSnapshot>>[] transactionBuilders = new ImmutableList.Builder[TrackingUtil.EVENT_COUNT];
-        for (int i = 0; i < TrackingUtil.EVENT_COUNT; i++) {
-            transactionBuilders[i] = new ImmutableList.Builder<>();
-        }
+        final ImmutableList<Transaction<BlockSnapshot>>[] transactionArrays = TrackingUtil.createTransactionArrays(snapshotsToProcess);
         final List<ChangeBlockEvent> blockEvents = new ArrayList<>();
 
-        for (BlockSnapshot snapshot : snapshotsToProcess) {
-            // This processes each snapshot to assign them to the correct event in the next area, with the
-            // correct builder array entry.
-            TrackingUtil.TRANSACTION_PROCESSOR.apply(transactionBuilders)
-                    .accept(TrackingUtil.TRANSACTION_CREATION.apply(snapshot));
-        }
-
-        for (int i = 0; i < TrackingUtil.EVENT_COUNT; i++) {
-            // Build each event array
-            transactionArrays[i] = transactionBuilders[i].build();
-        }
-
         // Clear captured snapshots after processing them
         postContext.getCapturedBlocksOrEmptyList().clear();
 
@@ -183,9 +166,6 @@ public static void processBlockTransactionListsPost(PhaseContext<?> postContext,
     @SuppressWarnings("unchecked")
     private static void performPostBlockAdditions(PhaseContext<?> postContext, List<Transaction<BlockSnapshot>> transactions,
                                                   IPhaseState<?> unwindingState, PhaseContext<?> unwindingPhaseContext) {
-        // We have to use a proxy so that our pending changes are notified such that any accessors from block
-        // classes do not fail on getting the incorrect block state from the IBlockAccess
-        final SpongeProxyBlockAccess proxyBlockAccess = new SpongeProxyBlockAccess(transactions);
         final CapturedMultiMapSupplier<BlockPos, ItemDropData> capturedBlockDrops = postContext.getBlockDropSupplier();
         final CapturedMultiMapSupplier<BlockPos, EntityItem> capturedBlockItemEntityDrops = postContext.getBlockItemDropSupplier();
         for (Transaction<BlockSnapshot> transaction : transactions) {
@@ -230,8 +210,6 @@ private static void performPostBlockAdditions(PhaseContext<?> postContext, List<
                 });
             }
 
-            proxyBlockAccess.proceed();
-
             ((IPhaseState) unwindingState).handleBlockChangeWithUser(oldBlockSnapshot.blockChange, transaction, unwindingPhaseContext);
 
             if (spongeFlag.isNotifyClients()) {
@@ -26,7 +26,6 @@
 
 import static org.spongepowered.common.event.tracking.TrackingUtil.iterateChangeBlockEvents;
 
-import com.flowpowered.math.vector.Vector3i;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import net.minecraft.util.math.BlockPos;
@@ -51,7 +50,6 @@
 import org.spongepowered.common.event.tracking.TrackingUtil;
 import org.spongepowered.common.interfaces.world.IMixinLocation;
 import org.spongepowered.common.registry.type.event.InternalSpawnTypes;
-import org.spongepowered.common.util.VecHelper;
 import org.spongepowered.common.world.BlockChange;
 
 import java.util.ArrayList;
@@ -111,23 +109,9 @@ private void processBlockCaptures(List<BlockSnapshot> snapshots, Explosion explo
         if (snapshots.isEmpty()) {
             return;
         }
-        ImmutableList<Transaction<BlockSnapshot>>[] transactionArrays = new ImmutableList[TrackingUtil.EVENT_COUNT];
-        ImmutableList.Builder<Transaction<BlockSnapshot>>[] transactionBuilders = new ImmutableList.Builder[TrackingUtil.EVENT_COUNT];
-        for (int i = 0; i < TrackingUtil.EVENT_COUNT; i++) {
-            transactionBuilders[i] = new ImmutableList.Builder<>();
-        }
+        final ImmutableList<Transaction<BlockSnapshot>>[] transactionArrays = TrackingUtil.createTransactionArrays(snapshots);
         final List<ChangeBlockEvent> blockEvents = new ArrayList<>();
 
-        for (BlockSnapshot snapshot : snapshots) {
-            // This processes each snapshot to assign them to the correct event in the next area, with the
-            // correct builder array entry.
-            TrackingUtil.TRANSACTION_PROCESSOR.apply(transactionBuilders).accept(TrackingUtil.TRANSACTION_CREATION.apply(snapshot));
-        }
-        for (int i = 0; i < TrackingUtil.EVENT_COUNT; i++) {
-            // Build each event array
-            transactionArrays[i] = transactionBuilders[i].build();
-        }
-
         // Clear captured snapshots after processing them
         context.getCapturedBlocksOrEmptyList().clear();
 
@@ -227,13 +211,7 @@ private void processBlockCaptures(List<BlockSnapshot> snapshots, Explosion explo
 
     @Override
     public boolean shouldCaptureBlockChangeOrSkip(ExplosionContext phaseContext, BlockPos pos) {
-        final Vector3i blockPos = VecHelper.toVector3i(pos);
-        for (final BlockSnapshot capturedSnapshot : phaseContext.getCapturedBlocks()) {
-            if (capturedSnapshot.getPosition().equals(blockPos)) {
-                return true;
-            }
-        }
-        return false;
+        return phaseContext.getCapturedBlockSupplier().hasCapturedAt(pos);
     }
 
     @Override
@@ -26,8 +26,8 @@
 
 import net.minecraft.entity.item.EntityItem;
 import net.minecraft.entity.item.EntityXPOrb;
+import net.minecraft.util.math.BlockPos;
 import org.spongepowered.api.Sponge;
-import org.spongepowered.api.block.BlockSnapshot;
 import org.spongepowered.api.entity.Entity;
 import org.spongepowered.api.entity.living.player.User;
 import org.spongepowered.api.event.CauseStackManager;
@@ -41,6 +41,7 @@
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.entity.EntityUtil;
 import org.spongepowered.common.event.tracking.PhaseContext;
+import org.spongepowered.common.event.tracking.PhaseContextPool;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.TrackingUtil;
 import org.spongepowered.common.event.tracking.phase.general.ExplosionContext;
@@ -53,6 +54,8 @@
 class BlockTickPhaseState extends LocationBasedTickPhaseState<BlockTickContext> {
 
     private final String name;
+    private final PhaseContextPool<BlockTickContext> contextPool = new PhaseContextPool<>(() -> new BlockTickContext(this)
+            .addCaptures());
 
     BlockTickPhaseState(String name) {
         this.name = name;
@@ -60,8 +63,7 @@ class BlockTickPhaseState extends LocationBasedTickPhaseState<BlockTickContext>
 
     @Override
     public BlockTickContext createPhaseContext() {
-        return new BlockTickContext(this)
-                .addCaptures();
+        return this.contextPool.acquire();
     }
 
     @Override
@@ -163,10 +165,9 @@ public boolean spawnEntityOrCapture(BlockTickContext context, Entity entity, int
     }
 
     @Override
-    public void postTrackBlock(BlockSnapshot snapshot, PhaseTracker tracker, BlockTickContext context) {
+    public void postTrackBlock(BlockPos pos, PhaseTracker tracker, BlockTickContext context) {
         if (context.shouldProcessImmediately()) {
             TrackingUtil.processBlockCaptures(context.getCapturedBlocks(), this, context);
-            context.getCapturedBlockSupplier().get().remove(snapshot);
         }
 
     }
@@ -54,6 +54,7 @@
 import org.spongepowered.api.world.World;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.entity.EntityUtil;
+import org.spongepowered.common.event.tracking.PhaseContextPool;
 import org.spongepowered.common.event.tracking.TrackingUtil;
 import org.spongepowered.common.event.tracking.phase.general.ExplosionContext;
 import org.spongepowered.common.interfaces.world.IMixinLocation;
@@ -71,6 +72,8 @@
 
 class EntityTickPhaseState extends TickPhaseState<EntityTickContext> {
 
+    private final PhaseContextPool<EntityTickContext> contextPool = new PhaseContextPool<>(() -> new EntityTickContext().addCaptures());
+
     EntityTickPhaseState() {
     }
     @SuppressWarnings("unchecked")
@@ -305,7 +308,7 @@ and potentially world, which results in a dirty world usage (since the world tra
 
     @Override
     public EntityTickContext createPhaseContext() {
-        return new EntityTickContext().addCaptures();
+        return this.contextPool.acquire();
     }
 
     @SuppressWarnings("OptionalGetWithoutIsPresent")
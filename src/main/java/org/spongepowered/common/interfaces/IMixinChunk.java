@@ -25,6 +25,9 @@
 package org.spongepowered.common.interfaces;
 
 import com.flowpowered.math.vector.Vector3d;
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.shorts.Short2LongMap;
+import it.unimi.dsi.fastutil.shorts.ShortSet;
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.util.math.BlockPos;
@@ -39,11 +42,9 @@
 import org.spongepowered.common.entity.PlayerTracker;
 
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 
@@ -51,9 +52,21 @@
 
 public interface IMixinChunk {
 
-    Map<Short, PlayerTracker> getTrackedShortPlayerPositions();
-
-    Map<Integer, PlayerTracker> getTrackedIntPlayerPositions();
+    /**
+     * Gets the tracked positions up to y 255, mapped to their owner and
+     * notifier indices packed with {@link PlayerTracker#pack(int, int)}.
+     *
+     * @return The tracked positions
+     */
+    Short2LongMap getTrackedShortPlayerPositions();
+
+    /**
+     * Gets the tracked positions above y 255, mapped to their owner and
+     * notifier indices packed with {@link PlayerTracker#pack(int, int)}.
+     *
+     * @return The tracked positions
+     */
+    Int2LongMap getTrackedIntPlayerPositions();
 
     Optional<User> getBlockOwner(BlockPos pos);
 
@@ -75,9 +88,9 @@ public interface IMixinChunk {
 
     void addTrackedBlockPosition(Block block, BlockPos pos, User user, PlayerTracker.Type trackerType);
 
-    void setTrackedIntPlayerPositions(Map<Integer, PlayerTracker> trackedPlayerPositions);
+    void setTrackedIntPlayerPositions(Int2LongMap trackedPlayerPositions);
 
-    void setTrackedShortPlayerPositions(Map<Short, PlayerTracker> trackedPlayerPositions);
+    void setTrackedShortPlayerPositions(Short2LongMap trackedPlayerPositions);
 
     void setNeighbor(Direction direction, Chunk neighbor);
 
@@ -117,7 +130,7 @@ void getIntersectingEntities(Vector3d start, Vector3d direction, double distance
 
     boolean isQueuedForUnload();
 
-    CopyOnWriteArrayList<Short> getQueuedLightingUpdates(EnumSkyBlock type);
+    ShortSet getQueuedLightingUpdates(EnumSkyBlock type);
 
     void markChunkDirty();
 }
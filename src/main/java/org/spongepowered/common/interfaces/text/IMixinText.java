@@ -24,12 +24,23 @@
  */
 package org.spongepowered.common.interfaces.text;
 
+import net.minecraft.network.play.server.SPacketChat;
+import net.minecraft.util.text.ChatType;
 import net.minecraft.util.text.ITextComponent;
 
 public interface IMixinText {
 
     ITextComponent toComponent();
 
+    /**
+     * Gets a chat packet for this text which may be shared by all of its
+     * recipients, so it is only serialized once when it is broadcast.
+     *
+     * @param type The chat type
+     * @return The chat packet
+     */
+    SPacketChat toChatPacket(ChatType type);
+
     String toPlain();
 
     String toPlainSingle();
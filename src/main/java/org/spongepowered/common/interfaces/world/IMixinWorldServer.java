@@ -43,11 +43,11 @@
 import org.spongepowered.common.config.type.GeneralConfigBase;
 import org.spongepowered.common.config.type.WorldConfig;
 import org.spongepowered.common.entity.EntityUtil;
+import org.spongepowered.common.world.AsyncLightingExecutor;
 import org.spongepowered.common.world.gen.SpongeChunkGenerator;
 import org.spongepowered.common.world.gen.SpongeWorldGenerator;
 
 import java.util.List;
-import java.util.concurrent.ExecutorService;
 
 import javax.annotation.Nullable;
 
@@ -99,7 +99,7 @@ default boolean forceSpawnEntity(Entity entity) {
 
     boolean checkLightAsync(EnumSkyBlock lightType, BlockPos pos, Chunk chunk, List<Chunk> neighbors);
 
-    ExecutorService getLightingExecutor();
+    AsyncLightingExecutor getLightingExecutor();
 
     WorldTimingsHandler getTimingsHandler();
 
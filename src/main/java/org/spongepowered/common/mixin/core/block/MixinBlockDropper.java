@@ -41,6 +41,7 @@
 import org.spongepowered.asm.mixin.injection.Surrogate;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.LocalCapture;
+import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.SpongeCommonEventFactory;
 import org.spongepowered.common.interfaces.IMixinInventory;
 
@@ -91,7 +92,8 @@ private void onDispense(World world, BlockPos pos, CallbackInfo ci,
             BlockSourceImpl blocksourceimpl, TileEntityDispenser tileentitydispenser, int i, ItemStack itemstack,
             EnumFacing enumfacing, BlockPos blockpos, IInventory iinventory) {
         // Before putStackInInventoryAllSlots
-        if (SpongeCommonEventFactory.callTransferPre(toInventory(tileentitydispenser), toInventory(iinventory)).isCancelled()) {
+        if (ShouldFire.CHANGE_INVENTORY_EVENT_TRANSFER_PRE
+                && SpongeCommonEventFactory.callTransferPre(toInventory(tileentitydispenser), toInventory(iinventory))) {
             ci.cancel();
         }
     }
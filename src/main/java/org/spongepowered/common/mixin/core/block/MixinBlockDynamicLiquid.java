@@ -42,6 +42,7 @@
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.common.block.BlockUtil;
+import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.SpongeCommonEventFactory;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 
@@ -53,14 +54,14 @@ public abstract class MixinBlockDynamicLiquid {
     @Inject(method = "canFlowInto", at = @At("HEAD"), cancellable = true)
     public void onCanFlowInto(net.minecraft.world.World worldIn, BlockPos pos, IBlockState state, CallbackInfoReturnable<Boolean> cir) {
         // TODO LIQUID_FLOW flag
-        if (!worldIn.isRemote && SpongeCommonEventFactory.callChangeBlockEventPre((IMixinWorldServer) worldIn, pos).isCancelled()) {
+        if (!worldIn.isRemote && ShouldFire.CHANGE_BLOCK_EVENT_PRE && SpongeCommonEventFactory.callChangeBlockEventPre((IMixinWorldServer) worldIn, pos).isCancelled()) {
             cir.setReturnValue(false);
         }
     }
 
     @Inject(method = "updateTick", at = @At("HEAD"), cancellable = true)
     public void onUpdateTick(net.minecraft.world.World worldIn, BlockPos pos, IBlockState state, Random rand, CallbackInfo ci) {
-        if (!worldIn.isRemote && SpongeCommonEventFactory.callChangeBlockEventPre((IMixinWorldServer) worldIn, pos).isCancelled()) {
+        if (!worldIn.isRemote && ShouldFire.CHANGE_BLOCK_EVENT_PRE && SpongeCommonEventFactory.callChangeBlockEventPre((IMixinWorldServer) worldIn, pos).isCancelled()) {
             ci.cancel();
         }
     }
@@ -69,10 +70,16 @@ public void onUpdateTick(net.minecraft.world.World worldIn, BlockPos pos, IBlock
     @Inject(method = "updateTick", cancellable = true, at = @At(value = "INVOKE",
             target = "Lnet/minecraft/world/World;setBlockState(Lnet/minecraft/util/math/BlockPos;Lnet/minecraft/block/state/IBlockState;)Z"))
     private void beforeSetBlockState(net.minecraft.world.World worldIn, BlockPos sourcePos, IBlockState state, Random rand, CallbackInfo ci) {
+        if (!ShouldFire.CHANGE_BLOCK_EVENT_MODIFY) {
+            return;
+        }
         Location<org.spongepowered.api.world.World> loc = new Location<>(((org.spongepowered.api.world.World) worldIn), sourcePos.getX(), sourcePos.getY(), sourcePos.getZ());
         LocatableBlock source = LocatableBlock.builder().location(loc).build();
         IBlockState newState = Blocks.STONE.getDefaultState();
         ChangeBlockEvent.Modify event = SpongeCommonEventFactory.callChangeBlockEventModifyLiquidMix(worldIn, sourcePos, newState, source);
+        if (event == null) {
+            return;
+        }
         Transaction<BlockSnapshot> transaction = event.getTransactions().get(0);
         if (event.isCancelled() || !transaction.isValid()) {
             ci.cancel();
@@ -89,9 +96,12 @@ private void beforeSetBlockState(net.minecraft.world.World worldIn, BlockPos sou
     private void afterCanFlowInto(net.minecraft.world.World worldIn, BlockPos pos, IBlockState state, int level, CallbackInfo ci) {
         IBlockState defaultState = ((Block) (Object) this).getDefaultState();
         // Do not call events when just flowing into air or same liquid
-        if (state.getMaterial() != Material.AIR && state.getMaterial() != defaultState.getMaterial()) {
+        if (ShouldFire.CHANGE_BLOCK_EVENT_BREAK && state.getMaterial() != Material.AIR && state.getMaterial() != defaultState.getMaterial()) {
             IBlockState newState = defaultState.withProperty(BlockLiquid.LEVEL, level);
             ChangeBlockEvent.Break event = SpongeCommonEventFactory.callChangeBlockEventModifyLiquidBreak(worldIn, pos, newState, 3);
+            if (event == null) {
+                return;
+            }
 
             Transaction<BlockSnapshot> transaction = event.getTransactions().get(0);
             if (event.isCancelled() || !transaction.isValid()) {
@@ -33,7 +33,6 @@
 import net.minecraft.block.Block;
 import net.minecraft.block.properties.IProperty;
 import net.minecraft.block.state.BlockStateBase;
-import net.minecraft.nbt.NBTTagCompound;
 import org.spongepowered.api.block.BlockSnapshot;
 import org.spongepowered.api.block.BlockState;
 import org.spongepowered.api.block.BlockType;
@@ -107,9 +106,7 @@ public BlockSnapshot snapshotFor(Location<World> location) {
             for (DataManipulator<?, ?> manipulator : ((IMixinCustomDataHolder) tileEntity).getCustomManipulators()) {
                 builder.add(manipulator);
             }
-            final NBTTagCompound compound = new NBTTagCompound();
-            ((net.minecraft.tileentity.TileEntity) tileEntity).writeToNBT(compound);
-            builder.unsafeNbt(compound);
+            builder.tileEntity((net.minecraft.tileentity.TileEntity) tileEntity);
         }
         return builder.build();
     }
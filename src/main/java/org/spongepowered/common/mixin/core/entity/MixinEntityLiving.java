@@ -238,6 +238,9 @@ public void onSetAttackTarget(@Nullable EntityLivingBase entitylivingbaseIn, Cal
                     ci.cancel();
                 } else {
                     SetAITargetEvent event = SpongeCommonEventFactory.callSetAttackTargetEvent((Entity) entitylivingbaseIn, this);
+                    if (event == null) {
+                        return;
+                    }
                     if (event.isCancelled()) {
                         ci.cancel();
                     } else {
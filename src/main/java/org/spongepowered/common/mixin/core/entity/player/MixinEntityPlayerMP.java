@@ -56,7 +56,6 @@
 import net.minecraft.network.Packet;
 import net.minecraft.network.play.client.CPacketClientSettings;
 import net.minecraft.network.play.server.SPacketBlockChange;
-import net.minecraft.network.play.server.SPacketChat;
 import net.minecraft.network.play.server.SPacketCombatEvent;
 import net.minecraft.network.play.server.SPacketCustomSound;
 import net.minecraft.network.play.server.SPacketEntityProperties;
@@ -183,6 +182,7 @@
 import org.spongepowered.common.interfaces.entity.player.IMixinEntityPlayer;
 import org.spongepowered.common.interfaces.entity.player.IMixinEntityPlayerMP;
 import org.spongepowered.common.interfaces.network.IMixinNetHandlerPlayServer;
+import org.spongepowered.common.interfaces.text.IMixinText;
 import org.spongepowered.common.interfaces.text.IMixinTitle;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.item.inventory.util.ItemStackUtil;
@@ -501,12 +501,8 @@ public void sendMessage(ChatType type, Text message) {
         checkNotNull(type, "type");
         checkNotNull(message, "message");
 
-        ITextComponent component = SpongeTexts.toComponent(message);
-        if (type == ChatTypes.ACTION_BAR) {
-            component = SpongeTexts.fixActionBarFormatting(component);
-        }
-
-        this.connection.sendPacket(new SPacketChat(component, (net.minecraft.util.text.ChatType) (Object) type));
+        // The packet is shared by all recipients of the text, so it's only serialized once when broadcast
+        this.connection.sendPacket(((IMixinText) message).toChatPacket((net.minecraft.util.text.ChatType) (Object) type));
     }
 
     /**
@@ -72,6 +72,7 @@
 import net.minecraft.util.EnumHand;
 import net.minecraft.util.IntHashMap;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.math.RayTraceResult;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.util.text.ITextComponent;
@@ -109,7 +110,9 @@
 import org.spongepowered.asm.mixin.injection.callback.LocalCapture;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.SpongeImplHooks;
+import org.spongepowered.common.config.category.MovementChecksCategory;
 import org.spongepowered.common.entity.player.tab.SpongeTabList;
+import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.SpongeCommonEventFactory;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.PhaseData;
@@ -425,68 +428,81 @@ private boolean throwMoveEvent(EntityPlayerMP playerMP, CPacketPlayer packetIn)
             }
 
             // Sponge Start - Movement event
-            Player player = (Player) this.player;
-            IMixinEntityPlayerMP mixinPlayer = (IMixinEntityPlayerMP) this.player;
-            Vector3d fromrot = player.getRotation();
-
-            // If Sponge used the player's current location, the delta might never be triggered which could be exploited
-            Location<World> from = player.getLocation();
-            if (this.lastMoveLocation != null) {
-                from = this.lastMoveLocation;
-            }
-
-            Vector3d torot = new Vector3d(packetIn.pitch, packetIn.yaw, 0);
-            Location<World> to = new Location<>(player.getWorld(), packetIn.x, packetIn.y, packetIn.z);
+            final IMixinEntityPlayerMP mixinPlayer = (IMixinEntityPlayerMP) this.player;
+            final MovementChecksCategory movementChecks = SpongeImpl.getGlobalConfig().getConfig().getMovementChecks();
 
             // Minecraft sends a 0, 0, 0 position when rotation only update occurs, this needs to be recognized and corrected
-            boolean rotationOnly = !packetIn.moving && packetIn.rotating;
-
-            if (rotationOnly) {
-                // Correct the to location so it's not misrepresented to plugins, only when player rotates without moving
-                // In this case it's only a rotation update, which isn't related to the to location
-                from = player.getLocation();
-                to = from;
-            }
-
+            final boolean rotationOnly = !packetIn.moving && packetIn.rotating;
             // Minecraft does the same with rotation when it's only a positional update
-            boolean positionOnly = packetIn.moving && !packetIn.rotating;
-            if (positionOnly) {
-                // Correct the new rotation to match the old rotation
-                torot = fromrot;
-            }
+            final boolean positionOnly = packetIn.moving && !packetIn.rotating;
 
-            ((IMixinEntityPlayerMP) this.player).setVelocityOverride(to.getPosition().sub(from.getPosition()));
-
-            double deltaSquared = to.getPosition().distanceSquared(from.getPosition());
-            double deltaAngleSquared = fromrot.distanceSquared(torot);
-
-            // These magic numbers are sad but help prevent excessive lag from this event.
-            // eventually it would be nice to not have them
-            if (deltaSquared > ((1f / 16) * (1f / 16)) || deltaAngleSquared > (.15f * .15f)) {
-                Transform<World> fromTransform = player.getTransform().setLocation(from).setRotation(fromrot);
-                Transform<World> toTransform = player.getTransform().setLocation(to).setRotation(torot);
-                Sponge.getCauseStackManager().pushCause(player);
-                MoveEntityEvent event = SpongeEventFactory.createMoveEntityEvent(Sponge.getCauseStackManager().getCurrentCause(), fromTransform, toTransform, player);
-                SpongeImpl.postEvent(event);
-                Sponge.getCauseStackManager().popCause();
-                if (event.isCancelled()) {
-                    mixinPlayer.setLocationAndAngles(fromTransform);
-                    this.lastMoveLocation = from;
-                    ((IMixinEntityPlayerMP) this.player).setVelocityOverride(null);
-                    return true;
-                } else if (!event.getToTransform().equals(toTransform)) {
-                    mixinPlayer.setLocationAndAngles(event.getToTransform());
-                    this.lastMoveLocation = event.getToTransform().getLocation();
-                    ((IMixinEntityPlayerMP) this.player).setVelocityOverride(null);
-                    return true;
-                } else if (!from.equals(player.getLocation()) && this.justTeleported) {
-                    this.lastMoveLocation = player.getLocation();
-                    // Prevent teleports during the move event from causing odd behaviors
-                    this.justTeleported = false;
-                    ((IMixinEntityPlayerMP) this.player).setVelocityOverride(null);
-                    return true;
-                } else {
-                    this.lastMoveLocation = event.getToTransform().getLocation();
+            // If Sponge used the player's current location, the delta might never be triggered which could be exploited
+            // The deltas are computed on primitives so nothing is allocated for packets that don't fire the event
+            final Location<World> lastMove = rotationOnly ? null : this.lastMoveLocation;
+            final double fromX = lastMove == null ? this.player.posX : lastMove.getX();
+            final double fromY = lastMove == null ? this.player.posY : lastMove.getY();
+            final double fromZ = lastMove == null ? this.player.posZ : lastMove.getZ();
+            // Correct the to location so it's not misrepresented to plugins, only when player rotates without moving
+            final double toX = rotationOnly ? fromX : packetIn.x;
+            final double toY = rotationOnly ? fromY : packetIn.y;
+            final double toZ = rotationOnly ? fromZ : packetIn.z;
+            final float fromPitch = this.player.rotationPitch;
+            final float fromYaw = this.player.rotationYaw;
+            // Correct the new rotation to match the old rotation
+            final float toPitch = positionOnly ? fromPitch : packetIn.pitch;
+            final float toYaw = positionOnly ? fromYaw : packetIn.yaw;
+
+            final double deltaX = toX - fromX;
+            final double deltaY = toY - fromY;
+            final double deltaZ = toZ - fromZ;
+            mixinPlayer.setVelocityOverride(new Vector3d(deltaX, deltaY, deltaZ));
+
+            final double deltaSquared = deltaX * deltaX + deltaY * deltaY + deltaZ * deltaZ;
+            final double deltaPitch = toPitch - fromPitch;
+            final double deltaYaw = toYaw - fromYaw;
+            final double deltaAngleSquared = deltaPitch * deltaPitch + deltaYaw * deltaYaw;
+
+            // These thresholds help prevent excessive lag from this event
+            final double positionThreshold = movementChecks.getMoveEventPositionThreshold();
+            final double rotationThreshold = movementChecks.getMoveEventRotationThreshold();
+            if (deltaSquared > positionThreshold * positionThreshold || deltaAngleSquared > rotationThreshold * rotationThreshold) {
+                if (!ShouldFire.MOVE_ENTITY_EVENT) {
+                    // Nobody is listening, there is no reported location to accumulate the movement against
+                    this.lastMoveLocation = null;
+                } else if (!movementChecks.moveEventBlockBoundaryOnly()
+                        || MathHelper.floor(fromX) != MathHelper.floor(toX)
+                        || MathHelper.floor(fromY) != MathHelper.floor(toY)
+                        || MathHelper.floor(fromZ) != MathHelper.floor(toZ)) {
+                    final Player player = (Player) this.player;
+                    final Location<World> from = lastMove == null ? player.getLocation() : lastMove;
+                    final Location<World> to = rotationOnly ? from : new Location<>(player.getWorld(), toX, toY, toZ);
+                    final Vector3d fromrot = new Vector3d(fromPitch, fromYaw, 0);
+                    final Vector3d torot = positionOnly ? fromrot : new Vector3d(toPitch, toYaw, 0);
+                    Transform<World> fromTransform = player.getTransform().setLocation(from).setRotation(fromrot);
+                    Transform<World> toTransform = player.getTransform().setLocation(to).setRotation(torot);
+                    Sponge.getCauseStackManager().pushCause(player);
+                    MoveEntityEvent event = SpongeEventFactory.createMoveEntityEvent(Sponge.getCauseStackManager().getCurrentCause(), fromTransform, toTransform, player);
+                    SpongeImpl.postEvent(event);
+                    Sponge.getCauseStackManager().popCause();
+                    if (event.isCancelled()) {
+                        mixinPlayer.setLocationAndAngles(fromTransform);
+                        this.lastMoveLocation = from;
+                        ((IMixinEntityPlayerMP) this.player).setVelocityOverride(null);
+                        return true;
+                    } else if (!event.getToTransform().equals(toTransform)) {
+                        mixinPlayer.setLocationAndAngles(event.getToTransform());
+                        this.lastMoveLocation = event.getToTransform().getLocation();
+                        ((IMixinEntityPlayerMP) this.player).setVelocityOverride(null);
+                        return true;
+                    } else if (!from.equals(player.getLocation()) && this.justTeleported) {
+                        this.lastMoveLocation = player.getLocation();
+                        // Prevent teleports during the move event from causing odd behaviors
+                        this.justTeleported = false;
+                        ((IMixinEntityPlayerMP) this.player).setVelocityOverride(null);
+                        return true;
+                    } else {
+                        this.lastMoveLocation = event.getToTransform().getLocation();
+                    }
                 }
                 this.resendLatestResourcePackRequest();
             }
@@ -511,7 +527,8 @@ private boolean throwMoveEvent(EntityPlayerMP playerMP, CPacketPlayer packetIn)
     @Redirect(method = "processVehicleMove", at = @At(value = "INVOKE", target = "Lnet/minecraft/entity/player/EntityPlayerMP;getLowestRidingEntity()Lnet/minecraft/entity/Entity;"))
     private Entity processVehicleMoveEvent(EntityPlayerMP playerMP, CPacketVehicleMove packetIn) {
         final Entity ridingEntity = this.player.getLowestRidingEntity();
-        if (ridingEntity == this.player || ridingEntity.getControllingPassenger() != this.player || ridingEntity != this.lowestRiddenEnt) {
+        if (ridingEntity == this.player || ridingEntity.getControllingPassenger() != this.player || ridingEntity != this.lowestRiddenEnt
+                || !ShouldFire.MOVE_ENTITY_EVENT) {
             return ridingEntity;
         }
 
@@ -710,8 +727,8 @@ public void processUseEntity(CPacketUseEntity packetIn) {
 
                     // Is interaction allowed with item in hand
                     if (SpongeCommonEventFactory.callInteractItemEventSecondary(this.player, itemstack, hand, VecHelper.toVector3d(packetIn
-                                    .getHitVec()), entity).isCancelled() || SpongeCommonEventFactory.callInteractEntityEventSecondary(this.player,
-                            entity, hand, VecHelper.toVector3d(entity.getPositionVector().add(packetIn.getHitVec()))).isCancelled()) {
+                                    .getHitVec()), entity) || SpongeCommonEventFactory.callInteractEntityEventSecondary(this.player,
+                            entity, hand, VecHelper.toVector3d(entity.getPositionVector().add(packetIn.getHitVec())))) {
                         // Restore held item in hand
                         int index = ((IMixinInventoryPlayer) this.player.inventory).getHeldItemIndex(hand);
                         Slot slot = this.player.openContainer.getSlotFromInventory(this.player.inventory, index);
@@ -752,7 +769,7 @@ public void processUseEntity(CPacketUseEntity packetIn) {
                         hitVec = result == null ? null : VecHelper.toVector3d(result.hitVec);
                     }
 
-                    if (SpongeCommonEventFactory.callInteractItemEventPrimary(this.player, itemstack, hand, hitVec, entity).isCancelled()) {
+                    if (SpongeCommonEventFactory.callInteractItemEventPrimary(this.player, itemstack, hand, hitVec, entity)) {
                         ((IMixinEntityPlayerMP) this.player).restorePacketItem(hand);
                         return;
                     }
@@ -769,7 +786,7 @@ public void processUseEntity(CPacketUseEntity packetIn) {
                         return; // PVP is disabled, ignore
                     }
 
-                    if (SpongeCommonEventFactory.callInteractEntityEventPrimary(this.player, entity, hand, hitVec).isCancelled()) {
+                    if (SpongeCommonEventFactory.callInteractEntityEventPrimary(this.player, entity, hand, hitVec)) {
                         ((IMixinEntityPlayerMP) this.player).restorePacketItem(hand);
                         return;
                     }
@@ -0,0 +1,54 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.core.network.play.server;
+
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.network.play.server.SPacketTitle;
+import net.minecraft.util.text.ITextComponent;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.common.text.SpongeTexts;
+
+import javax.annotation.Nullable;
+
+@Mixin(SPacketTitle.class)
+public abstract class MixinSPacketTitle {
+
+    // The same packet instance is written to every connection it is broadcast to,
+    // so the serialized component is kept for all but the first of them.
+    @Nullable private volatile byte[] encodedComponent;
+
+    @Redirect(method = "writePacketData", at = @At(value = "INVOKE",
+            target = "Lnet/minecraft/network/PacketBuffer;writeTextComponent(Lnet/minecraft/util/text/ITextComponent;)Lnet/minecraft/network/PacketBuffer;"))
+    private PacketBuffer onWriteTitleMessage(PacketBuffer buffer, ITextComponent component) {
+        byte[] encoded = this.encodedComponent;
+        if (encoded == null) {
+            encoded = SpongeTexts.encodeComponent(component);
+            this.encodedComponent = encoded;
+        }
+        return SpongeTexts.writeEncodedComponent(buffer, encoded);
+    }
+}
@@ -651,7 +651,7 @@ public void onServerTickEnd(CallbackInfo ci) {
                 Sponge.getCauseStackManager().pushCause(player); 
                 if (!player.getHeldItemMainhand().isEmpty()) {
                     if (SpongeCommonEventFactory.callInteractItemEventPrimary(player, player.getHeldItemMainhand(), EnumHand.MAIN_HAND,
-                            result == null ? null : VecHelper.toVector3d(result.hitVec), blockSnapshot).isCancelled()) {
+                            result == null ? null : VecHelper.toVector3d(result.hitVec), blockSnapshot)) {
                         SpongeCommonEventFactory.lastAnimationPacketTick = 0;
                         Sponge.getCauseStackManager().popCause();
                         return;
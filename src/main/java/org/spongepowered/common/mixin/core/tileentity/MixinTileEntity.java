@@ -55,6 +55,7 @@
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.block.CapturedTileEntityData;
 import org.spongepowered.common.block.SpongeTileEntityArchetypeBuilder;
 import org.spongepowered.common.data.nbt.CustomDataNbtUtil;
 import org.spongepowered.common.data.persistence.NbtTranslator;
@@ -88,6 +89,7 @@ public abstract class MixinTileEntity implements TileEntity, IMixinTileEntity {
     private User spongeOwner;
     private boolean hasSetOwner = false;
     private WeakReference<IMixinChunk> activeChunk = new WeakReference<>(null);
+    @Nullable private CapturedTileEntityData capturedData;
 
     @Shadow protected boolean tileEntityInvalid;
     @Shadow protected net.minecraft.world.World world;
@@ -106,6 +108,11 @@ public abstract class MixinTileEntity implements TileEntity, IMixinTileEntity {
 
     @Inject(method = "markDirty", at = @At(value = "HEAD"))
     public void onMarkDirty(CallbackInfo ci) {
+        if (this.capturedData != null) {
+            // The change was already made at this point, so this only keeps later
+            // changes out of snapshots that haven't been written yet
+            CapturedTileEntityData.release((net.minecraft.tileentity.TileEntity) (Object) this);
+        }
         if (this.world != null && !this.world.isRemote) {
             // This handles transfers to this TE from a source such as a Hopper
             PhaseTracker.getInstance().getCurrentPhaseData().context.getSource(TileEntity.class).ifPresent(currentTick -> {
@@ -190,6 +197,13 @@ public BlockState getBlock() {
         return (BlockState) this.world.getBlockState(this.getPos());
     }
 
+    @Inject(method = "invalidate", at = @At("HEAD"))
+    public void onSpongePreInvalidate(CallbackInfo ci) {
+        if (this.capturedData != null) {
+            CapturedTileEntityData.release((net.minecraft.tileentity.TileEntity) (Object) this);
+        }
+    }
+
     @Inject(method = "invalidate", at = @At("RETURN"))
     public void onSpongeInvalidate(CallbackInfo ci) {
         this.setActiveChunk(null);
@@ -312,6 +326,17 @@ public void setActiveChunk(@Nullable IMixinChunk chunk) {
         this.activeChunk = new WeakReference<IMixinChunk>(chunk);
     }
 
+    @Nullable
+    @Override
+    public CapturedTileEntityData getCapturedData() {
+        return this.capturedData;
+    }
+
+    @Override
+    public void setCapturedData(@Nullable CapturedTileEntityData data) {
+        this.capturedData = data;
+    }
+
     @Override
     public boolean shouldTick() {
         final IMixinChunk chunk = this.getActiveChunk();
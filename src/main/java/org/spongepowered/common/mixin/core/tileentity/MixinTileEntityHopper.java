@@ -146,7 +146,7 @@ private static boolean onIsInventoryEmpty(IInventory inventory, EnumFacing facin
         if (result || !ShouldFire.CHANGE_INVENTORY_EVENT_TRANSFER_PRE) {
             return result;
         }
-        return SpongeCommonEventFactory.callTransferPre(toInventory(inventory), toInventory(hopper)).isCancelled();
+        return SpongeCommonEventFactory.callTransferPre(toInventory(inventory), toInventory(hopper));
     }
 
     @Redirect(method = "transferItemsOut", at = @At(value = "INVOKE",
@@ -156,7 +156,7 @@ private boolean onIsInventoryFull(TileEntityHopper hopper, IInventory inventory,
         if (result || !ShouldFire.CHANGE_INVENTORY_EVENT_TRANSFER_PRE) {
             return result;
         }
-        return SpongeCommonEventFactory.callTransferPre(toInventory(hopper), toInventory(inventory)).isCancelled();
+        return SpongeCommonEventFactory.callTransferPre(toInventory(hopper), toInventory(inventory));
     }
 
     // Capture Transactions
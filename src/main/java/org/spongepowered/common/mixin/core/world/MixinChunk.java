@@ -34,6 +34,10 @@
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Predicate;
 import com.google.common.collect.Sets;
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongMaps;
+import it.unimi.dsi.fastutil.shorts.Short2LongMap;
+import it.unimi.dsi.fastutil.shorts.Short2LongMaps;
 import net.minecraft.block.Block;
 import net.minecraft.block.material.Material;
 import net.minecraft.block.state.IBlockState;
@@ -94,7 +98,9 @@
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.SpongeImplHooks;
 import org.spongepowered.common.block.BlockUtil;
+import org.spongepowered.common.block.CapturedTileEntityData;
 import org.spongepowered.common.entity.PlayerTracker;
+import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.SpongeCommonEventFactory;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.PhaseData;
@@ -516,7 +522,7 @@ public void onGetEntitiesWithinAABBForEntity(Entity entityIn, AxisAlignedBB aabb
             return;
         }
 
-        if (listToFill.size() == 0) {
+        if (listToFill.size() == 0 || !ShouldFire.COLLIDE_ENTITY_EVENT) {
             return;
         }
 
@@ -539,7 +545,7 @@ public void onGetEntitiesOfTypeWithinAAAB(Class<? extends Entity> entityClass, A
             return;
         }
 
-        if (listToFill.size() == 0) {
+        if (listToFill.size() == 0 || !ShouldFire.COLLIDE_ENTITY_EVENT) {
             return;
         }
 
@@ -642,6 +648,12 @@ public IBlockState setBlockState(BlockPos pos, IBlockState newState, IBlockState
             if (!this.world.isRemote) {
                 // Sponge - Forge adds this change for block changes to only fire events when necessary
                 if (currentState.getBlock() != newState.getBlock()) {
+                    // Sponge - Write the tile entity data of captured snapshots before breakBlock empties
+                    // containers, removing the tile entity is covered by invalidate
+                    final TileEntity brokenTile = this.getTileEntity(pos, EnumCreateEntityType.CHECK);
+                    if (brokenTile != null) {
+                        CapturedTileEntityData.release(brokenTile);
+                    }
                     currentBlock.breakBlock(this.world, pos, currentState);
                 }
                 // Sponge - Add several tile entity hook checks. Mainly for forge added hooks, but these
@@ -736,13 +748,13 @@ public void addTrackedBlockPosition(Block block, BlockPos pos, User user, Player
     }
 
     @Override
-    public Map<Integer, PlayerTracker> getTrackedIntPlayerPositions() {
-        return Collections.emptyMap();
+    public Int2LongMap getTrackedIntPlayerPositions() {
+        return Int2LongMaps.EMPTY_MAP;
     }
 
     @Override
-    public Map<Short, PlayerTracker> getTrackedShortPlayerPositions() {
-        return Collections.emptyMap();
+    public Short2LongMap getTrackedShortPlayerPositions() {
+        return Short2LongMaps.EMPTY_MAP;
     }
 
     @Override
@@ -776,11 +788,11 @@ public void setBlockCreator(BlockPos pos, @Nullable UUID uuid) {
     }
 
     @Override
-    public void setTrackedIntPlayerPositions(Map<Integer, PlayerTracker> trackedPositions) {
+    public void setTrackedIntPlayerPositions(Int2LongMap trackedPositions) {
     }
 
     @Override
-    public void setTrackedShortPlayerPositions(Map<Short, PlayerTracker> trackedPositions) {
+    public void setTrackedShortPlayerPositions(Short2LongMap trackedPositions) {
     }
 
     // Continuing the rest of the implementation
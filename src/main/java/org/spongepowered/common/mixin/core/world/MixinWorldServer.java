@@ -46,7 +46,6 @@
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.init.Blocks;
 import net.minecraft.init.SoundEvents;
-import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.network.Packet;
 import net.minecraft.network.play.server.SPacketExplosion;
 import net.minecraft.profiler.Profiler;
@@ -158,6 +157,7 @@
 import org.spongepowered.common.effect.record.SpongeRecordType;
 import org.spongepowered.common.effect.sound.SoundEffectHelper;
 import org.spongepowered.common.entity.EntityUtil;
+import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.SpongeCommonEventFactory;
 import org.spongepowered.common.event.tracking.IPhaseState;
 import org.spongepowered.common.event.tracking.PhaseContext;
@@ -863,7 +863,7 @@ private boolean onAddBlockEvent(WorldServer.ServerBlockEventList list, Object ob
 
             blockEvent.setCaptureBlocks(false);
             // TODO BLOCK_EVENT flag
-        } else if (SpongeCommonEventFactory.callChangeBlockEventPre(this, pos).isCancelled()) {
+        } else if (ShouldFire.CHANGE_BLOCK_EVENT_PRE && SpongeCommonEventFactory.callChangeBlockEventPre(this, pos).isCancelled()) {
             return false;
         }
 
@@ -1584,15 +1584,8 @@ public SpongeBlockSnapshot createSpongeBlockSnapshot(IBlockState state, IBlockSt
                 for (DataManipulator<?, ?> manipulator : ((IMixinCustomDataHolder) tile).getCustomManipulators()) {
                     this.builder.add(manipulator);
                 }
-                NBTTagCompound nbt = new NBTTagCompound();
-                // Some mods like OpenComputers assert if attempting to save robot while moving
-                try {
-                    te.writeToNBT(nbt);
-                    this.builder.unsafeNbt(nbt);
-                }
-                catch(Throwable t) {
-                    // ignore
-                }
+                // The data is only written if it is needed before the tile entity changes
+                this.builder.tileEntity(te);
             }
         }
         return new SpongeBlockSnapshot(this.builder, (SpongeBlockChangeFlag) updateFlag);
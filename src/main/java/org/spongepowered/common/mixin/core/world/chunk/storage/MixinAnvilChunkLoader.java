@@ -25,7 +25,10 @@
 package org.spongepowered.common.mixin.core.world.chunk.storage;
 
 import com.flowpowered.math.vector.Vector3d;
-import com.google.common.collect.Maps;
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import it.unimi.dsi.fastutil.shorts.Short2LongMap;
+import it.unimi.dsi.fastutil.shorts.Short2LongOpenHashMap;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityList;
 import net.minecraft.entity.item.EntityMinecart;
@@ -96,34 +99,30 @@ public abstract class MixinAnvilChunkLoader implements IMixinAnvilChunkLoader {
     public void onWriteChunkToNBT(net.minecraft.world.chunk.Chunk chunkIn, World worldIn, NBTTagCompound compound, CallbackInfo ci) {
         IMixinChunk chunk = (IMixinChunk) chunkIn;
 
-        // Add tracked block positions
-        if (chunk.getTrackedShortPlayerPositions().size() > 0 || chunk.getTrackedIntPlayerPositions().size() > 0) {
+        // Add tracked block positions, each as a (position, owner, notifier) triple
+        final Short2LongMap shortPositions = chunk.getTrackedShortPlayerPositions();
+        final Int2LongMap intPositions = chunk.getTrackedIntPlayerPositions();
+        if (!shortPositions.isEmpty() || !intPositions.isEmpty()) {
             NBTTagCompound trackedNbt = new NBTTagCompound();
-            NBTTagList positions = new NBTTagList();
-            trackedNbt.setTag(NbtDataUtil.SPONGE_BLOCK_POS_TABLE, positions);
             compound.setTag(NbtDataUtil.SPONGE_DATA, trackedNbt);
 
-            for (Map.Entry<Short, PlayerTracker> mapEntry : chunk.getTrackedShortPlayerPositions().entrySet()) {
-                Short pos = mapEntry.getKey();
-                Integer ownerUniqueIdIndex = mapEntry.getValue().ownerIndex;
-                Integer notifierUniqueIdIndex = mapEntry.getValue().notifierIndex;
-                NBTTagCompound valueNbt = new NBTTagCompound();
-                valueNbt.setInteger("owner", ownerUniqueIdIndex);
-                valueNbt.setInteger("notifier", notifierUniqueIdIndex);
-                valueNbt.setShort("pos", pos);
-                positions.appendTag(valueNbt);
+            final int[] shortTrackers = new int[shortPositions.size() * 3];
+            int index = 0;
+            for (Short2LongMap.Entry entry : shortPositions.short2LongEntrySet()) {
+                shortTrackers[index++] = entry.getShortKey();
+                shortTrackers[index++] = PlayerTracker.getOwnerIndex(entry.getLongValue());
+                shortTrackers[index++] = PlayerTracker.getNotifierIndex(entry.getLongValue());
             }
+            trackedNbt.setIntArray(NbtDataUtil.SPONGE_SHORT_POS_TRACKERS, shortTrackers);
 
-            for (Map.Entry<Integer, PlayerTracker> mapEntry : chunk.getTrackedIntPlayerPositions().entrySet()) {
-                Integer pos = mapEntry.getKey();
-                Integer ownerUniqueIdIndex = mapEntry.getValue().ownerIndex;
-                Integer notifierUniqueIdIndex = mapEntry.getValue().notifierIndex;
-                NBTTagCompound valueNbt = new NBTTagCompound();
-                valueNbt.setInteger("owner", ownerUniqueIdIndex);
-                valueNbt.setInteger("notifier", notifierUniqueIdIndex);
-                valueNbt.setInteger("ipos", pos);
-                positions.appendTag(valueNbt);
+            final int[] intTrackers = new int[intPositions.size() * 3];
+            index = 0;
+            for (Int2LongMap.Entry entry : intPositions.int2LongEntrySet()) {
+                intTrackers[index++] = entry.getIntKey();
+                intTrackers[index++] = PlayerTracker.getOwnerIndex(entry.getLongValue());
+                intTrackers[index++] = PlayerTracker.getNotifierIndex(entry.getLongValue());
             }
+            trackedNbt.setIntArray(NbtDataUtil.SPONGE_INT_POS_TRACKERS, intTrackers);
         }
     }
 
@@ -131,28 +130,40 @@ public void onWriteChunkToNBT(net.minecraft.world.chunk.Chunk chunkIn, World wor
     public void onReadChunkFromNBT(World worldIn, NBTTagCompound compound, CallbackInfoReturnable<net.minecraft.world.chunk.Chunk> ci, int chunkX,
             int chunkZ, net.minecraft.world.chunk.Chunk chunkIn) {
         if (compound.hasKey(NbtDataUtil.SPONGE_DATA)) {
-            Map<Integer, PlayerTracker> trackedIntPlayerPositions = Maps.newHashMap();
-            Map<Short, PlayerTracker> trackedShortPlayerPositions = Maps.newHashMap();
-            NBTTagList positions = compound.getCompoundTag(NbtDataUtil.SPONGE_DATA).getTagList(NbtDataUtil.SPONGE_BLOCK_POS_TABLE, 10);
+            final NBTTagCompound trackedNbt = compound.getCompoundTag(NbtDataUtil.SPONGE_DATA);
+            final int[] shortTrackers = trackedNbt.getIntArray(NbtDataUtil.SPONGE_SHORT_POS_TRACKERS);
+            final int[] intTrackers = trackedNbt.getIntArray(NbtDataUtil.SPONGE_INT_POS_TRACKERS);
+            Int2LongMap trackedIntPlayerPositions = new Int2LongOpenHashMap(intTrackers.length / 3);
+            Short2LongMap trackedShortPlayerPositions = new Short2LongOpenHashMap(shortTrackers.length / 3);
+            for (int i = 0; i + 2 < shortTrackers.length; i += 3) {
+                trackedShortPlayerPositions.put((short) shortTrackers[i], PlayerTracker.pack(shortTrackers[i + 1], shortTrackers[i + 2]));
+            }
+            for (int i = 0; i + 2 < intTrackers.length; i += 3) {
+                trackedIntPlayerPositions.put(intTrackers[i], PlayerTracker.pack(intTrackers[i + 1], intTrackers[i + 2]));
+            }
+
+            // Migrate the old table of compounds, remove in future
+            NBTTagList positions = trackedNbt.getTagList(NbtDataUtil.SPONGE_BLOCK_POS_TABLE, 10);
             IMixinChunk chunk = (IMixinChunk) chunkIn;
             for (int i = 0; i < positions.tagCount(); i++) {
                 NBTTagCompound valueNbt = positions.getCompoundTagAt(i);
                 boolean isShortPos = valueNbt.hasKey("pos");
-                PlayerTracker tracker = new PlayerTracker();
+                int ownerIndex = -1;
+                int notifierIndex = -1;
                 if (valueNbt.hasKey("owner")) {
-                    tracker.ownerIndex = valueNbt.getInteger("owner");
+                    ownerIndex = valueNbt.getInteger("owner");
                 } else if (valueNbt.hasKey("uuid")) { // Migrate old data, remove in future
-                    tracker.ownerIndex = valueNbt.getInteger("uuid");
+                    ownerIndex = valueNbt.getInteger("uuid");
                 }
                 if (valueNbt.hasKey("notifier")) {
-                    tracker.notifierIndex = valueNbt.getInteger("notifier");
+                    notifierIndex = valueNbt.getInteger("notifier");
                 }
 
-                if (tracker.notifierIndex != -1 || tracker.ownerIndex != -1) {
+                if (notifierIndex != -1 || ownerIndex != -1) {
                     if (isShortPos) {
-                        trackedShortPlayerPositions.put(valueNbt.getShort("pos"), tracker);
+                        trackedShortPlayerPositions.put(valueNbt.getShort("pos"), PlayerTracker.pack(ownerIndex, notifierIndex));
                     } else {
-                        trackedIntPlayerPositions.put(valueNbt.getInteger("ipos"), tracker);
+                        trackedIntPlayerPositions.put(valueNbt.getInteger("ipos"), PlayerTracker.pack(ownerIndex, notifierIndex));
                     }
                 }
             }
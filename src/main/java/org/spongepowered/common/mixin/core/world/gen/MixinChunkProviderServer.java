@@ -65,9 +65,11 @@
 import org.spongepowered.common.util.CachedLong2ObjectMap;
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.world.SpongeEmptyChunk;
+import org.spongepowered.common.world.storage.ParallelChunkDataStream;
 import org.spongepowered.common.world.storage.SpongeChunkDataStream;
 import org.spongepowered.common.world.storage.WorldStorageUtil;
 
+import java.nio.file.Path;
 import java.util.Iterator;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -114,7 +116,11 @@ public ChunkDataStream getGeneratedChunks() {
         if (!(this.chunkLoader instanceof IMixinAnvilChunkLoader)) {
             throw new UnsupportedOperationException("unknown chunkLoader");
         }
-        return new SpongeChunkDataStream(((IMixinAnvilChunkLoader) this.chunkLoader).getWorldDir());
+        final Path worldDir = ((IMixinAnvilChunkLoader) this.chunkLoader).getWorldDir();
+        if (SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getParallelChunkStreamCategory().isEnabled()) {
+            return new ParallelChunkDataStream(worldDir);
+        }
+        return new SpongeChunkDataStream(worldDir);
     }
 
     @Override
@@ -28,8 +28,6 @@
 
 import com.flowpowered.math.vector.Vector3d;
 import com.flowpowered.math.vector.Vector3i;
-import com.google.common.collect.BiMap;
-import com.google.common.collect.HashBiMap;
 import com.google.common.collect.ImmutableMap;
 import com.google.gson.JsonParseException;
 import net.minecraft.nbt.NBTTagCompound;
@@ -87,6 +85,7 @@
 import org.spongepowered.common.util.FunctionalUtil;
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.world.WorldManager;
+import org.spongepowered.common.world.storage.UniqueIdIndexTable;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -149,9 +148,8 @@ public abstract class MixinWorldInfo implements WorldProperties, IMixinWorldInfo
     private boolean generateBonusChest, isValid = true;
     private NBTTagCompound spongeRootLevelNbt = new NBTTagCompound(), spongeNbt = new NBTTagCompound();
     private NBTTagList playerUniqueIdNbt = new NBTTagList();
-    private BiMap<Integer, UUID> playerUniqueIdMap = HashBiMap.create();
+    private final UniqueIdIndexTable playerUniqueIdTable = new UniqueIdIndexTable();
     private List<UUID> pendingUniqueIds = new ArrayList<>();
-    private int trackedUniqueIdCount = 0;
     private SpongeConfig<WorldConfig> worldConfig;
     @SuppressWarnings("unused")
     private ServerScoreboard scoreboard;
@@ -767,19 +765,18 @@ public void setPropertySection(DataQuery path, DataView data) {
 
     @Override
     public int getIndexForUniqueId(UUID uuid) {
-        final Integer index = this.playerUniqueIdMap.inverse().get(uuid);
-        if (index != null) {
+        final int index = this.playerUniqueIdTable.getIndex(uuid);
+        if (index != -1) {
             return index;
         }
 
-        this.playerUniqueIdMap.put(this.trackedUniqueIdCount, uuid);
         this.pendingUniqueIds.add(uuid);
-        return this.trackedUniqueIdCount++;
+        return this.playerUniqueIdTable.getOrCreateIndex(uuid);
     }
 
     @Override
     public Optional<UUID> getUniqueIdForIndex(int index) {
-        return Optional.ofNullable(this.playerUniqueIdMap.get(index));
+        return Optional.ofNullable(this.playerUniqueIdTable.getUniqueId(index));
     }
 
     @Override
@@ -816,7 +813,7 @@ public void readSpongeNbt(NBTTagCompound nbt) {
                 .orElseThrow(FunctionalUtil.invalidArgument("Could not find a DimensionType registered for world '" + this.getWorldName() + "' with dim id: " + this.dimensionId)));
         this.generateBonusChest = nbt.getBoolean(NbtDataUtil.GENERATE_BONUS_CHEST);
         this.portalAgentType = PortalAgentRegistryModule.getInstance().validatePortalAgent(nbt.getString(NbtDataUtil.PORTAL_AGENT_TYPE), this.levelName);
-        this.trackedUniqueIdCount = 0;
+        this.playerUniqueIdTable.clear();
         if (nbt.hasKey(NbtDataUtil.WORLD_SERIALIZATION_BEHAVIOR)) {
             short saveBehavior = nbt.getShort(NbtDataUtil.WORLD_SERIALIZATION_BEHAVIOR);
             if (saveBehavior == 1) {
@@ -832,11 +829,10 @@ public void readSpongeNbt(NBTTagCompound nbt) {
             for (int i = 0; i < playerIdList.tagCount(); i++) {
                 final NBTTagCompound playerId = playerIdList.getCompoundTagAt(i);
                 final UUID playerUuid = playerId.getUniqueId(NbtDataUtil.UUID);
-                final Integer playerIndex = this.playerUniqueIdMap.inverse().get(playerUuid);
-                if (playerIndex == null) {
-                    this.playerUniqueIdMap.put(this.trackedUniqueIdCount++, playerUuid);
+                if (this.playerUniqueIdTable.getIndex(playerUuid) == -1) {
+                    this.playerUniqueIdTable.getOrCreateIndex(playerUuid);
                 } else {
-                    playerIdList.removeTag(i);
+                    playerIdList.removeTag(i--);
                 }
             }
 
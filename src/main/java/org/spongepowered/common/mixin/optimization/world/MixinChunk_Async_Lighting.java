@@ -24,6 +24,9 @@
  */
 package org.spongepowered.common.mixin.optimization.world;
 
+import it.unimi.dsi.fastutil.shorts.ShortOpenHashSet;
+import it.unimi.dsi.fastutil.shorts.ShortSet;
+import it.unimi.dsi.fastutil.shorts.ShortSets;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.init.Blocks;
 import net.minecraft.tileentity.TileEntity;
@@ -44,12 +47,11 @@
 import org.spongepowered.common.interfaces.IMixinChunk;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
+import org.spongepowered.common.world.AsyncLightingExecutor;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -57,12 +59,12 @@
 public abstract class MixinChunk_Async_Lighting implements IMixinChunk {
 
     // Keeps track of block positions in this chunk currently queued for sky light update
-    private CopyOnWriteArrayList<Short> queuedSkyLightingUpdates = new CopyOnWriteArrayList<>();
+    private final ShortSet queuedSkyLightingUpdates = ShortSets.synchronize(new ShortOpenHashSet());
     // Keeps track of block positions in this chunk currently queued for block light update
-    private CopyOnWriteArrayList<Short> queuedBlockLightingUpdates = new CopyOnWriteArrayList<>();
+    private final ShortSet queuedBlockLightingUpdates = ShortSets.synchronize(new ShortOpenHashSet());
     private AtomicInteger pendingLightUpdates = new AtomicInteger();
     private long lightUpdateTime;
-    private ExecutorService lightExecutorService;
+    private AsyncLightingExecutor lightExecutorService;
     private static final List<Chunk> EMPTY_LIST = new ArrayList<>();
     private static final BlockPos DUMMY_POS = new BlockPos(0, 0, 0);
 
@@ -122,7 +124,7 @@ private void onTickHead(boolean skipRecheckGaps, CallbackInfo ci)
             final List<Chunk> neighbors = this.getSurroundingChunks();
             if (this.isGapLightingUpdated && this.world.provider.hasSkyLight() && !skipRecheckGaps && !neighbors.isEmpty())
             {
-                this.lightExecutorService.execute(() -> {
+                this.lightExecutorService.execute(this.x, this.z, () -> {
                     this.recheckGapsAsync(neighbors);
                 });
                 this.isGapLightingUpdated = false;
@@ -132,7 +134,7 @@ private void onTickHead(boolean skipRecheckGaps, CallbackInfo ci)
     
             if (!this.isLightPopulated && this.isTerrainPopulated && !neighbors.isEmpty())
             {
-                this.lightExecutorService.execute(() -> {
+                this.lightExecutorService.execute(this.x, this.z, () -> {
                     this.checkLightAsync(neighbors);
                 });
                 // set to true to avoid requeuing the same task when not finished
@@ -270,7 +272,7 @@ private void checkLightHead(CallbackInfo ci) {
 
             if (SpongeImpl.getServer().isCallingFromMinecraftThread()) {
                 try {
-                    this.lightExecutorService.execute(() -> {
+                    this.lightExecutorService.execute(this.x, this.z, () -> {
                         this.checkLightAsync(neighborChunks);
                     });
                 } catch (RejectedExecutionException e) {
@@ -491,7 +493,7 @@ private List<Chunk> getSurroundingChunks() {
     @Inject(method = "relightBlock", at = @At("HEAD"), cancellable = true)
     private void onRelightBlock(int x, int y, int z, CallbackInfo ci) {
         if (!this.world.isRemote) {
-            this.lightExecutorService.execute(() -> {
+            this.lightExecutorService.execute(this.x, this.z, () -> {
                 this.relightBlockAsync(x, y, z);
             });
             ci.cancel();
@@ -697,7 +699,7 @@ private boolean checkWorldLight(BlockPos pos, List<Chunk> neighbors) {
      * @return The list of queued block positions, empty if none
      */
     @Override
-    public CopyOnWriteArrayList<Short> getQueuedLightingUpdates(EnumSkyBlock type) {
+    public ShortSet getQueuedLightingUpdates(EnumSkyBlock type) {
         if (type == EnumSkyBlock.SKY) {
             return this.queuedSkyLightingUpdates;
         }
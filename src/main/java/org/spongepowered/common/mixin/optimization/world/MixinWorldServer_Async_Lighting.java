@@ -24,7 +24,6 @@
  */
 package org.spongepowered.common.mixin.optimization.world;
 
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
@@ -35,15 +34,15 @@
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.SpongeImplHooks;
+import org.spongepowered.common.config.category.AsyncLightingCategory;
 import org.spongepowered.common.interfaces.IMixinChunk;
 import org.spongepowered.common.interfaces.util.math.IMixinBlockPos;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
 import org.spongepowered.common.mixin.core.world.MixinWorld;
+import org.spongepowered.common.world.AsyncLightingExecutor;
 
 import java.util.List;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 import javax.annotation.Nullable;
 
@@ -55,8 +54,12 @@ public abstract class MixinWorldServer_Async_Lighting extends MixinWorld impleme
     private static final short XZ_MASK = 0xF;
     private static final short Y_SHORT_MASK = 0xFF;
 
-    private ExecutorService lightExecutorService = 
-                Executors.newFixedThreadPool(SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getAsyncLightingCategory().getNumThreads(), new ThreadFactoryBuilder().setNameFormat("Sponge - Async Light Thread").build());
+    private final AsyncLightingExecutor lightExecutorService = createLightingExecutor();
+
+    private static AsyncLightingExecutor createLightingExecutor() {
+        final AsyncLightingCategory category = SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getAsyncLightingCategory();
+        return new AsyncLightingExecutor(category.getNumThreads(), category.getShardSize(), category.getMaxPendingUpdates());
+    }
 
     @Override
     public boolean checkLightFor(EnumSkyBlock lightType, BlockPos pos) {
@@ -70,6 +73,8 @@ public boolean checkLightAsync(EnumSkyBlock lightType, BlockPos pos, net.minecra
             return false;
         } else {
             final IMixinChunk spongeChunk = (IMixinChunk) currentChunk;
+            // Sponge - the lighting workers each use their own queue, the one of the world isn't thread safe
+            final int[] lightUpdateBlockList = AsyncLightingExecutor.getLightUpdateBlockList(this.lightUpdateBlockList);
             int i = 0;
             int j = 0;
             //this.theProfiler.startSection("getBrightness"); // Sponge - don't use profiler off of main thread
@@ -80,12 +85,12 @@ public boolean checkLightAsync(EnumSkyBlock lightType, BlockPos pos, net.minecra
             int k1 = pos.getZ();
 
             if (l > k) {
-                this.lightUpdateBlockList[j++] = 133152;
+                lightUpdateBlockList[j++] = 133152;
             } else if (l < k) {
-                this.lightUpdateBlockList[j++] = 133152 | k << 18;
+                lightUpdateBlockList[j++] = 133152 | k << 18;
 
                 while (i < j) {
-                    int l1 = this.lightUpdateBlockList[i++];
+                    int l1 = lightUpdateBlockList[i++];
                     int i2 = (l1 & 63) - 32 + i1;
                     int j2 = (l1 >> 6 & 63) - 32 + j1;
                     int k2 = (l1 >> 12 & 63) - 32 + k1;
@@ -118,8 +123,8 @@ public boolean checkLightAsync(EnumSkyBlock lightType, BlockPos pos, net.minecra
                                     i3 = this.getLightForAsync(lightType, blockpos$pooledmutableblockpos, currentChunk, neighbors);
                                     // Sponge end
 
-                                    if (i3 == l2 - l4 && j < this.lightUpdateBlockList.length) {
-                                        this.lightUpdateBlockList[j++] = i4 - i1 + 32 | j4 - j1 + 32 << 6 | k4 - k1 + 32 << 12 | l2 - l4 << 18;
+                                    if (i3 == l2 - l4 && j < lightUpdateBlockList.length) {
+                                        lightUpdateBlockList[j++] = i4 - i1 + 32 | j4 - j1 + 32 << 6 | k4 - k1 + 32 << 12 | l2 - l4 << 18;
                                     }
                                 }
 
@@ -136,7 +141,7 @@ public boolean checkLightAsync(EnumSkyBlock lightType, BlockPos pos, net.minecra
             //this.theProfiler.startSection("checkedPosition < toCheckCount"); // Sponge - don't use profiler off of main thread
 
             while (i < j) {
-                int i5 = this.lightUpdateBlockList[i++];
+                int i5 = lightUpdateBlockList[i++];
                 int j5 = (i5 & 63) - 32 + i1;
                 int k5 = (i5 >> 6 & 63) - 32 + j1;
                 int l5 = (i5 >> 12 & 63) - 32 + k1;
@@ -151,32 +156,32 @@ public boolean checkLightAsync(EnumSkyBlock lightType, BlockPos pos, net.minecra
                         int k6 = Math.abs(j5 - i1);
                         int l6 = Math.abs(k5 - j1);
                         int i7 = Math.abs(l5 - k1);
-                        boolean flag = j < this.lightUpdateBlockList.length - 6;
+                        boolean flag = j < lightUpdateBlockList.length - 6;
 
                         if (k6 + l6 + i7 < 17 && flag) {
                             // Sponge start - use thread safe method getLightForAsync
                             if (this.getLightForAsync(lightType, blockpos1.west(), currentChunk, neighbors) < j6) {
-                                this.lightUpdateBlockList[j++] = j5 - 1 - i1 + 32 + (k5 - j1 + 32 << 6) + (l5 - k1 + 32 << 12);
+                                lightUpdateBlockList[j++] = j5 - 1 - i1 + 32 + (k5 - j1 + 32 << 6) + (l5 - k1 + 32 << 12);
                             }
 
                             if (this.getLightForAsync(lightType, blockpos1.east(), currentChunk, neighbors) < j6) {
-                                this.lightUpdateBlockList[j++] = j5 + 1 - i1 + 32 + (k5 - j1 + 32 << 6) + (l5 - k1 + 32 << 12);
+                                lightUpdateBlockList[j++] = j5 + 1 - i1 + 32 + (k5 - j1 + 32 << 6) + (l5 - k1 + 32 << 12);
                             }
 
                             if (this.getLightForAsync(lightType, blockpos1.down(), currentChunk, neighbors) < j6) {
-                                this.lightUpdateBlockList[j++] = j5 - i1 + 32 + (k5 - 1 - j1 + 32 << 6) + (l5 - k1 + 32 << 12);
+                                lightUpdateBlockList[j++] = j5 - i1 + 32 + (k5 - 1 - j1 + 32 << 6) + (l5 - k1 + 32 << 12);
                             }
 
                             if (this.getLightForAsync(lightType, blockpos1.up(), currentChunk, neighbors) < j6) {
-                                this.lightUpdateBlockList[j++] = j5 - i1 + 32 + (k5 + 1 - j1 + 32 << 6) + (l5 - k1 + 32 << 12);
+                                lightUpdateBlockList[j++] = j5 - i1 + 32 + (k5 + 1 - j1 + 32 << 6) + (l5 - k1 + 32 << 12);
                             }
 
                             if (this.getLightForAsync(lightType, blockpos1.north(), currentChunk, neighbors) < j6) {
-                                this.lightUpdateBlockList[j++] = j5 - i1 + 32 + (k5 - j1 + 32 << 6) + (l5 - 1 - k1 + 32 << 12);
+                                lightUpdateBlockList[j++] = j5 - i1 + 32 + (k5 - j1 + 32 << 6) + (l5 - 1 - k1 + 32 << 12);
                             }
 
                             if (this.getLightForAsync(lightType, blockpos1.south(), currentChunk, neighbors) < j6) {
-                                this.lightUpdateBlockList[j++] = j5 - i1 + 32 + (k5 - j1 + 32 << 6) + (l5 + 1 - k1 + 32 << 12);
+                                lightUpdateBlockList[j++] = j5 - i1 + 32 + (k5 - j1 + 32 << 6) + (l5 + 1 - k1 + 32 << 12);
                             }
                             // Sponge end
                         }
@@ -185,7 +190,7 @@ public boolean checkLightAsync(EnumSkyBlock lightType, BlockPos pos, net.minecra
             }
 
             // Sponge start - Asynchronous light updates
-            spongeChunk.getQueuedLightingUpdates(lightType).remove((Short) this.blockPosToShort(pos));
+            spongeChunk.getQueuedLightingUpdates(lightType).remove(this.blockPosToShort(pos));
             spongeChunk.getPendingLightUpdates().decrementAndGet();
             for (net.minecraft.world.chunk.Chunk neighborChunk : neighbors) {
                 final IMixinChunk neighbor = (IMixinChunk) neighborChunk;
@@ -213,13 +218,12 @@ public boolean updateLightAsync(EnumSkyBlock lightType, BlockPos pos, @Nullable
             return false;
         }
 
-        final short shortPos = this.blockPosToShort(pos);
-        if (spongeChunk.getQueuedLightingUpdates(lightType).contains(shortPos)) {
+        // Coalesce updates of positions which are already queued
+        if (!spongeChunk.getQueuedLightingUpdates(lightType).add(this.blockPosToShort(pos))) {
             return false;
         }
 
         final Chunk chunk = currentChunk;
-        spongeChunk.getQueuedLightingUpdates(lightType).add(shortPos);
         spongeChunk.getPendingLightUpdates().incrementAndGet();
         spongeChunk.setLightUpdateTime(chunk.getWorld().getTotalWorldTime());
 
@@ -250,7 +254,7 @@ public boolean updateLightAsync(EnumSkyBlock lightType, BlockPos pos, @Nullable
 
         //System.out.println("size = " + ((ThreadPoolExecutor) this.lightExecutorService).getQueue().size());
         if (SpongeImpl.getServer().isCallingFromMinecraftThread()) {
-            this.lightExecutorService.execute(() -> {
+            this.lightExecutorService.execute(chunk.x, chunk.z, () -> {
                 this.checkLightAsync(lightType, pos, chunk, neighbors);
             });
         } else {
@@ -261,7 +265,7 @@ public boolean updateLightAsync(EnumSkyBlock lightType, BlockPos pos, @Nullable
     }
 
     @Override
-    public ExecutorService getLightingExecutor() {
+    public AsyncLightingExecutor getLightingExecutor() {
         return this.lightExecutorService;
     }
 
@@ -28,6 +28,8 @@
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityLiving;
 import net.minecraft.entity.EntityLivingBase;
@@ -51,6 +53,7 @@
 import net.minecraft.entity.projectile.EntityFireball;
 import net.minecraft.entity.projectile.EntityThrowable;
 import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.World;
 import net.minecraft.world.WorldServer;
@@ -73,6 +76,8 @@
 import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
 import org.spongepowered.common.mixin.plugin.entityactivation.interfaces.IModData_Activation;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 public class EntityActivationRange {
@@ -93,6 +98,7 @@ public class EntityActivationRange {
     static AxisAlignedBB ambientBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
     static AxisAlignedBB tileEntityBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
     static Map<Byte, Integer> maxActivationRanges = Maps.newHashMap();
+    private static final Long2ObjectOpenHashMap<List<EntityPlayer>> playersByChunk = new Long2ObjectOpenHashMap<>();
 
     /**
      * Initializes an entities type on construction to specify what group this
@@ -218,52 +224,70 @@ public static void growBb(AxisAlignedBB target, AxisAlignedBB source, int x, int
      * @param world The world to perform activation checks in
      */
     public static void activateEntities(World world) {
-        if (((IMixinWorld) world).isFake()) {
+        if (((IMixinWorld) world).isFake() || world.playerEntities.isEmpty()) {
             return;
         }
 
-        for (EntityPlayer player : world.playerEntities) {
+        int maxRange = 0;
+        for (Integer range : maxActivationRanges.values()) {
+            if (range > maxRange) {
+                maxRange = range;
+            }
+        }
 
-            int maxRange = 0;
-            for (Integer range : maxActivationRanges.values()) {
-                if (range > maxRange) {
-                    maxRange = range;
+        maxRange = Math.min((((org.spongepowered.api.world.World) world).getViewDistance() << 4) - 8, maxRange);
+        final long currentTick = SpongeImpl.getServer().getTickCounter();
+        try {
+            // Index the players by the chunks within their maximum activation range, so the
+            // entities of chunks shared by several players are only checked once
+            for (EntityPlayer player : world.playerEntities) {
+                ((IModData_Activation) player).setActivatedTick(currentTick);
+                growBb(maxBB, player.getEntityBoundingBox(), maxRange, 256, maxRange);
+
+                int i = MathHelper.floor(maxBB.minX / 16.0D);
+                int j = MathHelper.floor(maxBB.maxX / 16.0D);
+                int k = MathHelper.floor(maxBB.minZ / 16.0D);
+                int l = MathHelper.floor(maxBB.maxZ / 16.0D);
+
+                for (int i1 = i; i1 <= j; ++i1) {
+                    for (int j1 = k; j1 <= l; ++j1) {
+                        final long chunkKey = ChunkPos.asLong(i1, j1);
+                        List<EntityPlayer> players = playersByChunk.get(chunkKey);
+                        if (players == null) {
+                            players = new ArrayList<>(2);
+                            playersByChunk.put(chunkKey, players);
+                        }
+                        players.add(player);
+                    }
                 }
             }
 
-            maxRange = Math.min((((org.spongepowered.api.world.World) world).getViewDistance() << 4) - 8, maxRange);
-            ((IModData_Activation) player).setActivatedTick(SpongeImpl.getServer().getTickCounter());
-            growBb(maxBB, player.getEntityBoundingBox(), maxRange, 256, maxRange);
-
-            int i = MathHelper.floor(maxBB.minX / 16.0D);
-            int j = MathHelper.floor(maxBB.maxX / 16.0D);
-            int k = MathHelper.floor(maxBB.minZ / 16.0D);
-            int l = MathHelper.floor(maxBB.maxZ / 16.0D);
-
-            for (int i1 = i; i1 <= j; ++i1) {
-                for (int j1 = k; j1 <= l; ++j1) {
-                    WorldServer worldserver = (WorldServer) world;
-                    Chunk chunk = ((IMixinChunkProviderServer) worldserver.getChunkProvider()).getLoadedChunkWithoutMarkingActive(i1, j1);
-                    if (chunk != null) {
-                        activateChunkEntities(player, chunk);
-                    }
+            final IMixinChunkProviderServer chunkProvider = (IMixinChunkProviderServer) ((WorldServer) world).getChunkProvider();
+            for (Long2ObjectMap.Entry<List<EntityPlayer>> entry : playersByChunk.long2ObjectEntrySet()) {
+                final long chunkKey = entry.getLongKey();
+                final Chunk chunk = chunkProvider.getLoadedChunkWithoutMarkingActive((int) chunkKey, (int) (chunkKey >>> 32));
+                if (chunk != null) {
+                    activateChunkEntities(entry.getValue(), chunk, currentTick);
                 }
             }
+        } finally {
+            playersByChunk.clear();
         }
     }
 
     /**
      * Checks for the activation state of all entities in this chunk.
      *
+     * @param players The players within the maximum activation range of the chunk
      * @param chunk Chunk to check for activation
+     * @param currentTick The current server tick
      */
-    private static void activateChunkEntities(EntityPlayer player, Chunk chunk) {
+    private static void activateChunkEntities(List<EntityPlayer> players, Chunk chunk, long currentTick) {
         for (int i = 0; i < chunk.getEntityLists().length; ++i) {
 
             for (Object o : chunk.getEntityLists()[i]) {
                 Entity entity = (Entity) o;
                 EntityType type = ((org.spongepowered.api.entity.Entity) entity).getType();
-                long currentTick = SpongeImpl.getServer().getTickCounter();
                 if (type == EntityTypes.UNKNOWN) {
                     ((IModData_Activation) entity).setActivatedTick(currentTick);
                     continue;
@@ -282,47 +306,27 @@ private static void activateChunkEntities(EntityPlayer player, Chunk chunk) {
                         spongeEntity.requiresActivationCacheRefresh(false);
                     }
                     // check for entity type overrides
-                    byte activationType = ((IModData_Activation) entity).getActivationType();
-                    int bbActivationRange = ((IModData_Activation) entity).getActivationRange();
-
+                    byte activationType = spongeEntity.getActivationType();
+                    int bbActivationRange = spongeEntity.getActivationRange();
+                    final AxisAlignedBB activationBB;
                     if (activationType == 5) {
-                        growBb(miscBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
+                        activationBB = miscBB;
                     } else if (activationType == 4) {
-                        growBb(ambientBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
+                        activationBB = ambientBB;
                     } else if (activationType == 3) {
-                        growBb(aquaticBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
+                        activationBB = aquaticBB;
                     } else if (activationType == 2) {
-                        growBb(creatureBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
+                        activationBB = creatureBB;
                     } else {
-                        growBb(monsterBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
+                        activationBB = monsterBB;
                     }
 
-                    switch (((IModData_Activation) entity).getActivationType()) {
-                        case 1:
-                            if (monsterBB.intersects(entity.getEntityBoundingBox())) {
-                                ((IModData_Activation) entity).setActivatedTick(currentTick);
-                            }
-                            break;
-                        case 2:
-                            if (creatureBB.intersects(entity.getEntityBoundingBox())) {
-                                ((IModData_Activation) entity).setActivatedTick(currentTick);
-                            }
-                            break;
-                        case 3:
-                            if (aquaticBB.intersects(entity.getEntityBoundingBox())) {
-                                ((IModData_Activation) entity).setActivatedTick(currentTick);
-                            }
-                            break;
-                        case 4:
-                            if (ambientBB.intersects(entity.getEntityBoundingBox())) {
-                                ((IModData_Activation) entity).setActivatedTick(currentTick);
-                            }
+                    for (EntityPlayer player : players) {
+                        growBb(activationBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
+                        if (activationBB.intersects(entity.getEntityBoundingBox())) {
+                            spongeEntity.setActivatedTick(currentTick);
                             break;
-                        case 5:
-                        default:
-                            if (miscBB.intersects(entity.getEntityBoundingBox())) {
-                                ((IModData_Activation) entity).setActivatedTick(currentTick);
-                            }
+                        }
                     }
                 }
             }
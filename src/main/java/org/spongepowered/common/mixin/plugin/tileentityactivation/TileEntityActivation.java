@@ -26,8 +26,7 @@
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
-import com.flowpowered.math.vector.Vector3i;
-import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.server.management.PlayerChunkMap;
 import net.minecraft.server.management.PlayerChunkMapEntry;
 import net.minecraft.tileentity.TileEntity;
@@ -47,9 +46,8 @@
 import org.spongepowered.common.interfaces.block.tile.IMixinTileEntity;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.mixin.plugin.entityactivation.interfaces.IModData_Activation;
-import org.spongepowered.common.util.VecHelper;
 
-import java.util.Map;
+import java.util.List;
 
 public class TileEntityActivation {
 
@@ -128,15 +126,14 @@ public static boolean initializeTileEntityActivationState(TileEntity tileEntity)
     */
     public static void activateTileEntities(WorldServer world) {
         final PlayerChunkMap playerChunkMap = world.getPlayerChunkMap();
+        final long currentTick = SpongeImpl.getServer().getTickCounter();
         for (PlayerChunkMapEntry playerChunkMapEntry : playerChunkMap.entries) {
-            for (EntityPlayer player : playerChunkMapEntry.players) {
-                final Chunk chunk = playerChunkMapEntry.chunk;
-                if (chunk == null || chunk.unloadQueued) {
-                    continue;
-                }
-
-                activateChunkTileEntities(player, chunk);
+            final Chunk chunk = playerChunkMapEntry.chunk;
+            if (chunk == null || chunk.unloadQueued || playerChunkMapEntry.players.isEmpty()) {
+                continue;
             }
+
+            activateChunkTileEntities(playerChunkMapEntry.players, chunk, currentTick);
         }
     }
 
@@ -144,19 +141,31 @@ public static void activateTileEntities(WorldServer world) {
     /**
      * Checks for the activation state of all tileentities in this chunk.
      *
+     * @param players The players watching the chunk
      * @param chunk Chunk to check for activation
+     * @param currentTick The current server tick
      */
-    private static void activateChunkTileEntities(EntityPlayer player, Chunk chunk) {
-        final Vector3i playerPos = VecHelper.toVector3i(player.getPosition());
-        final long currentTick = SpongeImpl.getServer().getTickCounter();
-        for (Map.Entry<BlockPos, TileEntity> mapEntry : chunk.getTileEntityMap().entrySet()) {
-            final TileEntity tileEntity = mapEntry.getValue();
+    private static void activateChunkTileEntities(List<EntityPlayerMP> players, Chunk chunk, long currentTick) {
+        if (chunk.getTileEntityMap().isEmpty()) {
+            return;
+        }
+
+        // Resolve the block positions of the players once for every tileentity of the chunk
+        final int playerCount = players.size();
+        final int[] playerPositions = new int[playerCount * 3];
+        for (int i = 0; i < playerCount; i++) {
+            final BlockPos playerPos = players.get(i).getPosition();
+            playerPositions[i * 3] = playerPos.getX();
+            playerPositions[i * 3 + 1] = playerPos.getY();
+            playerPositions[i * 3 + 2] = playerPos.getZ();
+        }
+
+        for (TileEntity tileEntity : chunk.getTileEntityMap().values()) {
             if (!(tileEntity instanceof ITickable) || ((IModData_Activation) tileEntity).getActivatedTick() == currentTick) {
                 // already activated
                 continue;
             }
 
-            final Vector3i tilePos = VecHelper.toVector3i(tileEntity.getPos());
             if (currentTick > ((IModData_Activation) tileEntity).getActivatedTick()) {
                 if (((IModData_Activation) tileEntity).getDefaultActivationState()) {
                     ((IModData_Activation) tileEntity).setActivatedTick(currentTick);
@@ -170,10 +179,18 @@ private static void activateChunkTileEntities(EntityPlayer player, Chunk chunk)
                     spongeEntity.requiresActivationCacheRefresh(false);
                 }
 
-                int bbActivationRange = ((IModData_Activation) tileEntity).getActivationRange();
-                int blockDistance = Math.round(tilePos.distance(playerPos));
-                if (blockDistance <= bbActivationRange) {
-                    ((IModData_Activation) tileEntity).setActivatedTick(currentTick);
+                // The rounded distance is within the range when the exact distance is below range + 0.5
+                final double maxDistance = spongeEntity.getActivationRange() + 0.5D;
+                final double maxDistanceSquared = maxDistance * maxDistance;
+                final BlockPos tilePos = tileEntity.getPos();
+                for (int i = 0; i < playerPositions.length; i += 3) {
+                    final double dx = tilePos.getX() - playerPositions[i];
+                    final double dy = tilePos.getY() - playerPositions[i + 1];
+                    final double dz = tilePos.getZ() - playerPositions[i + 2];
+                    if (dx * dx + dy * dy + dz * dz < maxDistanceSquared) {
+                        spongeEntity.setActivatedTick(currentTick);
+                        break;
+                    }
                 }
             }
         }
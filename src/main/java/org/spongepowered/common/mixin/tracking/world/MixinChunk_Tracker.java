@@ -24,8 +24,10 @@
  */
 package org.spongepowered.common.mixin.tracking.world;
 
-import it.unimi.dsi.fastutil.ints.Int2ObjectArrayMap;
-import it.unimi.dsi.fastutil.shorts.Short2ObjectArrayMap;
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import it.unimi.dsi.fastutil.shorts.Short2LongMap;
+import it.unimi.dsi.fastutil.shorts.Short2LongOpenHashMap;
 import net.minecraft.block.Block;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.EntityPlayerMP;
@@ -56,7 +58,6 @@
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.util.SpongeUsernameCache;
 
-import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -85,8 +86,9 @@ public abstract class MixinChunk_Tracker implements Chunk, IMixinChunk {
     @Shadow @Final private int[] heightMap;
     @Shadow private boolean dirty;
 
-    public Map<Integer, PlayerTracker> trackedIntBlockPositions = new Int2ObjectArrayMap<>();
-    public Map<Short, PlayerTracker> trackedShortBlockPositions = new Short2ObjectArrayMap<>();
+    // Owner and notifier indices packed with PlayerTracker#pack, open addressing keeps lookups constant for heavily built chunks
+    public Int2LongMap trackedIntBlockPositions = createIntTrackingMap();
+    public Short2LongMap trackedShortBlockPositions = createShortTrackingMap();
 
     @Final // need this constructor to never be overwritten by anything.
     @Inject(method = "<init>(Lnet/minecraft/world/World;II)V", at = @At("RETURN"), remap = false)
@@ -121,120 +123,80 @@ public void addTrackedBlockPosition(Block block, BlockPos pos, User user, Player
         final int indexForUniqueId = worldInfo.getIndexForUniqueId(user.getUniqueId());
         if (pos.getY() <= 255) {
             short blockPos = blockPosToShort(pos);
-            final PlayerTracker playerTracker = this.trackedShortBlockPositions.get(blockPos);
-            if (playerTracker != null) {
-                if (trackerType == PlayerTracker.Type.OWNER) {
-                    playerTracker.ownerIndex = indexForUniqueId;
-                    playerTracker.notifierIndex = indexForUniqueId;
-                } else {
-                    playerTracker.notifierIndex = indexForUniqueId;
-                }
+            final long tracker = this.trackedShortBlockPositions.get(blockPos);
+            if (trackerType == PlayerTracker.Type.NOTIFIER) {
+                this.trackedShortBlockPositions.put(blockPos, PlayerTracker.pack(PlayerTracker.getOwnerIndex(tracker), indexForUniqueId));
+            } else if (tracker != PlayerTracker.NONE || this.trackedShortBlockPositions.containsKey(blockPos)) {
+                this.trackedShortBlockPositions.put(blockPos, PlayerTracker.pack(indexForUniqueId, indexForUniqueId));
             } else {
-                this.trackedShortBlockPositions.put(blockPos, new PlayerTracker(indexForUniqueId, trackerType));
+                this.trackedShortBlockPositions.put(blockPos, PlayerTracker.pack(indexForUniqueId, -1));
             }
         } else {
             int blockPos = blockPosToInt(pos);
-            final PlayerTracker playerTracker = this.trackedIntBlockPositions.get(blockPos);
-            if (playerTracker != null) {
-                if (trackerType == PlayerTracker.Type.OWNER) {
-                    playerTracker.ownerIndex = indexForUniqueId;
-                } else {
-                    playerTracker.notifierIndex = indexForUniqueId;
-                }
+            final long tracker = this.trackedIntBlockPositions.get(blockPos);
+            if (trackerType == PlayerTracker.Type.OWNER) {
+                this.trackedIntBlockPositions.put(blockPos, PlayerTracker.pack(indexForUniqueId, PlayerTracker.getNotifierIndex(tracker)));
             } else {
-                this.trackedIntBlockPositions.put(blockPos, new PlayerTracker(indexForUniqueId, trackerType));
+                this.trackedIntBlockPositions.put(blockPos, PlayerTracker.pack(PlayerTracker.getOwnerIndex(tracker), indexForUniqueId));
             }
         }
     }
 
     @Override
-    public Map<Integer, PlayerTracker> getTrackedIntPlayerPositions() {
+    public Int2LongMap getTrackedIntPlayerPositions() {
         return this.trackedIntBlockPositions;
     }
 
     @Override
-    public Map<Short, PlayerTracker> getTrackedShortPlayerPositions() {
+    public Short2LongMap getTrackedShortPlayerPositions() {
         return this.trackedShortBlockPositions;
     }
 
-    @Override
-    public Optional<User> getBlockOwner(BlockPos pos) {
-        final int intKey = blockPosToInt(pos);
-        final PlayerTracker intTracker = this.trackedIntBlockPositions.get(intKey);
-        if (intTracker != null) {
-            final int notifierIndex = intTracker.ownerIndex;
-            return getValidatedUser(intKey, notifierIndex);
-        } else {
-            final short shortKey = blockPosToShort(pos);
-            if (this.trackedShortBlockPositions.get(shortKey) != null) {
-                PlayerTracker tracker = this.trackedShortBlockPositions.get(shortKey);
-                final int notifierIndex = tracker.ownerIndex;
-                return getValidatedUser(shortKey, notifierIndex);
-            }
+    private long getTracker(BlockPos pos) {
+        if (pos.getY() <= 255) {
+            return this.trackedShortBlockPositions.get(blockPosToShort(pos));
         }
+        return this.trackedIntBlockPositions.get(blockPosToInt(pos));
+    }
 
-        return Optional.empty();
+    private void setTracker(BlockPos pos, long tracker) {
+        if (pos.getY() <= 255) {
+            this.trackedShortBlockPositions.put(blockPosToShort(pos), tracker);
+        } else {
+            this.trackedIntBlockPositions.put(blockPosToInt(pos), tracker);
+        }
     }
 
-    @Override
-    public Optional<UUID> getBlockOwnerUUID(BlockPos pos) {
-        final int key = blockPosToInt(pos);
-        final PlayerTracker intTracker = this.trackedIntBlockPositions.get(key);
-        if (intTracker != null) {
-            final int ownerIndex = intTracker.ownerIndex;
-            return getValidatedUUID(key, ownerIndex);
+    private void removeTracker(BlockPos pos) {
+        if (pos.getY() <= 255) {
+            this.trackedShortBlockPositions.remove(blockPosToShort(pos));
         } else {
-            final short shortKey = blockPosToShort(pos);
-            final PlayerTracker shortTracker = this.trackedShortBlockPositions.get(shortKey);
-            if (shortTracker != null) {
-                final int ownerIndex = shortTracker.ownerIndex;
-                return getValidatedUUID(shortKey, ownerIndex);
-            }
+            this.trackedIntBlockPositions.remove(blockPosToInt(pos));
         }
+    }
 
-        return Optional.empty();
+    @Override
+    public Optional<User> getBlockOwner(BlockPos pos) {
+        return getValidatedUser(pos, PlayerTracker.getOwnerIndex(getTracker(pos)));
     }
 
     @Override
-    public Optional<User> getBlockNotifier(BlockPos pos) {
-        final int intKey = blockPosToInt(pos);
-        final PlayerTracker intTracker = this.trackedIntBlockPositions.get(intKey);
-        if (intTracker != null) {
-            final int notifierIndex = intTracker.notifierIndex;
-            return getValidatedUser(intKey, notifierIndex);
-        } else {
-            final short shortKey = blockPosToShort(pos);
-            if (this.trackedShortBlockPositions.get(shortKey) != null) {
-                PlayerTracker tracker = this.trackedShortBlockPositions.get(shortKey);
-                final int notifierIndex = tracker.notifierIndex;
-                return getValidatedUser(shortKey, notifierIndex);
-            }
-        }
+    public Optional<UUID> getBlockOwnerUUID(BlockPos pos) {
+        return getValidatedUUID(pos, PlayerTracker.getOwnerIndex(getTracker(pos)));
+    }
 
-        return Optional.empty();
+    @Override
+    public Optional<User> getBlockNotifier(BlockPos pos) {
+        return getValidatedUser(pos, PlayerTracker.getNotifierIndex(getTracker(pos)));
     }
 
     @Override
     public Optional<UUID> getBlockNotifierUUID(BlockPos pos) {
-        final int key = blockPosToInt(pos);
-        final PlayerTracker intTracker = this.trackedIntBlockPositions.get(key);
-        if (intTracker != null) {
-            final int ownerIndex = intTracker.notifierIndex;
-            return getValidatedUUID(key, ownerIndex);
-        } else {
-            final short shortKey = blockPosToShort(pos);
-            final PlayerTracker shortTracker = this.trackedShortBlockPositions.get(shortKey);
-            if (shortTracker != null) {
-                final int ownerIndex = shortTracker.notifierIndex;
-                return getValidatedUUID(shortKey, ownerIndex);
-            }
-        }
-
-        return Optional.empty();
+        return getValidatedUUID(pos, PlayerTracker.getNotifierIndex(getTracker(pos)));
     }
 
-    private Optional<User> getValidatedUser(int key, int ownerIndex) {
-        Optional<UUID> uuid = getValidatedUUID(key, ownerIndex);
+    private Optional<User> getValidatedUser(BlockPos pos, int ownerIndex) {
+        Optional<UUID> uuid = getValidatedUUID(pos, ownerIndex);
         if (uuid.isPresent()) {
             UUID userUniqueId = uuid.get();
             // get player if online
@@ -248,13 +210,16 @@ private Optional<User> getValidatedUser(int key, int ownerIndex) {
         return Optional.empty();
     }
 
-    private Optional<UUID> getValidatedUUID(int key, int ownerIndex) {
+    private Optional<UUID> getValidatedUUID(BlockPos pos, int ownerIndex) {
+        if (ownerIndex == -1) {
+            return Optional.empty();
+        }
         UUID uuid = (((IMixinWorldInfo) this.world.getWorldInfo()).getUniqueIdForIndex(ownerIndex)).orElse(null);
         if (uuid != null) {
             UUID userUniqueId = uuid;
             // Verify id is valid and not invalid
             if (SpongeImpl.getGlobalConfig().getConfig().getWorld().getInvalidLookupUuids().contains(userUniqueId)) {
-                this.trackedIntBlockPositions.remove(key);
+                removeTracker(pos);
                 return Optional.empty();
             }
             // player is not online, get or create user from storage
@@ -284,63 +249,41 @@ private Optional<User> getUserFromId(UUID uuid) {
     // Special setter used by API
     @Override
     public void setBlockNotifier(BlockPos pos, @Nullable UUID uuid) {
-        if (pos.getY() <= 255) {
-            short blockPos = blockPosToShort(pos);
-            if (this.trackedShortBlockPositions.get(blockPos) != null) {
-                this.trackedShortBlockPositions.get(blockPos).notifierIndex = uuid == null ? -1 :
-                                                                              ((IMixinWorldInfo) this.world.getWorldInfo()).getIndexForUniqueId(uuid);
-            } else {
-                this.trackedShortBlockPositions.put(blockPos,
-                        new PlayerTracker(uuid == null ? -1 : ((IMixinWorldInfo) this.world.getWorldInfo()).getIndexForUniqueId(uuid),
-                                PlayerTracker.Type.NOTIFIER));
-            }
-        } else {
-            int blockPos = blockPosToInt(pos);
-            if (this.trackedIntBlockPositions.get(blockPos) != null) {
-                this.trackedIntBlockPositions.get(blockPos).notifierIndex = uuid == null ? -1 :
-                                                                            ((IMixinWorldInfo) this.world.getWorldInfo()).getIndexForUniqueId(uuid);
-            } else {
-                this.trackedIntBlockPositions.put(blockPos,
-                        new PlayerTracker(uuid == null ? -1 : ((IMixinWorldInfo) this.world.getWorldInfo()).getIndexForUniqueId(uuid),
-                                PlayerTracker.Type.NOTIFIER));
-            }
-        }
+        final int index = uuid == null ? -1 : ((IMixinWorldInfo) this.world.getWorldInfo()).getIndexForUniqueId(uuid);
+        setTracker(pos, PlayerTracker.pack(PlayerTracker.getOwnerIndex(getTracker(pos)), index));
     }
 
     // Special setter used by API
     @Override
     public void setBlockCreator(BlockPos pos, @Nullable UUID uuid) {
-        if (pos.getY() <= 255) {
-            short blockPos = blockPosToShort(pos);
-            if (this.trackedShortBlockPositions.get(blockPos) != null) {
-                this.trackedShortBlockPositions.get(blockPos).ownerIndex = uuid == null ? -1 : ((IMixinWorldInfo) this.world.getWorldInfo())
-                        .getIndexForUniqueId(uuid);
-            } else {
-                this.trackedShortBlockPositions.put(blockPos, new PlayerTracker(uuid == null ? -1 : ((IMixinWorldInfo) this.world.getWorldInfo())
-                        .getIndexForUniqueId(uuid), PlayerTracker.Type.OWNER));
-            }
-        } else {
-            int blockPos = blockPosToInt(pos);
-            if (this.trackedIntBlockPositions.get(blockPos) != null) {
-                this.trackedIntBlockPositions.get(blockPos).ownerIndex = uuid == null ? -1 : ((IMixinWorldInfo) this.world.getWorldInfo())
-                        .getIndexForUniqueId(uuid);
-            } else {
-                this.trackedIntBlockPositions.put(blockPos, new PlayerTracker(uuid == null ? -1 : ((IMixinWorldInfo) this.world.getWorldInfo())
-                        .getIndexForUniqueId(uuid), PlayerTracker.Type.OWNER));
-            }
-        }
+        final int index = uuid == null ? -1 : ((IMixinWorldInfo) this.world.getWorldInfo()).getIndexForUniqueId(uuid);
+        setTracker(pos, PlayerTracker.pack(index, PlayerTracker.getNotifierIndex(getTracker(pos))));
     }
 
     @Override
-    public void setTrackedIntPlayerPositions(Map<Integer, PlayerTracker> trackedPositions) {
+    public void setTrackedIntPlayerPositions(Int2LongMap trackedPositions) {
+        trackedPositions.defaultReturnValue(PlayerTracker.NONE);
         this.trackedIntBlockPositions = trackedPositions;
     }
 
     @Override
-    public void setTrackedShortPlayerPositions(Map<Short, PlayerTracker> trackedPositions) {
+    public void setTrackedShortPlayerPositions(Short2LongMap trackedPositions) {
+        trackedPositions.defaultReturnValue(PlayerTracker.NONE);
         this.trackedShortBlockPositions = trackedPositions;
     }
 
+    private static Int2LongMap createIntTrackingMap() {
+        final Int2LongMap map = new Int2LongOpenHashMap();
+        map.defaultReturnValue(PlayerTracker.NONE);
+        return map;
+    }
+
+    private static Short2LongMap createShortTrackingMap() {
+        final Short2LongMap map = new Short2LongOpenHashMap();
+        map.defaultReturnValue(PlayerTracker.NONE);
+        return map;
+    }
+
     /**
      * Modifies bits in an integer.
      *
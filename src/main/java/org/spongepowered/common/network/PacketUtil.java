@@ -201,7 +201,7 @@ private static boolean firePreEvents(Packet<?> packetIn, EntityPlayerMP playerMP
                     final RayTraceResult result = SpongeImplHooks.rayTraceEyes(playerMP, SpongeImplHooks.getBlockReachDistance(playerMP));
 
                     if (SpongeCommonEventFactory.callInteractItemEventPrimary(playerMP, stack, EnumHand.MAIN_HAND, result == null ? null :
-                            VecHelper.toVector3d(result.hitVec), blockSnapshot).isCancelled()) {
+                            VecHelper.toVector3d(result.hitVec), blockSnapshot)) {
                         ((IMixinEntityPlayerMP) playerMP).sendBlockChange(pos, playerMP.world.getBlockState(pos));
                         return true;
                     }
@@ -222,7 +222,7 @@ private static boolean firePreEvents(Packet<?> packetIn, EntityPlayerMP playerMP
                     if (packet.getAction() == CPacketPlayerDigging.Action.START_DESTROY_BLOCK) {
 
                         if (SpongeCommonEventFactory.callInteractBlockEventPrimary(playerMP, blockSnapshot, EnumHand.MAIN_HAND, packet.getFacing(),
-                                result == null ? null : VecHelper.toVector3d(result.hitVec)).isCancelled()) {
+                                result == null ? null : VecHelper.toVector3d(result.hitVec))) {
                             ((IMixinEntityPlayerMP) playerMP).sendBlockChange(pos, playerMP.world.getBlockState(pos));
                             return true;
                         }
@@ -248,7 +248,7 @@ private static boolean firePreEvents(Packet<?> packetIn, EntityPlayerMP playerMP
             final RayTraceResult result = SpongeImplHooks.rayTraceEyes(playerMP, SpongeImplHooks.getBlockReachDistance(playerMP));
 
             final boolean isCancelled = SpongeCommonEventFactory.callInteractItemEventSecondary(playerMP, heldItem, packet.getHand(), result ==
-                    null ? null : VecHelper.toVector3d(result.hitVec), BlockSnapshot.NONE).isCancelled();
+                    null ? null : VecHelper.toVector3d(result.hitVec), BlockSnapshot.NONE);
             SpongeCommonEventFactory.callInteractBlockEventSecondary(playerMP, heldItem, result == null ? null : VecHelper.toVector3d(result
                     .hitVec), BlockSnapshot.NONE, Direction.NONE, packet.getHand());
             if (isCancelled) {
@@ -268,7 +268,7 @@ private static boolean firePreEvents(Packet<?> packetIn, EntityPlayerMP playerMP
             final ItemStack heldItem = playerMP.getHeldItem(packet.getHand());
             Sponge.getCauseStackManager().addContext(EventContextKeys.USED_ITEM, ItemStackUtil.snapshotOf(heldItem));
             boolean isCancelled = SpongeCommonEventFactory.callInteractItemEventSecondary(playerMP, heldItem, packet.getHand(), result ==
-                    null ? null : VecHelper.toVector3d(result.hitVec), blockSnapshot).isCancelled();
+                    null ? null : VecHelper.toVector3d(result.hitVec), blockSnapshot);
             lastTryBlockPacketItemResult = isCancelled;
             if (isCancelled) {
                 // update client
@@ -24,12 +24,13 @@
  */
 package org.spongepowered.common.scheduler;
 
-import org.spongepowered.api.scheduler.Task;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.config.category.SchedulerCategory;
 
-import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
@@ -37,14 +38,11 @@
 
 public class AsyncScheduler extends SchedulerBase {
 
-    // Adjustable timeout for pending Tasks
-    private long minimumTimeout = Long.MAX_VALUE;
-    private long lastProcessingTimestamp;
     // Locking mechanism
     private final Lock lock = new ReentrantLock();
     private final Condition condition = this.lock.newCondition();
-    // The dynamic thread pooling executor of asynchronous tasks.
-    private final ExecutorService executor = Executors.newCachedThreadPool();
+    // The thread pooling executor of asynchronous tasks, see SchedulerCategory.
+    private final ExecutorService executor = createExecutor();
 
     AsyncScheduler() {
         super(ScheduledTask.TaskSynchronicity.ASYNCHRONOUS);
@@ -59,49 +57,33 @@ ExecutorService getExecutor() {
         return this.executor;
     }
 
-    private void mainLoop() {
-        this.lastProcessingTimestamp = System.nanoTime();
-        while (true) {
-            recalibrateMinimumTimeout();
-            this.runTick();
+    private static ExecutorService createExecutor() {
+        final SchedulerCategory config = SpongeImpl.getGlobalConfig().getConfig().getScheduler();
+        final String type = config.getAsyncExecutor();
+        if (SchedulerCategory.EXECUTOR_WORK_STEALING.equalsIgnoreCase(type)) {
+            // Async mode keeps the submission order for tasks that are never joined
+            return new ForkJoinPool(config.getAsyncParallelism(), pool -> {
+                final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                thread.setName("Sponge - Async Scheduler Worker #" + thread.getPoolIndex());
+                return thread;
+            }, null, true);
         }
+        if (SchedulerCategory.EXECUTOR_VIRTUAL.equalsIgnoreCase(type)) {
+            try {
+                return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (ReflectiveOperationException e) {
+                SpongeImpl.getLogger().warn("Virtual threads aren't supported by this JVM, the async scheduler will use a cached pool instead.");
+            }
+        } else if (!SchedulerCategory.EXECUTOR_CACHED.equalsIgnoreCase(type)) {
+            SpongeImpl.getLogger().warn("Unknown async scheduler executor '{}', the async scheduler will use a cached pool instead.", type);
+        }
+        // Plugin tasks often block on I/O, so every running task gets its own thread
+        return Executors.newCachedThreadPool();
     }
 
-    private void recalibrateMinimumTimeout() {
-        this.lock.lock();
-        try {
-            Set<Task> tasks = this.getScheduledTasks();
-            this.minimumTimeout = Long.MAX_VALUE;
-            long now = System.nanoTime();
-            for (Task tmpTask : tasks) {
-                ScheduledTask task = (ScheduledTask) tmpTask;
-                // Recalibrate the wait delay for processing tasks before new
-                // tasks cause the scheduler to process pending tasks.
-                if (task.offset == 0 && task.period == 0) {
-                    this.minimumTimeout = 0;
-                }
-                // The time since the task last executed or was added to the map
-                long timeSinceLast = now - task.getTimestamp();
-
-                if (task.offset > 0 && task.getState() == ScheduledTask.ScheduledTaskState.WAITING) {
-                    // There is an offset and the task hasn't run yet
-                    this.minimumTimeout = Math.min(task.offset - timeSinceLast, this.minimumTimeout);
-                }
-                if (task.period > 0 && task.getState().isActive) {
-                    // The task repeats and has run after the initial delay
-                    this.minimumTimeout = Math.min(task.period - timeSinceLast, this.minimumTimeout);
-                }
-                if (this.minimumTimeout <= 0) {
-                    break;
-                }
-            }
-            if (!tasks.isEmpty()) {
-                long latency = System.nanoTime() - this.lastProcessingTimestamp;
-                this.minimumTimeout -= (latency <= 0) ? 0 : latency;
-                this.minimumTimeout = (this.minimumTimeout < 0) ? 0 : this.minimumTimeout;
-            }
-        } finally {
-            this.lock.unlock();
+    private void mainLoop() {
+        while (true) {
+            this.runTick();
         }
     }
 
@@ -109,7 +91,14 @@ private void recalibrateMinimumTimeout() {
     protected void preTick() {
         this.lock.lock();
         try {
-            this.condition.await(this.minimumTimeout, TimeUnit.NANOSECONDS);
+            // The timeout is computed while holding the lock, so tasks that
+            // are added in the meantime will always signal the condition.
+            if (!this.hasAddedTasks()) {
+                final long timeout = this.getNanosUntilNextTimeTask();
+                if (timeout > 0) {
+                    this.condition.await(timeout, TimeUnit.NANOSECONDS);
+                }
+            }
         } catch (InterruptedException ignored) {
             // The taskMap has been modified; there is work to do.
             // Continue on without handling the Exception.
@@ -118,11 +107,6 @@ protected void preTick() {
         }
     }
 
-    @Override
-    protected void postTick() {
-        this.lastProcessingTimestamp = System.nanoTime();
-    }
-
     @Override
     protected void finallyPostTick() {
         this.lock.unlock();
@@ -36,6 +36,8 @@
 import java.util.function.Consumer;
 import java.util.concurrent.TimeUnit;
 
+import javax.annotation.Nullable;
+
 /**
  * An internal representation of a {@link Task} created by a plugin.
  */
@@ -54,6 +56,9 @@ public class ScheduledTask implements Task {
     private final TaskSynchronicity syncType;
     private final String stringRepresentation;
     private Timing taskTimer;
+    // The node used to place this task in the timing wheels of its scheduler
+    final TimingWheel.Node<ScheduledTask> wheelNode = new TimingWheel.Node<>(this);
+    @Nullable SchedulerBase scheduler;
 
     // Internal Task state. Not for user-service use.
     public enum ScheduledTaskState {
@@ -133,6 +138,9 @@ public boolean cancel() {
             success = true;
         }
         this.setState(ScheduledTask.ScheduledTaskState.CANCELED);
+        if (this.scheduler != null) {
+            this.scheduler.onTaskCanceled(this);
+        }
         return success;
     }
 
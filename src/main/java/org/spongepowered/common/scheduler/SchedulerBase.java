@@ -35,13 +35,28 @@
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
 
 abstract class SchedulerBase {
 
+    // The resolution of the wheel used for tasks based on real time
+    private static final long TIME_WHEEL_RESOLUTION = TimeUnit.MILLISECONDS.toNanos(1);
+
     // The simple queue of all pending (and running) ScheduledTasks
     private final Map<UUID, ScheduledTask> taskMap = Maps.newConcurrentMap();
+    // Tasks that were added or cancelled since the last tick, they can come
+    // from any thread and are moved into the wheels by the scheduler thread.
+    private final Queue<ScheduledTask> addedTasks = new ConcurrentLinkedQueue<>();
+    private final Queue<ScheduledTask> canceledTasks = new ConcurrentLinkedQueue<>();
+    // The wheels are only accessed by the scheduler thread, ticks based tasks
+    // are placed in the tick wheel and all the others in the time wheel.
+    private final TimingWheel<ScheduledTask> tickWheel = new TimingWheel<>();
+    private final TimingWheel<ScheduledTask> timeWheel = new TimingWheel<>();
+    private final long timeWheelOrigin = System.nanoTime();
     private long sequenceNumber = 0L;
     private final String taskNameFmt;
 
@@ -68,6 +83,16 @@ protected long getTimestamp(ScheduledTask task) {
         return System.nanoTime();
     }
 
+    /**
+     * Gets the current tick of this scheduler, for schedulers that support
+     * tasks based on ticks.
+     *
+     * @return The current tick
+     */
+    protected long getCurrentTick() {
+        return 0L;
+    }
+
     /**
      * Adds the task to the task map, will attempt to process the task on the
      * next call to {@link #runTick}.
@@ -76,7 +101,44 @@ protected long getTimestamp(ScheduledTask task) {
      */
     protected void addTask(ScheduledTask task) {
         task.setTimestamp(this.getTimestamp(task));
+        task.scheduler = this;
         this.taskMap.put(task.getUniqueId(), task);
+        this.addedTasks.add(task);
+    }
+
+    /**
+     * Notifies the scheduler that the task got cancelled, so that it can be
+     * removed without waiting for its next execution.
+     *
+     * @param task The cancelled task
+     */
+    void onTaskCanceled(ScheduledTask task) {
+        this.canceledTasks.add(task);
+    }
+
+    /**
+     * Gets whether there are tasks which were added since the last call
+     * to {@link #runTick}.
+     *
+     * @return Has added tasks
+     */
+    protected boolean hasAddedTasks() {
+        return !this.addedTasks.isEmpty();
+    }
+
+    /**
+     * Gets the delay in nanoseconds after which the next call to
+     * {@link #runTick} may process tasks based on real time. May only be
+     * called from the scheduler thread.
+     *
+     * @return The delay, or {@link Long#MAX_VALUE} if there are no tasks
+     */
+    protected long getNanosUntilNextTimeTask() {
+        final long next = this.timeWheel.nextExpiry();
+        if (next == Long.MAX_VALUE) {
+            return Long.MAX_VALUE;
+        }
+        return Math.max(0L, next * TIME_WHEEL_RESOLUTION + this.timeWheelOrigin - System.nanoTime());
     }
 
     /**
@@ -99,13 +161,15 @@ protected Set<Task> getScheduledTasks() {
     }
 
     /**
-     * Process all tasks in the map.
+     * Process all tasks that are due.
      */
     protected final void runTick() {
         this.preTick();
         TimingsManager.PLUGIN_SCHEDULER_HANDLER.startTimingIfSync();
         try {
-            this.taskMap.values().forEach(this::processTask);
+            this.drainQueuedTasks();
+            this.tickWheel.advance(this.getCurrentTick(), this::processDueTask);
+            this.timeWheel.advance((System.nanoTime() - this.timeWheelOrigin) / TIME_WHEEL_RESOLUTION, this::processDueTask);
             this.postTick();
         } finally {
             this.finallyPostTick();
@@ -113,6 +177,48 @@ protected final void runTick() {
         TimingsManager.PLUGIN_SCHEDULER_HANDLER.stopTimingIfSync();
     }
 
+    private void drainQueuedTasks() {
+        ScheduledTask task;
+        while ((task = this.addedTasks.poll()) != null) {
+            if (task.getState() == ScheduledTask.ScheduledTaskState.CANCELED) {
+                this.removeTask(task);
+            } else {
+                this.scheduleInWheel(task);
+            }
+        }
+        while ((task = this.canceledTasks.poll()) != null) {
+            task.wheelNode.unlink();
+            this.removeTask(task);
+        }
+    }
+
+    /**
+     * Places the task in the wheel slot in which it will be due next.
+     *
+     * @param task The task to schedule
+     */
+    private void scheduleInWheel(ScheduledTask task) {
+        final boolean waiting = task.getState() == ScheduledTask.ScheduledTaskState.WAITING;
+        final long threshold = waiting ? task.offset : task.period;
+        if (waiting ? task.delayIsTicks : task.intervalIsTicks) {
+            this.tickWheel.schedule(task.wheelNode, task.getTimestamp() + threshold);
+        } else {
+            // Round up so the task can't be handed out before it's due, the
+            // exact check is still performed by processTask.
+            final long deadline = Math.max(0L, task.getTimestamp() + threshold - this.timeWheelOrigin);
+            this.timeWheel.schedule(task.wheelNode, (deadline + TIME_WHEEL_RESOLUTION - 1) / TIME_WHEEL_RESOLUTION);
+        }
+    }
+
+    private void processDueTask(ScheduledTask task) {
+        this.processTask(task);
+        // Delayed tasks that weren't due yet and repeating tasks are put back
+        // into the wheel, based on their new state and timestamp.
+        if (task.getState() != ScheduledTask.ScheduledTaskState.CANCELED && this.taskMap.containsKey(task.getUniqueId())) {
+            this.scheduleInWheel(task);
+        }
+    }
+
     /**
      * Fired when the scheduler begins to tick, before any tasks are processed.
      */
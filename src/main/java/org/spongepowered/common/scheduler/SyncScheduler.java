@@ -44,6 +44,11 @@ void tick() {
         this.runTick();
     }
 
+    @Override
+    protected long getCurrentTick() {
+        return this.counter;
+    }
+
     @Override
     protected long getTimestamp(ScheduledTask task) {
         if (task.getState() == ScheduledTask.ScheduledTaskState.WAITING) {
@@ -0,0 +1,240 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import java.util.function.Consumer;
+
+import javax.annotation.Nullable;
+
+/**
+ * A hierarchical timing wheel. Entries are hashed into slots by their
+ * deadline so that advancing the wheel only touches the entries that are due
+ * in the reached slot, instead of every pending entry.
+ *
+ * <p>The wheel is unit agnostic, the deadline and the current time are
+ * expressed in wheel ticks which are chosen by the owner of the wheel.
+ * Deadlines which are too far away to be represented are clamped to the
+ * furthest slot, entries are expected to be re-checked by the owner when
+ * they are handed out.</p>
+ *
+ * <p>The wheel is not thread safe.</p>
+ *
+ * @param <E> The type of the scheduled values
+ */
+final class TimingWheel<E> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOT_COUNT = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOT_COUNT - 1;
+    private static final int LEVELS = 6;
+    private static final long MAX_DELTA = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+    // The sentinels of the circular slot lists, indexed by level and slot
+    private final Node<E>[][] slots;
+    private long time;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    TimingWheel() {
+        this.slots = new Node[LEVELS][SLOT_COUNT];
+        for (Node<E>[] level : this.slots) {
+            for (int i = 0; i < level.length; i++) {
+                final Node<E> sentinel = new Node<>(null);
+                sentinel.prev = sentinel;
+                sentinel.next = sentinel;
+                level[i] = sentinel;
+            }
+        }
+    }
+
+    /**
+     * Gets the current time of this wheel, all the slots up to and including
+     * this time have been processed.
+     *
+     * @return The current time
+     */
+    long getTime() {
+        return this.time;
+    }
+
+    /**
+     * Gets the number of scheduled entries.
+     *
+     * @return The number of entries
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Schedules the node at the given deadline, rescheduling it if it
+     * was already scheduled. Deadlines that already passed will be handed
+     * out at the next tick.
+     *
+     * @param node The node to schedule
+     * @param deadline The deadline in wheel ticks
+     */
+    void schedule(Node<E> node, long deadline) {
+        node.unlink();
+        node.deadline = Math.min(Math.max(deadline, this.time + 1), this.time + MAX_DELTA);
+        this.insert(node);
+    }
+
+    /**
+     * Advances the wheel up to the given time, passing every entry which
+     * reached its deadline to the consumer. The consumer may reschedule the
+     * entries it is given.
+     *
+     * @param now The time to advance to
+     * @param consumer The consumer of the entries that are due
+     */
+    void advance(long now, Consumer<E> consumer) {
+        while (this.time < now) {
+            if (this.size == 0) {
+                this.time = now;
+                return;
+            }
+            // Skip the ticks at which nothing is due or needs to be cascaded
+            final long next = this.nextExpiry();
+            if (next > now) {
+                this.time = now;
+                return;
+            }
+            final long tick = next;
+            this.time = tick;
+            this.cascade(tick);
+            final Node<E> sentinel = this.slots[0][(int) (tick & SLOT_MASK)];
+            while (sentinel.next != sentinel) {
+                final Node<E> node = sentinel.next;
+                node.unlink();
+                consumer.accept(node.value);
+            }
+        }
+    }
+
+    /**
+     * Gets the earliest tick at which entries may be handed out by
+     * {@link #advance}. Entries that are in the higher levels of the wheel
+     * are accounted for by the tick at which they will be cascaded, so the
+     * result may be earlier than the actual next deadline.
+     *
+     * @return The next tick to process, or {@link Long#MAX_VALUE} if the wheel is empty
+     */
+    long nextExpiry() {
+        if (this.size == 0) {
+            return Long.MAX_VALUE;
+        }
+        long next = Long.MAX_VALUE;
+        for (int level = 0; level < LEVELS; level++) {
+            final int shift = SLOT_BITS * level;
+            final long base = this.time >>> shift;
+            final Node<E>[] levelSlots = this.slots[level];
+            for (int i = 1; i <= SLOT_COUNT; i++) {
+                final Node<E> sentinel = levelSlots[(int) ((base + i) & SLOT_MASK)];
+                if (sentinel.next != sentinel) {
+                    next = Math.min(next, (base + i) << shift);
+                    break;
+                }
+            }
+        }
+        return next;
+    }
+
+    private void cascade(long tick) {
+        if ((tick & SLOT_MASK) != 0) {
+            return;
+        }
+        // Find the highest level that wraps at this tick and redistribute its
+        // entries top down, so that the entries moved into a lower level slot
+        // which is also due are redistributed along with it
+        int level = 1;
+        while (level + 1 < LEVELS && (tick & ((1L << (SLOT_BITS * (level + 1))) - 1)) == 0) {
+            level++;
+        }
+        for (; level > 0; level--) {
+            final Node<E> sentinel = this.slots[level][(int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK)];
+            while (sentinel.next != sentinel) {
+                final Node<E> node = sentinel.next;
+                node.unlink();
+                this.insert(node);
+            }
+        }
+    }
+
+    private void insert(Node<E> node) {
+        final long delta = node.deadline - this.time;
+        final int level = delta < SLOT_COUNT ? 0 : (63 - Long.numberOfLeadingZeros(delta)) / SLOT_BITS;
+        final Node<E> sentinel = this.slots[level][(int) ((node.deadline >>> (SLOT_BITS * level)) & SLOT_MASK)];
+        node.prev = sentinel.prev;
+        node.next = sentinel;
+        sentinel.prev.next = node;
+        sentinel.prev = node;
+        node.wheel = this;
+        this.size++;
+    }
+
+    /**
+     * A node of the timing wheel, it is meant to be allocated once per value
+     * and reused for every time the value is scheduled.
+     *
+     * @param <E> The type of the value
+     */
+    static final class Node<E> {
+
+        final E value;
+        long deadline;
+        @Nullable private TimingWheel<E> wheel;
+        @Nullable private Node<E> prev;
+        @Nullable private Node<E> next;
+
+        Node(E value) {
+            this.value = value;
+        }
+
+        /**
+         * Gets whether this node is currently scheduled in a wheel.
+         *
+         * @return Is scheduled
+         */
+        boolean isScheduled() {
+            return this.wheel != null;
+        }
+
+        /**
+         * Removes this node from the wheel it's scheduled in, if any.
+         */
+        void unlink() {
+            if (this.wheel == null) {
+                return;
+            }
+            this.prev.next = this.next;
+            this.next.prev = this.prev;
+            this.prev = null;
+            this.next = null;
+            this.wheel.size--;
+            this.wheel = null;
+        }
+    }
+}
@@ -25,8 +25,10 @@
 package org.spongepowered.common.text;
 
 import com.google.common.collect.Lists;
+import io.netty.handler.codec.EncoderException;
 import net.minecraft.nbt.NBTTagList;
 import net.minecraft.nbt.NBTTagString;
+import net.minecraft.network.PacketBuffer;
 import net.minecraft.util.text.ITextComponent;
 import net.minecraft.util.text.TextComponentString;
 import net.minecraft.util.text.TextComponentTranslation;
@@ -35,6 +37,7 @@
 import org.spongepowered.common.interfaces.text.IMixinTextComponent;
 import org.spongepowered.common.interfaces.text.IMixinText;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 public final class SpongeTexts {
@@ -110,6 +113,28 @@ public static ITextComponent fixActionBarFormatting(ITextComponent component) {
         return result;
     }
 
+    /**
+     * Serializes the component into the bytes that are written for it by
+     * {@link PacketBuffer#writeTextComponent(ITextComponent)}, so packets that
+     * are sent to many connections only have to serialize it once.
+     *
+     * @param component The component to encode
+     * @return The encoded component
+     */
+    public static byte[] encodeComponent(ITextComponent component) {
+        final byte[] bytes = ITextComponent.Serializer.componentToJson(component).getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > Short.MAX_VALUE) {
+            throw new EncoderException("String too big (was " + bytes.length + " bytes encoded, max " + Short.MAX_VALUE + ")");
+        }
+        return bytes;
+    }
+
+    public static PacketBuffer writeEncodedComponent(PacketBuffer buffer, byte[] encodedComponent) {
+        buffer.writeVarInt(encodedComponent.length);
+        buffer.writeBytes(encodedComponent);
+        return buffer;
+    }
+
     public static List<String> asJson(List<Text> list) {
         List<String> json = Lists.newArrayList();
         for (Text line : list) {
@@ -31,6 +31,7 @@
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import net.minecraft.world.WorldServer;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.data.manipulator.mutable.DisplayNameData;
 import org.spongepowered.api.data.manipulator.mutable.entity.ExperienceHolderData;
@@ -54,6 +55,7 @@
 import org.spongepowered.api.text.selector.SelectorTypes;
 import org.spongepowered.api.util.Functional;
 import org.spongepowered.api.command.CommandSource;
+import org.spongepowered.api.util.AABB;
 import org.spongepowered.api.world.Locatable;
 import org.spongepowered.api.world.Location;
 import org.spongepowered.api.world.World;
@@ -63,6 +65,7 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -70,6 +73,8 @@
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import javax.annotation.Nullable;
+
 /**
  * A resolver that acts like Vanilla Minecraft in many regards.
  */
@@ -81,6 +86,10 @@ public class SelectorResolver {
     private static final Set<ArgumentType<?>> LOCATION_BASED_ARGUMENTS;
     private static final Function<Number, Double> TO_DOUBLE = Number::doubleValue;
     private static final Collection<SelectorType> INFINITE_TYPES = ImmutableSet.of(SelectorTypes.ALL_ENTITIES, SelectorTypes.ALL_PLAYERS);
+    // Larger search boxes go through the entity list instead
+    private static final int MAX_SEARCH_CHUNKS = 1024;
+    // A stable order, ids only grow so this follows the order the entities were created in
+    private static final Comparator<Entity> ENTITY_ID_ORDER = Comparator.comparingInt(entity -> ((net.minecraft.entity.Entity) entity).getEntityId());
 
     static {
         ImmutableSet.Builder<ArgumentType<?>> builder = ImmutableSet.builder();
@@ -114,7 +123,9 @@ private static <I, R> Predicate<I> requireTypePredicate(Class<I> inputType, fina
     private final Vector3d position;
     private final Optional<CommandSource> original;
     private final Selector selector;
+    private final boolean playersOnly;
     private final Predicate<Entity> selectorFilter;
+    @Nullable private final AABB searchBox;
     private final boolean alwaysUsePosition;
 
     public SelectorResolver(Collection<? extends Extent> extents, Selector selector, boolean force) {
@@ -135,38 +146,78 @@ private SelectorResolver(Collection<? extends Extent> extents, Vector3d position
         this.position = position == null ? ORIGIN : position;
         this.original = Optional.ofNullable(original);
         this.selector = checkNotNull(selector);
+        this.playersOnly = selectsOnlyPlayers();
         this.selectorFilter = makeFilter();
+        this.searchBox = makeSearchBox();
         this.alwaysUsePosition = force;
     }
 
+    private boolean selectsOnlyPlayers() {
+        SelectorType selectorType = this.selector.getType();
+        Optional<Invertible<EntityType>> type = this.selector.getArgument(ArgumentTypes.ENTITY_TYPE);
+        // isn't an ALL_ENTITIES selector or it is a RANDOM selector for only players
+        return selectorType == SelectorTypes.ALL_PLAYERS || selectorType == SelectorTypes.NEAREST_PLAYER
+                || (selectorType == SelectorTypes.RANDOM && type.isPresent() && !type.get().isInverted()
+                && type.get().getValue() != EntityTypes.PLAYER);
+    }
+
     private Predicate<Entity> makeFilter() {
-        // for easier reading
-        final Selector sel = this.selector;
         Vector3d position = getPositionOrDefault(this.position, ArgumentTypes.POSITION);
         List<Predicate<Entity>> filters = Lists.newArrayList();
+        if (this.playersOnly) {
+            // insert at the start so it applies first
+            filters.add(requireTypePredicate(Entity.class, Player.class));
+        }
+        // The cheap filters go first, the ones that have to look up data of the entity last
         addTypeFilters(filters);
         addDimensionFilters(position, filters);
         addRadiusFilters(position, filters);
-        addLevelFilters(filters);
-        addGamemodeFilters(filters);
-        addNameFilters(filters);
         addRotationFilters(filters);
+        addNameFilters(filters);
+        addGamemodeFilters(filters);
+        addLevelFilters(filters);
         addTeamFilters(filters);
         addScoreFilters(filters);
-        SelectorType selectorType = sel.getType();
-        Optional<Invertible<EntityType>> type = sel.getArgument(ArgumentTypes.ENTITY_TYPE);
-        // isn't an ALL_ENTITIES selector or it is a RANDOM selector for only players
-        boolean isPlayerOnlySelector =
-            selectorType == SelectorTypes.ALL_PLAYERS || selectorType == SelectorTypes.NEAREST_PLAYER
-                || (selectorType == SelectorTypes.RANDOM && type.isPresent() && !type.get().isInverted()
-                && type.get().getValue() != EntityTypes.PLAYER);
-        if (isPlayerOnlySelector) {
-            // insert at the start so it applies first
-            filters.add(0, requireTypePredicate(Entity.class, Player.class));
-        }
         return Functional.predicateAnd(filters);
     }
 
+    /**
+     * Gets the box that contains every entity that can be selected, if the
+     * radius or the volume of the selector is bounded.
+     *
+     * @return The box to search for entities, or null to search all of them
+     */
+    @Nullable
+    private AABB makeSearchBox() {
+        final Selector sel = this.selector;
+        Vector3d position = getPositionOrDefault(this.position, ArgumentTypes.POSITION);
+        Vector3d min = null;
+        Vector3d max = null;
+        Optional<Integer> radiusMax = sel.get(ArgumentTypes.RADIUS.maximum());
+        // The radius filter squares the radius, so a negative one can't bound the box
+        if (radiusMax.isPresent() && radiusMax.get() >= 0) {
+            int radMax = radiusMax.get();
+            min = position.sub(radMax, radMax, radMax);
+            max = position.add(radMax, radMax, radMax);
+        }
+        if (sel.has(ArgumentTypes.DIMENSION.x()) && sel.has(ArgumentTypes.DIMENSION.y()) && sel.has(ArgumentTypes.DIMENSION.z())) {
+            Vector3d corner = position.add(getPositionOrDefault(ORIGIN, ArgumentTypes.DIMENSION));
+            Vector3d boxMin = position.min(corner);
+            Vector3d boxMax = position.max(corner);
+            min = min == null ? boxMin : min.max(boxMin);
+            max = max == null ? boxMax : max.min(boxMax);
+        }
+        if (min == null) {
+            return null;
+        }
+        if (min.getX() > max.getX() || min.getY() > max.getY() || min.getZ() > max.getZ()) {
+            // The radius and the volume don't overlap, so the filters reject every entity anyway
+            return null;
+        }
+        // Grown by a block so entities on the bounds intersect it, the filter checks the exact bounds
+        return new AABB(min.sub(1, 1, 1), max.add(1, 1, 1));
+    }
+
     private void addDimensionFilters(final Vector3d position, List<Predicate<Entity>> filters) {
         Selector sel = this.selector;
         Vector3d boxDimensions = getPositionOrDefault(ORIGIN, ArgumentTypes.DIMENSION);
@@ -244,12 +295,20 @@ private void addRadiusFilters(final Vector3d position, List<Predicate<Entity>> f
         final Selector sel = this.selector;
         Optional<Integer> radiusMin = sel.get(ArgumentTypes.RADIUS.minimum());
         Optional<Integer> radiusMax = sel.get(ArgumentTypes.RADIUS.maximum());
-        if (radiusMin.isPresent()) {
+        if (radiusMin.isPresent() && radiusMax.isPresent()) {
+            int radMin = radiusMin.get();
+            int radMax = radiusMax.get();
+            final int radMinSquared = radMin * radMin;
+            final int radMaxSquared = radMax * radMax;
+            filters.add(input -> {
+                double distanceSquared = input.getLocation().getPosition().distanceSquared(position);
+                return distanceSquared >= radMinSquared && distanceSquared <= radMaxSquared;
+            });
+        } else if (radiusMin.isPresent()) {
             int radMin = radiusMin.get();
             final int radMinSquared = radMin * radMin;
             filters.add(input -> input.getLocation().getPosition().distanceSquared(position) >= radMinSquared);
-        }
-        if (radiusMax.isPresent()) {
+        } else if (radiusMax.isPresent()) {
             int radMax = radiusMax.get();
             final int radMaxSquared = radMax * radMax;
             filters.add(input -> input.getLocation().getPosition().distanceSquared(position) <= radMaxSquared);
@@ -350,7 +409,7 @@ public Set<Entity> resolve() {
         int count = 0;
         ImmutableSet.Builder<Entity> entities = ImmutableSet.builder();
         for (Extent extent : extents) {
-            Collection<Entity> allEntities = extent.getEntities();
+            Collection<Entity> allEntities = getCandidates(extent);
             if (selectorType == SelectorTypes.RANDOM) {
                 List<Entity> entityList = new ArrayList<>(allEntities);
                 Collections.shuffle(entityList);
@@ -371,6 +430,44 @@ public Set<Entity> resolve() {
         return entities.build();
     }
 
+    private Collection<Entity> getCandidates(Extent extent) {
+        final List<Entity> candidates;
+        if (this.searchBox != null && getChunkCount(this.searchBox) <= getMaxSearchChunks(extent)) {
+            // Only looks through the chunks the box intersects
+            candidates = new ArrayList<>(extent.getIntersectingEntities(this.searchBox));
+        } else if (extent instanceof World && (this.playersOnly || isPlayerTypeSelector())) {
+            candidates = new ArrayList<>(((World) extent).getPlayers());
+        } else {
+            candidates = new ArrayList<>(extent.getEntities());
+        }
+        // Sorted so the selected entities don't depend on which of the lookups was used
+        candidates.sort(ENTITY_ID_ORDER);
+        return candidates;
+    }
+
+    private static long getChunkCount(AABB box) {
+        final long sizeX = (box.getMax().getFloorX() >> 4) - (box.getMin().getFloorX() >> 4) + 1L;
+        final long sizeZ = (box.getMax().getFloorZ() >> 4) - (box.getMin().getFloorZ() >> 4) + 1L;
+        return sizeX * sizeZ;
+    }
+
+    /**
+     * Gets the amount of chunk columns a search box may cover before it is
+     * cheaper to go through all the entities of the extent, a box query visits
+     * every chunk column in the box whether it's loaded or not.
+     */
+    private static int getMaxSearchChunks(Extent extent) {
+        if (extent instanceof WorldServer) {
+            return Math.min(MAX_SEARCH_CHUNKS, ((WorldServer) extent).getChunkProvider().getLoadedChunkCount());
+        }
+        return MAX_SEARCH_CHUNKS;
+    }
+
+    private boolean isPlayerTypeSelector() {
+        Optional<Invertible<EntityType>> type = this.selector.getArgument(ArgumentTypes.ENTITY_TYPE);
+        return type.isPresent() && !type.get().isInverted() && type.get().getValue() == EntityTypes.PLAYER;
+    }
+
     private Set<? extends Extent> getExtentSet() {
         if (!this.alwaysUsePosition && Collections.disjoint(getArgumentTypes(this.selector.getArguments()), LOCATION_BASED_ARGUMENTS)) {
             return ImmutableSet.copyOf(SpongeImpl.getGame().getServer().getWorlds());
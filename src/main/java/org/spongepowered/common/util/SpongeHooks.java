@@ -171,6 +171,18 @@ public static void logBlockTrack(World world, Block block, BlockPos pos, User us
         }
     }
 
+    /**
+     * Gets whether {@link #logBlockAction} would log the given type of block
+     * change, so the transaction to log only needs to be created when it does.
+     *
+     * @param world The world of the block change
+     * @param type The type of the block change
+     * @return True if the block change is logged
+     */
+    public static boolean isBlockActionLogged(World world, @Nullable BlockChange type) {
+        return !world.isRemote && type != null && type.allowsLogging(getActiveConfig((WorldServer) world).getConfig().getLogging());
+    }
+
     public static void logBlockAction(World world, @Nullable BlockChange type, Transaction<BlockSnapshot> transaction) {
         if (world.isRemote) {
             return;
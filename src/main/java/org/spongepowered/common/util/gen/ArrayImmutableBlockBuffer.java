@@ -26,8 +26,8 @@
 
 import com.flowpowered.math.vector.Vector3i;
 import org.spongepowered.api.block.BlockState;
-import org.spongepowered.api.block.BlockTypes;
 import org.spongepowered.api.util.DiscreteTransform3;
+import org.spongepowered.api.world.extent.BlockVolume;
 import org.spongepowered.api.world.extent.ImmutableBlockVolume;
 import org.spongepowered.api.world.extent.MutableBlockVolume;
 import org.spongepowered.api.world.extent.StorageType;
@@ -39,13 +39,9 @@
 import org.spongepowered.common.world.extent.ImmutableBlockViewDownsize;
 import org.spongepowered.common.world.extent.ImmutableBlockViewTransform;
 import org.spongepowered.common.world.extent.worker.SpongeBlockVolumeWorker;
-import org.spongepowered.common.world.schematic.GlobalPalette;
 
 public class ArrayImmutableBlockBuffer extends AbstractBlockBuffer implements ImmutableBlockVolume {
 
-    @SuppressWarnings("ConstantConditions")
-    private static final BlockState AIR = BlockTypes.AIR.getDefaultState();
-
     private final BlockPalette palette;
     private final BackingData data;
 
@@ -69,15 +65,27 @@ public ArrayImmutableBlockBuffer(BlockPalette palette, Vector3i start, Vector3i
         this.palette = palette;
     }
 
+    /**
+     * Copies the blocks of the given volume into a new buffer with a local palette.
+     *
+     * @param volume The volume to copy
+     * @return The new buffer
+     */
+    public static ImmutableBlockVolume copyOf(BlockVolume volume) {
+        final ArrayMutableBlockBuffer buffer = ArrayMutableBlockBuffer.copyOf(volume);
+        // The mutable buffer is discarded, so its data doesn't need to be copied again
+        return new ArrayImmutableBlockBuffer(buffer.getPalette(), buffer.getData(), buffer.getBlockMin(), buffer.getBlockSize());
+    }
+
     @Override
     public BlockPalette getPalette() {
-        return GlobalPalette.instance;
+        return this.palette;
     }
 
     @Override
     public BlockState getBlock(int x, int y, int z) {
         checkRange(x, y, z);
-        return this.palette.get(this.data.get(getIndex(x, y, z))).orElse(AIR);
+        return ArrayMutableBlockBuffer.getState(this.palette, this.data.get(getIndex(x, y, z)));
     }
 
     @Override
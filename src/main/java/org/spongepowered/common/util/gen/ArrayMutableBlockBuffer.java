@@ -29,6 +29,7 @@
 import org.spongepowered.api.block.BlockState;
 import org.spongepowered.api.block.BlockTypes;
 import org.spongepowered.api.util.DiscreteTransform3;
+import org.spongepowered.api.world.extent.BlockVolume;
 import org.spongepowered.api.world.extent.ImmutableBlockVolume;
 import org.spongepowered.api.world.extent.MutableBlockVolume;
 import org.spongepowered.api.world.extent.StorageType;
@@ -68,7 +69,8 @@ public ArrayMutableBlockBuffer(BlockPalette palette, Vector3i start, Vector3i si
         int airId = palette.getOrAssign(AIR);
 
         int dataSize = area();
-        this.data = new PackedBackingData(dataSize, palette.getHighestId());
+        this.data = OffHeapBackingData.shouldUse(size) ? new OffHeapBackingData(dataSize, palette.getHighestId())
+                : new PackedBackingData(dataSize, palette.getHighestId());
 
         // all blocks default to air
         if (airId != 0) {
@@ -98,48 +100,156 @@ public ArrayMutableBlockBuffer(BlockPalette palette, Vector3i start, Vector3i si
         this.data = blocks;
     }
 
+    /**
+     * Copies the blocks of the given volume into a new buffer with a local palette.
+     *
+     * @param volume The volume to copy
+     * @return The new buffer
+     */
+    public static ArrayMutableBlockBuffer copyOf(BlockVolume volume) {
+        final Vector3i min = volume.getBlockMin();
+        final Vector3i max = volume.getBlockMax();
+        final ArrayMutableBlockBuffer buffer = new ArrayMutableBlockBuffer(new BimapPalette(), min, volume.getBlockSize());
+        // Iterate in the order of the backing data
+        for (int x = min.getX(); x <= max.getX(); x++) {
+            for (int z = min.getZ(); z <= max.getZ(); z++) {
+                for (int y = min.getY(); y <= max.getY(); y++) {
+                    buffer.setBlock(x, y, z, volume.getBlock(x, y, z));
+                }
+            }
+        }
+        return buffer;
+    }
+
+    /**
+     * Gets whether a buffer of the given size is stored outside of the java heap.
+     *
+     * @param size The size of the buffer
+     * @return Whether the buffer is stored off heap
+     */
+    public static boolean isStoredOffHeap(Vector3i size) {
+        return OffHeapBackingData.shouldUse(size);
+    }
+
     @Override
     public BlockPalette getPalette() {
         return this.palette;
     }
 
+    BackingData getData() {
+        return this.data;
+    }
+
+    /**
+     * Gets the block state of an id, avoiding the optional of
+     * {@link BlockPalette#get(int)} for the palettes of Sponge.
+     *
+     * @param palette The palette
+     * @param id The id
+     * @return The block state, or air if the id isn't assigned
+     */
+    static BlockState getState(BlockPalette palette, int id) {
+        final BlockState state;
+        if (palette instanceof BimapPalette) {
+            state = ((BimapPalette) palette).getNullable(id);
+        } else if (palette instanceof GlobalPalette) {
+            state = ((GlobalPalette) palette).getNullable(id);
+        } else {
+            return palette.get(id).orElse(AIR);
+        }
+        return state == null ? AIR : state;
+    }
+
     @Override
     public boolean setBlock(int x, int y, int z, BlockState block) {
         checkRange(x, y, z);
         int id = this.palette.getOrAssign(block);
         if (id > this.data.getMax()) {
+            final BlockPalette palette = this.palette;
+            resizeData();
+            if (this.palette != palette) {
+                id = this.palette.getOrAssign(block);
+            }
+        }
+        this.data.set(getIndex(x, y, z), id);
+        return true;
+    }
 
-            int highId = this.palette.getHighestId();
-            int dataSize = area();
-            BackingData newdata;
-            if (highId * 2 > GlobalPalette.instance.getHighestId()) {
-                // we are only saving about 1 bit at this point, so transition to a global palette
-                BlockPalette newpalette = GlobalPalette.instance;
-                id = newpalette.getOrAssign(block);
-                highId = newpalette.getHighestId();
-
-                newdata = new PackedBackingData(dataSize, highId);
-                for (int i = 0; i < dataSize; i++) {
-                    newdata.set(i, newpalette.getOrAssign(this.palette.get(this.data.get(i)).orElse(AIR)));
+    /**
+     * Sets all the blocks of a box at once. The ids of the blocks are looked
+     * up before anything is written, so the backing data is resized at most
+     * once for the whole box.
+     *
+     * @param min The minimum position of the box
+     * @param max The maximum position of the box
+     * @param blocks The blocks of the box, in z, y, x order
+     */
+    public void setBlocks(Vector3i min, Vector3i max, BlockState[] blocks) {
+        checkRange(min.getX(), min.getY(), min.getZ());
+        checkRange(max.getX(), max.getY(), max.getZ());
+        final int[] ids = new int[blocks.length];
+        if (assignIds(blocks, ids) > this.data.getMax()) {
+            final BlockPalette palette = this.palette;
+            resizeData();
+            if (this.palette != palette) {
+                assignIds(blocks, ids);
+            }
+        }
+        int i = 0;
+        for (int z = min.getZ(); z <= max.getZ(); z++) {
+            for (int y = min.getY(); y <= max.getY(); y++) {
+                for (int x = min.getX(); x <= max.getX(); x++) {
+                    this.data.set(getIndex(x, y, z), ids[i++]);
                 }
-                this.palette = newpalette;
-            } else {
+            }
+        }
+    }
 
-                newdata = new PackedBackingData(dataSize, highId);
-                for (int i = 0; i < dataSize; i++) {
-                    newdata.set(i, this.data.get(i));
-                }
+    private int assignIds(BlockState[] blocks, int[] ids) {
+        // Neighbouring blocks are often the same, so skip the palette lookup for those
+        BlockState last = null;
+        int lastId = 0;
+        int highId = 0;
+        for (int i = 0; i < blocks.length; i++) {
+            final BlockState block = blocks[i];
+            if (block != last) {
+                last = block;
+                lastId = this.palette.getOrAssign(block);
+                highId = Math.max(highId, lastId);
             }
-            this.data = newdata;
+            ids[i] = lastId;
         }
-        this.data.set(getIndex(x, y, z), id);
-        return true;
+        return highId;
+    }
+
+    private void resizeData() {
+        int highId = this.palette.getHighestId();
+        int dataSize = area();
+        BackingData newdata;
+        if (highId * 2 > GlobalPalette.instance.getHighestId()) {
+            // we are only saving about 1 bit at this point, so transition to a global palette
+            BlockPalette newpalette = GlobalPalette.instance;
+            highId = newpalette.getHighestId();
+
+            newdata = this.data.resized(highId);
+            for (int i = 0; i < dataSize; i++) {
+                newdata.set(i, newpalette.getOrAssign(getState(this.palette, this.data.get(i))));
+            }
+            this.palette = newpalette;
+        } else {
+
+            newdata = this.data.resized(highId);
+            for (int i = 0; i < dataSize; i++) {
+                newdata.set(i, this.data.get(i));
+            }
+        }
+        this.data = newdata;
     }
 
     @Override
     public BlockState getBlock(int x, int y, int z) {
         checkRange(x, y, z);
-        return this.palette.get(this.data.get(getIndex(x, y, z))).orElse(AIR);
+        return getState(this.palette, this.data.get(getIndex(x, y, z)));
     }
 
     @Override
@@ -204,6 +314,12 @@ interface BackingData {
          */
         BackingData copyOf();
 
+        /**
+         * Creates an empty BackingData of the same kind and size, which
+         * supports ids up to the given value
+         */
+        BackingData resized(int highestValue);
+
         /**
          * Gets the maximum id supported by this BackingData
          */
@@ -233,6 +349,11 @@ public BackingData copyOf() {
             return new CharBackingData(this.data.clone());
         }
 
+        @Override
+        public BackingData resized(int highestValue) {
+            return new PackedBackingData(this.data.length, highestValue);
+        }
+
         @Override
         public int getMax() {
             return Character.MAX_VALUE;
@@ -313,6 +434,11 @@ public PackedBackingData copyOf() {
             return new PackedBackingData(this.arraySize, this.bits, this.longArray.clone());
         }
 
+        @Override
+        public BackingData resized(int highestValue) {
+            return new PackedBackingData(this.arraySize, highestValue);
+        }
+
         @Override
         public int getMax() {
             return (int) this.maxValue;
@@ -0,0 +1,141 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util.gen;
+
+import com.flowpowered.math.vector.Vector3i;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.config.category.OffHeapBlockBufferCategory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Backing data which stores its ids outside of the java heap, either in
+ * native memory or in a memory mapped temporary file. Every id takes up one,
+ * two or four bytes, depending on the highest id it has to hold.
+ */
+final class OffHeapBackingData implements ArrayMutableBlockBuffer.BackingData {
+
+    private final ByteBuffer buffer;
+    private final int size;
+    private final int bytes;
+    private final boolean memoryMapped;
+
+    /**
+     * Gets whether a buffer of the given size should be stored off heap.
+     *
+     * @param size The size of the buffer
+     * @return Whether to store the buffer off heap
+     */
+    static boolean shouldUse(Vector3i size) {
+        final OffHeapBlockBufferCategory category = SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getOffHeapBlockBufferCategory();
+        return category.isEnabled() && (long) size.getX() * size.getY() * size.getZ() >= category.getMinVolume();
+    }
+
+    /**
+     * Creates new off heap backing data, the storage is chosen from the config.
+     *
+     * @param size The number of elements
+     * @param highestValue The highest value to prepare for
+     */
+    OffHeapBackingData(int size, int highestValue) {
+        this(size, highestValue, SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getOffHeapBlockBufferCategory().isMemoryMapped());
+    }
+
+    private OffHeapBackingData(int size, int highestValue, boolean memoryMapped) {
+        this.size = size;
+        this.bytes = highestValue <= 0xFF ? 1 : highestValue <= 0xFFFF ? 2 : 4;
+        this.memoryMapped = memoryMapped;
+        final long capacity = (long) size * this.bytes;
+        if (capacity > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Buffer of " + size + " blocks is too large to be stored off heap");
+        }
+        // Both are zero filled
+        this.buffer = memoryMapped ? map((int) capacity) : ByteBuffer.allocateDirect((int) capacity);
+    }
+
+    private static ByteBuffer map(int capacity) {
+        try {
+            final Path file = Files.createTempFile("sponge-blocks", ".tmp");
+            // The mapping stays valid after the channel is closed and the file is deleted
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                    StandardOpenOption.DELETE_ON_CLOSE)) {
+                return channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+            }
+        } catch (IOException e) {
+            SpongeImpl.getLogger().warn("Failed to map a temporary file for a block buffer, using native memory instead", e);
+            return ByteBuffer.allocateDirect(capacity);
+        }
+    }
+
+    @Override
+    public int get(int index) {
+        switch (this.bytes) {
+            case 1:
+                return this.buffer.get(index) & 0xFF;
+            case 2:
+                return this.buffer.getChar(index << 1);
+            default:
+                return this.buffer.getInt(index << 2);
+        }
+    }
+
+    @Override
+    public void set(int index, int val) {
+        switch (this.bytes) {
+            case 1:
+                this.buffer.put(index, (byte) val);
+                break;
+            case 2:
+                this.buffer.putChar(index << 1, (char) val);
+                break;
+            default:
+                this.buffer.putInt(index << 2, val);
+        }
+    }
+
+    @Override
+    public ArrayMutableBlockBuffer.BackingData copyOf() {
+        final OffHeapBackingData copy = new OffHeapBackingData(this.size, this.getMax(), this.memoryMapped);
+        final ByteBuffer source = this.buffer.duplicate();
+        source.clear();
+        copy.buffer.duplicate().put(source);
+        return copy;
+    }
+
+    @Override
+    public ArrayMutableBlockBuffer.BackingData resized(int highestValue) {
+        return new OffHeapBackingData(this.size, highestValue, this.memoryMapped);
+    }
+
+    @Override
+    public int getMax() {
+        return this.bytes == 4 ? Integer.MAX_VALUE : (1 << (this.bytes * 8)) - 1;
+    }
+}
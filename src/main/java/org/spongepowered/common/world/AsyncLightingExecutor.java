@@ -0,0 +1,203 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Runs the asynchronous lighting updates of a world. The world is split into
+ * square regions of chunks and every region is owned by a single worker, so
+ * the updates of one region never run concurrently and are applied in the
+ * order in which they were queued. Updates in different regions are spread
+ * over all the workers.
+ */
+public final class AsyncLightingExecutor extends AbstractExecutorService {
+
+    /**
+     * The size of the light propagation queue, matches the one of the world.
+     */
+    private static final int LIGHT_UPDATE_LIST_SIZE = 32768;
+
+    private final ExecutorService[] workers;
+    private final int regionShift;
+    private final int maxPendingUpdates;
+    private final AtomicInteger pendingUpdates = new AtomicInteger();
+    private final AtomicInteger nextWorker = new AtomicInteger();
+    private volatile int peakPendingUpdates;
+
+    /**
+     * Creates a new lighting executor.
+     *
+     * @param threads The amount of workers
+     * @param regionSize The width of the regions in chunks, rounded up to a power of two
+     * @param maxPendingUpdates The maximum amount of queued updates before the
+     *     main thread waits for the workers to catch up, or 0 for no limit
+     */
+    public AsyncLightingExecutor(int threads, int regionSize, int maxPendingUpdates) {
+        this.workers = new ExecutorService[Math.max(1, threads)];
+        for (int i = 0; i < this.workers.length; i++) {
+            final String name = "Sponge - Async Light Thread #" + i;
+            this.workers[i] = Executors.newSingleThreadExecutor(runnable -> new LightingThread(runnable, name));
+        }
+        this.regionShift = 32 - Integer.numberOfLeadingZeros(Math.max(1, regionSize) - 1);
+        this.maxPendingUpdates = maxPendingUpdates;
+    }
+
+    /**
+     * Gets the light propagation queue for the current thread. The lighting
+     * workers each have their own, other threads use the given one of the world.
+     *
+     * @param worldList The light propagation queue of the world
+     * @return The light propagation queue to use
+     */
+    public static int[] getLightUpdateBlockList(int[] worldList) {
+        final Thread thread = Thread.currentThread();
+        return thread instanceof LightingThread ? ((LightingThread) thread).lightUpdateBlockList : worldList;
+    }
+
+    /**
+     * Queues a lighting update in the region of the given chunk.
+     *
+     * @param chunkX The chunk x coordinate
+     * @param chunkZ The chunk z coordinate
+     * @param task The lighting update
+     */
+    public void execute(int chunkX, int chunkZ, Runnable task) {
+        final int regionX = chunkX >> this.regionShift;
+        final int regionZ = chunkZ >> this.regionShift;
+        int hash = regionX * 0x9E3779B9 ^ regionZ;
+        hash ^= hash >>> 16;
+        this.submitTo(this.workers[Math.floorMod(hash, this.workers.length)], task);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        this.submitTo(this.workers[Math.floorMod(this.nextWorker.getAndIncrement(), this.workers.length)], task);
+    }
+
+    private void submitTo(ExecutorService worker, Runnable task) {
+        if (this.maxPendingUpdates > 0 && !(Thread.currentThread() instanceof LightingThread)) {
+            // Let the workers catch up instead of queueing updates without bounds, this
+            // is never done by the workers themselves because they would wait for each other
+            while (this.pendingUpdates.get() >= this.maxPendingUpdates && !worker.isShutdown()) {
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(50));
+            }
+        }
+        final int pending = this.pendingUpdates.incrementAndGet();
+        if (pending > this.peakPendingUpdates) {
+            this.peakPendingUpdates = pending;
+        }
+        try {
+            worker.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    this.pendingUpdates.decrementAndGet();
+                }
+            });
+        } catch (RuntimeException e) {
+            this.pendingUpdates.decrementAndGet();
+            throw e;
+        }
+    }
+
+    /**
+     * Gets the amount of lighting updates which are queued or running.
+     *
+     * @return The amount of pending updates
+     */
+    public int getPendingUpdates() {
+        return this.pendingUpdates.get();
+    }
+
+    /**
+     * Gets the highest amount of pending updates since the last time this was called.
+     *
+     * @return The peak amount of pending updates
+     */
+    public int getAndResetPeakPendingUpdates() {
+        final int peak = this.peakPendingUpdates;
+        this.peakPendingUpdates = this.pendingUpdates.get();
+        return peak;
+    }
+
+    @Override
+    public void shutdown() {
+        for (ExecutorService worker : this.workers) {
+            worker.shutdown();
+        }
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        final List<Runnable> tasks = new ArrayList<>();
+        for (ExecutorService worker : this.workers) {
+            tasks.addAll(worker.shutdownNow());
+        }
+        return tasks;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return this.workers[0].isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        for (ExecutorService worker : this.workers) {
+            if (!worker.isTerminated()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (ExecutorService worker : this.workers) {
+            if (!worker.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class LightingThread extends Thread {
+
+        final int[] lightUpdateBlockList = new int[LIGHT_UPDATE_LIST_SIZE];
+
+        LightingThread(Runnable runnable, String name) {
+            super(runnable, name);
+        }
+    }
+}
@@ -127,6 +127,9 @@ default UnmodifiableBlockVolume getUnmodifiableBlockView() {
     default MutableBlockVolume getBlockCopy(StorageType type) {
         switch (type) {
             case STANDARD:
+                if (ArrayMutableBlockBuffer.isStoredOffHeap(getBlockSize())) {
+                    return ArrayMutableBlockBuffer.copyOf((BlockVolume) this);
+                }
                 // TODO: Optimize and use a local palette
                 return new ArrayMutableBlockBuffer(GlobalPalette.instance, getBlockMin(), getBlockSize(),
                         ExtentBufferUtil.copyToArray((BlockVolume) this, getBlockMin(), getBlockMax(), getBlockSize()));
@@ -138,6 +141,9 @@ default MutableBlockVolume getBlockCopy(StorageType type) {
 
     @Override
     default ImmutableBlockVolume getImmutableBlockCopy() {
+        if (ArrayMutableBlockBuffer.isStoredOffHeap(getBlockSize())) {
+            return ArrayImmutableBlockBuffer.copyOf((BlockVolume) this);
+        }
         char[] data = ExtentBufferUtil.copyToArray((BlockVolume) this, getBlockMin(), getBlockMax(), getBlockSize());
         return ArrayImmutableBlockBuffer.newWithoutArrayClone(GlobalPalette.instance, getBlockMin(), getBlockSize(), data);
     }
@@ -166,7 +172,7 @@ default ArchetypeVolume createArchetypeVolume(Vector3i min, Vector3i max, Vector
         int ox = origin.getX();
         int oy = origin.getY();
         int oz = origin.getZ();
-        final MutableBlockVolume backing = new ArrayMutableBlockBuffer(min.sub(origin), max.sub(min).add(1, 1, 1));
+        final MutableBlockVolume backing = new ArrayMutableBlockBuffer(palette, min.sub(origin), max.sub(min).add(1, 1, 1));
         Map<Vector3i, TileEntityArchetype> tiles = Maps.newHashMap();
         volume.getBlockWorker().iterate((extent, x, y, z) -> {
             BlockState state = extent.getBlock(x, y, z);
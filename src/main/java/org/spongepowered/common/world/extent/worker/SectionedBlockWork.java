@@ -0,0 +1,198 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.extent.worker;
+
+import com.flowpowered.math.vector.Vector3i;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.world.extent.BlockVolume;
+import org.spongepowered.api.world.extent.ImmutableBlockVolume;
+import org.spongepowered.api.world.extent.MutableBlockVolume;
+import org.spongepowered.api.world.extent.UnmodifiableBlockVolume;
+import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeFiller;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.config.category.ParallelBlockWorkerCategory;
+import org.spongepowered.common.util.gen.ArrayMutableBlockBuffer;
+
+import java.util.stream.IntStream;
+
+/**
+ * Splits the work of a block worker along the chunk section boundaries of its
+ * volume. The blocks of the sections are produced in parallel on the common
+ * fork join pool, and then applied on the calling thread one section at a time.
+ * Buffers take a whole section at once, any other volume is set block by block
+ * so that worlds still track the changes.
+ */
+final class SectionedBlockWork {
+
+    private static final int SECTION_SHIFT = 4;
+    private static final int SECTION_MASK = (1 << SECTION_SHIFT) - 1;
+
+    private final int xMin;
+    private final int yMin;
+    private final int zMin;
+    private final int xMax;
+    private final int yMax;
+    private final int zMax;
+    private final int sectionsX;
+    private final int sectionsY;
+    private final int sectionCount;
+
+    SectionedBlockWork(Vector3i min, Vector3i max) {
+        this.xMin = min.getX();
+        this.yMin = min.getY();
+        this.zMin = min.getZ();
+        this.xMax = max.getX();
+        this.yMax = max.getY();
+        this.zMax = max.getZ();
+        this.sectionsX = (this.xMax >> SECTION_SHIFT) - (this.xMin >> SECTION_SHIFT) + 1;
+        this.sectionsY = (this.yMax >> SECTION_SHIFT) - (this.yMin >> SECTION_SHIFT) + 1;
+        this.sectionCount = this.sectionsX * this.sectionsY * ((this.zMax >> SECTION_SHIFT) - (this.zMin >> SECTION_SHIFT) + 1);
+    }
+
+    /**
+     * Gets whether the work on the given volume should be split up.
+     *
+     * @param volume The volume of the worker
+     * @return Whether to run the work in parallel
+     */
+    static boolean isParallel(BlockVolume volume) {
+        final ParallelBlockWorkerCategory category = SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getParallelBlockWorkerCategory();
+        if (!category.isEnabled()) {
+            return false;
+        }
+        final Vector3i size = volume.getBlockSize();
+        return (long) size.getX() * size.getY() * size.getZ() >= category.getMinVolume();
+    }
+
+    /**
+     * Gets a view of the volume which is safe to read from multiple threads.
+     *
+     * @param volume The volume
+     * @return The volume if it's immutable, otherwise an immutable copy of it
+     */
+    static UnmodifiableBlockVolume snapshot(BlockVolume volume) {
+        return volume instanceof ImmutableBlockVolume ? (ImmutableBlockVolume) volume : volume.getImmutableBlockCopy();
+    }
+
+    /**
+     * Produces the blocks of all the sections in parallel.
+     *
+     * @param producer The producer of the blocks
+     * @return The blocks of every section, in z, y, x order
+     */
+    BlockState[][] produce(BlockVolumeFiller producer) {
+        final BlockState[][] sections = new BlockState[this.sectionCount][];
+        IntStream.range(0, this.sectionCount).parallel().forEach(index -> {
+            final int[] bounds = this.getBounds(index);
+            final BlockState[] blocks = new BlockState[(bounds[3] - bounds[0] + 1) * (bounds[4] - bounds[1] + 1) * (bounds[5] - bounds[2] + 1)];
+            int i = 0;
+            for (int z = bounds[2]; z <= bounds[5]; z++) {
+                for (int y = bounds[1]; y <= bounds[4]; y++) {
+                    for (int x = bounds[0]; x <= bounds[3]; x++) {
+                        blocks[i++] = producer.produce(x, y, z);
+                    }
+                }
+            }
+            sections[index] = blocks;
+        });
+        return sections;
+    }
+
+    /**
+     * Applies the produced blocks to the destination on the calling thread,
+     * section by section.
+     *
+     * @param sections The produced blocks
+     * @param destination The volume to apply the blocks to
+     * @param offset The offset of the destination from the work volume
+     */
+    void apply(BlockState[][] sections, MutableBlockVolume destination, Vector3i offset) {
+        if (!(destination instanceof ArrayMutableBlockBuffer)) {
+            final int xOffset = offset.getX();
+            final int yOffset = offset.getY();
+            final int zOffset = offset.getZ();
+            apply(sections, (x, y, z, block) -> destination.setBlock(x + xOffset, y + yOffset, z + zOffset, block));
+            return;
+        }
+        final ArrayMutableBlockBuffer buffer = (ArrayMutableBlockBuffer) destination;
+        for (int index = 0; index < this.sectionCount; index++) {
+            final int[] bounds = this.getBounds(index);
+            final BlockState[] blocks = sections[index];
+            sections[index] = null;
+            buffer.setBlocks(new Vector3i(bounds[0], bounds[1], bounds[2]).add(offset),
+                new Vector3i(bounds[3], bounds[4], bounds[5]).add(offset), blocks);
+        }
+    }
+
+    /**
+     * Applies the produced blocks on the calling thread, section by section.
+     *
+     * @param sections The produced blocks
+     * @param sink The receiver of the blocks
+     */
+    void apply(BlockState[][] sections, BlockSink sink) {
+        for (int index = 0; index < this.sectionCount; index++) {
+            final int[] bounds = this.getBounds(index);
+            final BlockState[] blocks = sections[index];
+            // Release the section as soon as it's applied
+            sections[index] = null;
+            int i = 0;
+            for (int z = bounds[2]; z <= bounds[5]; z++) {
+                for (int y = bounds[1]; y <= bounds[4]; y++) {
+                    for (int x = bounds[0]; x <= bounds[3]; x++) {
+                        sink.setBlock(x, y, z, blocks[i++]);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the block bounds of a section, clamped to the volume.
+     *
+     * @param index The index of the section
+     * @return The minimum x, y, z and maximum x, y, z
+     */
+    private int[] getBounds(int index) {
+        final int xStart = ((this.xMin >> SECTION_SHIFT) + index % this.sectionsX) << SECTION_SHIFT;
+        final int yStart = ((this.yMin >> SECTION_SHIFT) + index / this.sectionsX % this.sectionsY) << SECTION_SHIFT;
+        final int zStart = ((this.zMin >> SECTION_SHIFT) + index / (this.sectionsX * this.sectionsY)) << SECTION_SHIFT;
+        return new int[] {
+            Math.max(this.xMin, xStart),
+            Math.max(this.yMin, yStart),
+            Math.max(this.zMin, zStart),
+            Math.min(this.xMax, xStart + SECTION_MASK),
+            Math.min(this.yMax, yStart + SECTION_MASK),
+            Math.min(this.zMax, zStart + SECTION_MASK)
+        };
+    }
+
+    @FunctionalInterface
+    interface BlockSink {
+
+        void setBlock(int x, int y, int z, BlockState block);
+
+    }
+}
@@ -65,6 +65,17 @@ public void map(BlockVolumeMapper mapper, MutableBlockVolume destination) {
         final int xOffset = offset.getX();
         final int yOffset = offset.getY();
         final int zOffset = offset.getZ();
+        if (SectionedBlockWork.isParallel(this.volume)) {
+            final UnmodifiableBlockVolume snapshot = SectionedBlockWork.snapshot(this.volume);
+            final SectionedBlockWork work = new SectionedBlockWork(snapshot.getBlockMin(), snapshot.getBlockMax());
+            final BlockState[][] blocks = work.produce((x, y, z) -> mapper.map(snapshot, x, y, z));
+            try (BasicPluginContext context = PluginPhase.State.BLOCK_WORKER.createPhaseContext()
+                .source(this)
+                .buildAndSwitch()) {
+                work.apply(blocks, destination, offset);
+            }
+            return;
+        }
         final UnmodifiableBlockVolume unmodifiableVolume = this.volume.getUnmodifiableBlockView();
         final int xMin = unmodifiableVolume.getBlockMin().getX();
         final int yMin = unmodifiableVolume.getBlockMin().getY();
@@ -98,6 +109,19 @@ public void merge(BlockVolume second, BlockVolumeMerger merger, MutableBlockVolu
         final int xOffsetDestination = offsetDestination.getX();
         final int yOffsetDestination = offsetDestination.getY();
         final int zOffsetDestination = offsetDestination.getZ();
+        if (SectionedBlockWork.isParallel(this.volume)) {
+            final UnmodifiableBlockVolume firstSnapshot = SectionedBlockWork.snapshot(this.volume);
+            final UnmodifiableBlockVolume secondSnapshot = SectionedBlockWork.snapshot(second);
+            final SectionedBlockWork work = new SectionedBlockWork(firstSnapshot.getBlockMin(), firstSnapshot.getBlockMax());
+            final BlockState[][] blocks = work.produce((x, y, z) -> merger.merge(firstSnapshot, x, y, z,
+                secondSnapshot, x + xOffsetSecond, y + yOffsetSecond, z + zOffsetSecond));
+            try (BasicPluginContext context = PluginPhase.State.BLOCK_WORKER.createPhaseContext()
+                .source(this)
+                .buildAndSwitch()) {
+                work.apply(blocks, destination, offsetDestination);
+            }
+            return;
+        }
         final UnmodifiableBlockVolume firstUnmodifiableVolume = this.volume.getUnmodifiableBlockView();
         final int xMin = firstUnmodifiableVolume.getBlockMin().getX();
         final int yMin = firstUnmodifiableVolume.getBlockMin().getY();
@@ -24,6 +24,7 @@
  */
 package org.spongepowered.common.world.extent.worker;
 
+import com.flowpowered.math.vector.Vector3i;
 import org.spongepowered.api.block.BlockState;
 import org.spongepowered.api.world.extent.MutableBlockVolume;
 import org.spongepowered.api.world.extent.worker.MutableBlockVolumeWorker;
@@ -40,6 +41,11 @@ public SpongeMutableBlockVolumeWorker(V volume) {
 
     @Override
     public void fill(BlockVolumeFiller filler) {
+        if (SectionedBlockWork.isParallel(this.volume)) {
+            final SectionedBlockWork work = new SectionedBlockWork(this.volume.getBlockMin(), this.volume.getBlockMax());
+            work.apply(work.produce(filler), this.volume, Vector3i.ZERO);
+            return;
+        }
         final int xMin = this.volume.getBlockMin().getX();
         final int yMin = this.volume.getBlockMin().getY();
         final int zMin = this.volume.getBlockMin().getZ();
@@ -24,34 +24,39 @@
  */
 package org.spongepowered.common.world.schematic;
 
-import com.google.common.collect.BiMap;
-import com.google.common.collect.HashBiMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
 import org.spongepowered.api.block.BlockState;
 import org.spongepowered.api.world.schematic.BlockPalette;
 import org.spongepowered.api.world.schematic.BlockPaletteType;
 import org.spongepowered.api.world.schematic.BlockPaletteTypes;
 
+import java.util.Arrays;
 import java.util.BitSet;
 import java.util.Collection;
 import java.util.Optional;
 
+import javax.annotation.Nullable;
+
 public class BimapPalette implements BlockPalette {
 
     private static final int DEFAULT_ALLOCATION_SIZE = 64;
+    private static final int NO_ID = -1;
 
-    private final BiMap<Integer, BlockState> ids;
-    private final BiMap<BlockState, Integer> idsr;
+    // Block states are interned, so they are looked up by identity
+    private final Reference2IntMap<BlockState> idsr;
     private final BitSet allocation = new BitSet(DEFAULT_ALLOCATION_SIZE);
+    private BlockState[] ids;
     private int maxId = 0;
 
     public BimapPalette() {
-        this.ids = HashBiMap.create();
-        this.idsr = this.ids.inverse();
+        this(DEFAULT_ALLOCATION_SIZE);
     }
 
     public BimapPalette(int expectedSize) {
-        this.ids = HashBiMap.create(expectedSize);
-        this.idsr = this.ids.inverse();
+        this.ids = new BlockState[Math.max(expectedSize, 1)];
+        this.idsr = new Reference2IntOpenHashMap<>(expectedSize);
+        this.idsr.defaultReturnValue(NO_ID);
     }
 
     @Override
@@ -66,19 +71,20 @@ public int getHighestId() {
 
     @Override
     public Optional<Integer> get(BlockState state) {
-        return Optional.ofNullable(this.idsr.get(state));
+        final int id = this.idsr.getInt(state);
+        return id == NO_ID ? Optional.empty() : Optional.of(id);
     }
 
     @Override
     public int getOrAssign(BlockState state) {
-        Integer id = this.idsr.get(state);
-        if (id == null) {
+        final int id = this.idsr.getInt(state);
+        if (id == NO_ID) {
             int next = this.allocation.nextClearBit(0);
             if (this.maxId < next) {
                 this.maxId = next;
             }
             this.allocation.set(next);
-            this.ids.put(next, state);
+            this.put(next, state);
             return next;
         }
         return id;
@@ -86,7 +92,18 @@ public int getOrAssign(BlockState state) {
 
     @Override
     public Optional<BlockState> get(int id) {
-        return Optional.ofNullable(this.ids.get(id));
+        return Optional.ofNullable(this.getNullable(id));
+    }
+
+    /**
+     * Gets the block state with the given id without wrapping it.
+     *
+     * @param id The id
+     * @return The block state, or null if the id isn't assigned
+     */
+    @Nullable
+    public BlockState getNullable(int id) {
+        return id >= 0 && id < this.ids.length ? this.ids[id] : null;
     }
 
     public void assign(BlockState state, int id) {
@@ -94,20 +111,36 @@ public void assign(BlockState state, int id) {
             this.maxId = id;
         }
         this.allocation.set(id);
-        this.ids.put(id, state);
+        this.put(id, state);
+    }
+
+    private void put(int id, BlockState state) {
+        if (id >= this.ids.length) {
+            this.ids = Arrays.copyOf(this.ids, Math.max(id + 1, this.ids.length * 2));
+        }
+        final int previousId = this.idsr.getInt(state);
+        if (previousId != NO_ID && previousId != id) {
+            throw new IllegalArgumentException("Block state " + state + " is already assigned to id " + previousId);
+        }
+        final BlockState previous = this.ids[id];
+        if (previous != null) {
+            this.idsr.removeInt(previous);
+        }
+        this.idsr.put(state, id);
+        this.ids[id] = state;
     }
 
     @Override
     public boolean remove(BlockState state) {
-        Integer id = this.idsr.get(state);
-        if (id == null) {
+        final int id = this.idsr.removeInt(state);
+        if (id == NO_ID) {
             return false;
         }
         this.allocation.clear(id);
         if (id == this.maxId) {
             this.maxId = this.allocation.previousSetBit(this.maxId);
         }
-        this.ids.remove(id);
+        this.ids[id] = null;
         return true;
     }
 
@@ -0,0 +1,263 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.schematic;
+
+import com.flowpowered.math.vector.Vector3i;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.network.play.server.SPacketChunkData;
+import net.minecraft.server.management.PlayerChunkMapEntry;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.block.tileentity.TileEntityArchetype;
+import org.spongepowered.api.scheduler.Task;
+import org.spongepowered.api.world.BlockChangeFlag;
+import org.spongepowered.api.world.Location;
+import org.spongepowered.api.world.World;
+import org.spongepowered.api.world.extent.BlockVolume;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.SpongeImplHooks;
+import org.spongepowered.common.config.category.BulkPasteCategory;
+import org.spongepowered.common.world.WorldManager;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import javax.annotation.Nullable;
+
+/**
+ * Pastes an archetype volume by writing its blocks directly into the block
+ * storages of the chunks, bypassing the per block notifications, lighting
+ * updates and captures of {@link World#setBlock}. The height map and lighting
+ * of every chunk are recalculated once, after which the chunk is resent to the
+ * players watching it.
+ *
+ * <p>The chunks can be spread over several ticks, in which case the paste is
+ * continued by a synchronous task. The task only holds the world weakly and
+ * stops as soon as the world is unloaded, leaving the rest unpasted.</p>
+ */
+final class BulkArchetypePaste implements Consumer<Task> {
+
+    private final WeakReference<WorldServer> world;
+    private final int dimensionId;
+    private final Vector3i origin;
+    private final BlockVolume volume;
+    private final Vector3i min;
+    private final Vector3i max;
+    private final long[] chunks;
+    private final Long2ObjectMap<List<Map.Entry<Vector3i, TileEntityArchetype>>> tilesByChunk = new Long2ObjectOpenHashMap<>();
+    private final long maxNanosPerTick;
+    private int nextChunk;
+
+    /**
+     * Gets whether the volume can be pasted in bulk at the given location.
+     *
+     * @param volume The volume to paste
+     * @param location The location to paste at
+     * @param changeFlag The requested change flag
+     * @return Whether to paste in bulk
+     */
+    static boolean canPaste(BlockVolume volume, Location<World> location, BlockChangeFlag changeFlag) {
+        final BulkPasteCategory category = SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getBulkPasteCategory();
+        if (!category.isEnabled() || !(location.getExtent() instanceof WorldServer)
+                || changeFlag.updateNeighbors() || changeFlag.performBlockPhysics() || changeFlag.notifyObservers()) {
+            return false;
+        }
+        final Vector3i size = volume.getBlockSize();
+        return (long) size.getX() * size.getY() * size.getZ() >= category.getMinVolume();
+    }
+
+    BulkArchetypePaste(BlockVolume volume, Map<Vector3i, TileEntityArchetype> tiles, Location<World> location) {
+        final WorldServer world = (WorldServer) location.getExtent();
+        this.world = new WeakReference<>(world);
+        this.dimensionId = WorldManager.getDimensionId(world);
+        this.origin = location.getBlockPosition();
+        this.volume = volume;
+        this.min = volume.getBlockMin().add(location.getBlockPosition());
+        this.max = volume.getBlockMax().add(location.getBlockPosition());
+        final int chunkMinX = this.min.getX() >> 4;
+        final int chunkMinZ = this.min.getZ() >> 4;
+        final int chunkMaxX = this.max.getX() >> 4;
+        final int chunkMaxZ = this.max.getZ() >> 4;
+        this.chunks = new long[(chunkMaxX - chunkMinX + 1) * (chunkMaxZ - chunkMinZ + 1)];
+        int index = 0;
+        for (int chunkZ = chunkMinZ; chunkZ <= chunkMaxZ; chunkZ++) {
+            for (int chunkX = chunkMinX; chunkX <= chunkMaxX; chunkX++) {
+                this.chunks[index++] = ChunkPos.asLong(chunkX, chunkZ);
+            }
+        }
+        // The tile entities are applied together with the blocks of their chunk, so they are
+        // included when the chunk is resent
+        for (Map.Entry<Vector3i, TileEntityArchetype> entry : tiles.entrySet()) {
+            final Vector3i pos = entry.getKey().add(location.getBlockPosition());
+            final long chunkKey = ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+            List<Map.Entry<Vector3i, TileEntityArchetype>> chunkTiles = this.tilesByChunk.get(chunkKey);
+            if (chunkTiles == null) {
+                chunkTiles = new ArrayList<>();
+                this.tilesByChunk.put(chunkKey, chunkTiles);
+            }
+            chunkTiles.add(entry);
+        }
+        this.maxNanosPerTick = SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getBulkPasteCategory().getMaxMillisPerTick() * 1000000L;
+    }
+
+    /**
+     * Starts pasting, the first chunks are pasted immediately.
+     */
+    void start() {
+        final WorldServer world = this.getLoadedWorld();
+        if (world != null && this.pasteChunks(world)) {
+            Sponge.getScheduler().createTaskBuilder()
+                    .intervalTicks(1)
+                    .execute(this)
+                    .submit(SpongeImpl.getPlugin());
+        }
+    }
+
+    @Override
+    public void accept(Task task) {
+        final WorldServer world = this.getLoadedWorld();
+        if (world == null || !this.pasteChunks(world)) {
+            task.cancel();
+        }
+    }
+
+    /**
+     * Gets the world to paste into, as long as it's still loaded.
+     *
+     * @return The world, or null if it was unloaded
+     */
+    @Nullable
+    private WorldServer getLoadedWorld() {
+        final WorldServer world = this.world.get();
+        if (world == null || WorldManager.getWorldByDimensionId(this.dimensionId).orElse(null) != world) {
+            // Don't load chunks of an unloaded world back in, drop the rest of the paste
+            this.world.clear();
+            this.tilesByChunk.clear();
+            return null;
+        }
+        return world;
+    }
+
+    /**
+     * Pastes chunks until all are done or the time budget of the tick is used up.
+     *
+     * @param world The world to paste into
+     * @return Whether there are chunks left
+     */
+    private boolean pasteChunks(WorldServer world) {
+        final long start = System.nanoTime();
+        while (this.nextChunk < this.chunks.length) {
+            final long chunkKey = this.chunks[this.nextChunk++];
+            this.pasteChunk(world, (int) chunkKey, (int) (chunkKey >>> 32));
+            if (this.maxNanosPerTick > 0 && System.nanoTime() - start >= this.maxNanosPerTick) {
+                break;
+            }
+        }
+        if (this.nextChunk < this.chunks.length) {
+            return true;
+        }
+        // Tile entities which are outside of the pasted chunks
+        for (List<Map.Entry<Vector3i, TileEntityArchetype>> chunkTiles : this.tilesByChunk.values()) {
+            this.applyTiles(world, chunkTiles);
+        }
+        this.tilesByChunk.clear();
+        return false;
+    }
+
+    private void pasteChunk(WorldServer world, int chunkX, int chunkZ) {
+        final Chunk chunk = world.getChunkFromChunkCoords(chunkX, chunkZ);
+        final ExtendedBlockStorage[] storages = chunk.getBlockStorageArray();
+        final int xMin = Math.max(this.min.getX(), chunkX << 4);
+        final int zMin = Math.max(this.min.getZ(), chunkZ << 4);
+        final int xMax = Math.min(this.max.getX(), (chunkX << 4) + 15);
+        final int zMax = Math.min(this.max.getZ(), (chunkZ << 4) + 15);
+        final int yMin = Math.max(this.min.getY(), 0);
+        final int yMax = Math.min(this.max.getY(), world.getHeight() - 1);
+        final int xOffset = this.origin.getX();
+        final int yOffset = this.origin.getY();
+        final int zOffset = this.origin.getZ();
+        final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        boolean changed = false;
+
+        for (int y = yMin; y <= yMax; y++) {
+            ExtendedBlockStorage storage = storages[y >> 4];
+            for (int z = zMin; z <= zMax; z++) {
+                for (int x = xMin; x <= xMax; x++) {
+                    final IBlockState newState = (IBlockState) this.volume.getBlock(x - xOffset, y - yOffset, z - zOffset);
+                    if (storage == Chunk.NULL_BLOCK_STORAGE) {
+                        if (newState == Blocks.AIR.getDefaultState()) {
+                            continue;
+                        }
+                        storage = new ExtendedBlockStorage(y >> 4 << 4, world.provider.hasSkyLight());
+                        storages[y >> 4] = storage;
+                    }
+                    final IBlockState oldState = storage.get(x & 15, y & 15, z & 15);
+                    if (oldState == newState) {
+                        continue;
+                    }
+                    if (oldState.getBlock() != newState.getBlock() && SpongeImplHooks.hasBlockTileEntity(oldState.getBlock(), oldState)) {
+                        chunk.removeTileEntity(pos.setPos(x, y, z));
+                    }
+                    storage.set(x & 15, y & 15, z & 15, newState);
+                    changed = true;
+                }
+            }
+        }
+
+        final List<Map.Entry<Vector3i, TileEntityArchetype>> chunkTiles = this.tilesByChunk.remove(ChunkPos.asLong(chunkX, chunkZ));
+        if (chunkTiles != null) {
+            this.applyTiles(world, chunkTiles);
+            changed = true;
+        }
+        if (!changed) {
+            return;
+        }
+
+        chunk.generateSkylightMap();
+        // Let the chunk recheck its block light progressively while it's ticking
+        chunk.resetRelightChecks();
+        chunk.markDirty();
+        final PlayerChunkMapEntry entry = world.getPlayerChunkMap().getEntry(chunkX, chunkZ);
+        if (entry != null) {
+            entry.sendPacket(new SPacketChunkData(chunk, 65535));
+        }
+    }
+
+    private void applyTiles(WorldServer world, List<Map.Entry<Vector3i, TileEntityArchetype>> tiles) {
+        for (Map.Entry<Vector3i, TileEntityArchetype> entry : tiles) {
+            entry.getValue().apply(new Location<>((World) world, this.origin.add(entry.getKey())));
+        }
+    }
+}
@@ -35,6 +35,8 @@
 import java.util.Collection;
 import java.util.Optional;
 
+import javax.annotation.Nullable;
+
 public class GlobalPalette implements BlockPalette {
 
     public static GlobalPalette instance = new GlobalPalette();
@@ -74,7 +76,18 @@ public int getOrAssign(BlockState state) {
 
     @Override
     public Optional<BlockState> get(int id) {
-        return Optional.ofNullable((BlockState) Block.BLOCK_STATE_IDS.getByValue(id));
+        return Optional.ofNullable(this.getNullable(id));
+    }
+
+    /**
+     * Gets the block state with the given id without wrapping it.
+     *
+     * @param id The id
+     * @return The block state, or null if the id isn't assigned
+     */
+    @Nullable
+    public BlockState getNullable(int id) {
+        return (BlockState) Block.BLOCK_STATE_IDS.getByValue(id);
     }
 
     @Override
@@ -75,8 +75,21 @@ public MutableBlockVolumeWorker<? extends ArchetypeVolume> getBlockWorker() {
         return new SpongeMutableBlockVolumeWorker<>(this);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Large volumes may be pasted in bulk, see the {@code bulk-archetype-paste}
+     * optimization. If {@code max-millis-per-tick} is set, this method can
+     * return before the paste is finished. The remaining chunks and tile
+     * entities are then pasted over the following ticks. If the world is
+     * unloaded before that, the rest of the paste is dropped.</p>
+     */
     @Override
     public void apply(Location<World> location, BlockChangeFlag changeFlag) {
+        if (BulkArchetypePaste.canPaste(this.backing, location, changeFlag)) {
+            new BulkArchetypePaste(this.backing, this.tiles, location).start();
+            return;
+        }
         this.backing.getBlockWorker().iterate((v, x, y, z) -> {
             location.getExtent().setBlock(x + location.getBlockX(), y + location.getBlockY(), z + location.getBlockZ(), v.getBlock(x, y, z), changeFlag);
         });
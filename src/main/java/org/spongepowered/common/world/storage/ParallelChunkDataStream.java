@@ -0,0 +1,130 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.config.category.ParallelChunkStreamCategory;
+
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link SpongeChunkDataStream} that reads, decompresses and translates the
+ * next chunks ahead of time on a shared thread pool. The region files are
+ * still walked on the calling thread so the chunks are returned in the same
+ * order, and at most one batch of chunks is ever read ahead, so a stream that
+ * is abandoned doesn't keep any threads busy.
+ */
+public class ParallelChunkDataStream extends SpongeChunkDataStream {
+
+    private static ThreadPoolExecutor executor;
+
+    private static synchronized ThreadPoolExecutor getExecutor(int threads) {
+        if (executor == null) {
+            executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                    new ThreadFactoryBuilder().setNameFormat("Sponge - Chunk Data Stream Thread #%d").setDaemon(true).build());
+            executor.allowCoreThreadTimeOut(true);
+        }
+        return executor;
+    }
+
+    private final ArrayDeque<Future<DataContainer>> pending = new ArrayDeque<>();
+    private final int batchSize;
+    private final ThreadPoolExecutor threadPool;
+
+    public ParallelChunkDataStream(Path worldDir) {
+        super(worldDir);
+        final ParallelChunkStreamCategory category = SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getParallelChunkStreamCategory();
+        this.batchSize = category.getBatchSize();
+        this.threadPool = getExecutor(category.getThreads());
+    }
+
+    private void fill() {
+        int next;
+        while (this.pending.size() < this.batchSize && (next = getNextIndex()) != -1) {
+            final RegionFileItr regionFileItr = this.regionFileItr;
+            final int index = next;
+            regionFileItr.index = index + 1;
+            this.pending.add(this.threadPool.submit(() -> readChunk(regionFileItr, index)));
+        }
+    }
+
+    @Override
+    public DataContainer next() {
+        fill();
+        final Future<DataContainer> future = this.pending.poll();
+        if (future == null) {
+            throw new NoSuchElementException();
+        }
+        this.chunksRead++;
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
+        } finally {
+            // Keep the read ahead going while the caller handles this chunk
+            fill();
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !this.pending.isEmpty() || super.hasNext();
+    }
+
+    @Override
+    public int available() {
+        return this.pending.size() + super.available();
+    }
+
+    @Override
+    public void reset() {
+        for (Future<DataContainer> future : this.pending) {
+            future.cancel(false);
+        }
+        this.pending.clear();
+        super.reset();
+    }
+
+    /**
+     * Gets the amount of chunks that are currently being read ahead.
+     *
+     * @return The amount of pending chunks
+     */
+    public int getPendingChunks() {
+        return this.pending.size();
+    }
+}
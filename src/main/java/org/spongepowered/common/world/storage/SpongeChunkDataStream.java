@@ -37,7 +37,7 @@
 
 public class SpongeChunkDataStream implements ChunkDataStream {
 
-    private static class RegionFileItr {
+    static class RegionFileItr {
 
         private final RegionFile file;
         public int index;
@@ -67,8 +67,9 @@ public DataInputStream getStreamAt(int index) {
     }
 
     private final Set<Path> openedFiles = Sets.newHashSet();
-    private RegionFileItr regionFileItr;
+    RegionFileItr regionFileItr;
     private final Path worldDir;
+    int chunksRead;
 
     public SpongeChunkDataStream(Path worldDir) {
         this.worldDir = worldDir;
@@ -89,7 +90,7 @@ private boolean itrAvailable() {
         return false;
     }
 
-    private int getNextIndex() {
+    int getNextIndex() {
         int next;
         while (itrAvailable()) {
             if ((next = this.regionFileItr.getNext()) == -1) {
@@ -108,14 +109,18 @@ public DataContainer next() {
             throw new NoSuchElementException();
         }
         this.regionFileItr.index = next + 1;
-        DataInputStream stream = this.regionFileItr.getStreamAt(next);
+        this.chunksRead++;
         try {
-            return WorldStorageUtil.readDataFromRegion(stream);
+            return readChunk(this.regionFileItr, next);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
     }
 
+    static DataContainer readChunk(RegionFileItr regionFileItr, int index) throws IOException {
+        return WorldStorageUtil.readDataFromRegion(regionFileItr.getStreamAt(index));
+    }
+
     @Override
     public boolean hasNext() {
         return getNextIndex() != -1;
@@ -144,6 +149,25 @@ public int available() {
     public void reset() {
         this.regionFileItr = null;
         this.openedFiles.clear();
+        this.chunksRead = 0;
+    }
+
+    /**
+     * Gets the amount of region files this stream has started reading.
+     *
+     * @return The amount of opened region files
+     */
+    public int getRegionFilesOpened() {
+        return this.openedFiles.size();
+    }
+
+    /**
+     * Gets the amount of chunks returned by this stream so far.
+     *
+     * @return The amount of read chunks
+     */
+    public int getChunksRead() {
+        return this.chunksRead;
     }
 
 }
@@ -0,0 +1,156 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import it.unimi.dsi.fastutil.HashCommon;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+import javax.annotation.Nullable;
+
+/**
+ * Interns {@link UUID}s to consecutive int indices, as used by the block
+ * tracking to store owners and notifiers. The unique ids are stored as their
+ * two long halves in an open addressing table, so a lookup doesn't box or
+ * dereference any {@link UUID} until the matching slot is found, and the
+ * reverse lookup is a plain array access.
+ */
+public final class UniqueIdIndexTable {
+
+    private static final int EMPTY = -1;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private long[] mostBits;
+    private long[] leastBits;
+    private int[] slotIndices;
+    private int mask;
+    private UUID[] uniqueIds;
+    private int size;
+
+    public UniqueIdIndexTable() {
+        clear();
+    }
+
+    /**
+     * Gets the index of the given unique id.
+     *
+     * @param uuid The unique id
+     * @return The index, or -1 if the unique id has no index
+     */
+    public int getIndex(UUID uuid) {
+        final long most = uuid.getMostSignificantBits();
+        final long least = uuid.getLeastSignificantBits();
+        int slot = getSlot(most, least);
+        int index;
+        while ((index = this.slotIndices[slot]) != EMPTY) {
+            if (this.mostBits[slot] == most && this.leastBits[slot] == least) {
+                return index;
+            }
+            slot = (slot + 1) & this.mask;
+        }
+        return EMPTY;
+    }
+
+    /**
+     * Gets the index of the given unique id, assigning the next free index
+     * if it has none yet.
+     *
+     * @param uuid The unique id
+     * @return The index
+     */
+    public int getOrCreateIndex(UUID uuid) {
+        checkNotNull(uuid, "uuid");
+        final int existing = getIndex(uuid);
+        if (existing != EMPTY) {
+            return existing;
+        }
+        final int index = this.size++;
+        if (index == this.uniqueIds.length) {
+            this.uniqueIds = Arrays.copyOf(this.uniqueIds, index * 2);
+        }
+        this.uniqueIds[index] = uuid;
+        // Keep the table at most half full
+        if (this.size * 2 > this.slotIndices.length) {
+            rehash(this.slotIndices.length * 2);
+        } else {
+            insert(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), index);
+        }
+        return index;
+    }
+
+    /**
+     * Gets the unique id stored at the given index.
+     *
+     * @param index The index
+     * @return The unique id, or null if there is no unique id at the index
+     */
+    @Nullable
+    public UUID getUniqueId(int index) {
+        return index >= 0 && index < this.size ? this.uniqueIds[index] : null;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public void clear() {
+        this.mostBits = new long[INITIAL_CAPACITY];
+        this.leastBits = new long[INITIAL_CAPACITY];
+        this.slotIndices = new int[INITIAL_CAPACITY];
+        Arrays.fill(this.slotIndices, EMPTY);
+        this.mask = INITIAL_CAPACITY - 1;
+        this.uniqueIds = new UUID[INITIAL_CAPACITY];
+        this.size = 0;
+    }
+
+    private int getSlot(long most, long least) {
+        return (int) HashCommon.mix(most ^ least) & this.mask;
+    }
+
+    private void insert(long most, long least, int index) {
+        int slot = getSlot(most, least);
+        while (this.slotIndices[slot] != EMPTY) {
+            slot = (slot + 1) & this.mask;
+        }
+        this.mostBits[slot] = most;
+        this.leastBits[slot] = least;
+        this.slotIndices[slot] = index;
+    }
+
+    private void rehash(int capacity) {
+        this.mostBits = new long[capacity];
+        this.leastBits = new long[capacity];
+        this.slotIndices = new int[capacity];
+        Arrays.fill(this.slotIndices, EMPTY);
+        this.mask = capacity - 1;
+        for (int index = 0; index < this.size; index++) {
+            final UUID uuid = this.uniqueIds[index];
+            insert(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), index);
+        }
+    }
+}
@@ -26,15 +26,14 @@
 
 import com.flowpowered.math.vector.Vector3i;
 import com.google.common.collect.Lists;
-import net.minecraft.nbt.CompressedStreamTools;
-import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.world.WorldServer;
 import net.minecraft.world.chunk.storage.IChunkLoader;
 import net.minecraft.world.chunk.storage.RegionFile;
 import net.minecraft.world.chunk.storage.RegionFileCache;
 import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
 import org.spongepowered.common.SpongeImpl;
-import org.spongepowered.common.data.persistence.NbtTranslator;
+import org.spongepowered.common.data.persistence.NbtStreams;
 import org.spongepowered.common.data.util.NbtDataUtil;
 import org.spongepowered.common.interfaces.world.IMixinAnvilChunkLoader;
 
@@ -45,6 +44,7 @@
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
@@ -77,18 +77,18 @@ public static DataContainer readDataFromRegion(DataInputStream stream) throws IO
         if (stream == null) {
             return null;
         }
-        NBTTagCompound data = CompressedStreamTools.read(stream);
+        // Only the level compound is decoded, everything else is skipped in the stream
+        DataContainer level = NbtStreams.readChild(stream, NbtDataUtil.CHUNK_DATA_LEVEL);
 
         // Checks are based on AnvilChunkLoader#checkedReadChunkFromNBT
 
-        if (!data.hasKey(NbtDataUtil.CHUNK_DATA_LEVEL, NbtDataUtil.TAG_COMPOUND)) {
+        if (level == null) {
             return null;
         }
-        NBTTagCompound level = data.getCompoundTag(NbtDataUtil.CHUNK_DATA_LEVEL);
-        if (!level.hasKey(NbtDataUtil.CHUNK_DATA_SECTIONS, NbtDataUtil.TAG_LIST)) {
+        if (!(level.get(DataQuery.of(NbtDataUtil.CHUNK_DATA_SECTIONS)).orElse(null) instanceof List)) {
             return null;
         }
-        return NbtTranslator.getInstance().translateFrom(level);
+        return level;
     }
 
     public static Iterable<Path> listRegionFiles(Path worldDir) {
@@ -0,0 +1,202 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.spongepowered.api.data.DataQuery.of;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataView;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+public class CompactDataTest {
+
+    @Test
+    public void testPrimitiveTypes() {
+        final DataContainer container = new CompactDataContainer();
+        container.set(of("short"), (short) 3);
+        container.set(of("byte"), (byte) 4);
+        container.set(of("char"), 'c');
+        container.set(of("float"), 1.5F);
+        container.set(of("long"), 1L << 40);
+        container.set(of("double"), Double.NaN);
+        assertEquals((short) 3, container.get(of("short")).get());
+        assertEquals((byte) 4, container.get(of("byte")).get());
+        assertEquals('c', container.get(of("char")).get());
+        assertEquals(1.5F, container.get(of("float")).get());
+        assertEquals(1L << 40, container.get(of("long")).get());
+        assertTrue(container.getDouble(of("double")).get().isNaN());
+        assertEquals(container, container.copy());
+    }
+
+    @Test
+    public void testManyKeys() {
+        final DataContainer container = new CompactDataContainer();
+        for (int i = 0; i < 100; i++) {
+            container.set(of("key" + i), i);
+        }
+        for (int i = 0; i < 100; i += 2) {
+            container.remove(of("key" + i));
+        }
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i % 2 == 1, container.contains(of("key" + i)));
+        }
+        assertEquals(99, (int) container.getInt(of("key99")).get());
+    }
+
+    @Test
+    public void testCopyOnWrite() {
+        final DataContainer container = new CompactDataContainer();
+        container.set(of("foo", "bar"), 1);
+        container.set(of("foo", "baz"), 2);
+        final DataContainer first = container.copy();
+        final DataContainer second = container.copy();
+        first.set(of("foo", "bar"), 10);
+        second.set(of("foo", "baz"), 20);
+        assertEquals(1, (int) container.getInt(of("foo", "bar")).get());
+        assertEquals(2, (int) container.getInt(of("foo", "baz")).get());
+        assertEquals(10, (int) first.getInt(of("foo", "bar")).get());
+        assertEquals(2, (int) first.getInt(of("foo", "baz")).get());
+        assertEquals(1, (int) second.getInt(of("foo", "bar")).get());
+        assertEquals(20, (int) second.getInt(of("foo", "baz")).get());
+    }
+
+    @Test
+    public void testViewAfterCopy() {
+        final DataContainer container = new CompactDataContainer();
+        final DataView view = container.createView(of("foo"));
+        view.set(of("bar"), 1);
+        final DataContainer copy = container.copy();
+        view.set(of("bar"), 2);
+        assertEquals(2, (int) container.getInt(of("foo", "bar")).get());
+        assertEquals(1, (int) copy.getInt(of("foo", "bar")).get());
+
+        copy.getView(of("foo")).get().set(of("baz"), 3);
+        assertFalse(container.contains(of("foo", "baz")));
+    }
+
+    @Test
+    public void testRemovedView() {
+        final DataContainer container = new CompactDataContainer();
+        final DataView view = container.createView(of("foo"));
+        container.remove(of("foo"));
+        view.set(of("bar"), 1);
+        assertFalse(container.contains(of("foo")));
+        container.createView(of("foo"));
+        view.set(of("baz"), 1);
+        assertFalse(container.contains(of("foo", "baz")));
+    }
+
+    @Test
+    public void testSetView() {
+        final DataContainer container = new CompactDataContainer();
+        final DataContainer value = new CompactDataContainer();
+        value.set(of("bar"), 1);
+        container.set(of("foo"), value);
+        value.set(of("baz"), 2);
+        container.set(of("foo", "qux"), 3);
+        assertFalse(container.contains(of("foo", "baz")));
+        assertFalse(value.contains(of("qux")));
+        assertEquals(1, (int) container.getInt(of("foo", "bar")).get());
+    }
+
+    @Test
+    public void testViewListCopy() {
+        final DataContainer container = new CompactDataContainer();
+        final DataContainer element = new CompactDataContainer();
+        element.set(of("foo"), 1);
+        container.set(of("list"), ImmutableList.of(element));
+        final DataContainer copy = container.copy();
+        container.getViewList(of("list")).get().get(0).set(of("foo"), 2);
+        assertEquals(1, (int) copy.getViewList(of("list")).get().get(0).getInt(of("foo")).get());
+    }
+
+    @Test
+    public void testMemoryEquality() {
+        final DataContainer memory = new MemoryDataContainer();
+        final DataContainer compact = new CompactDataContainer();
+        for (DataContainer container : ImmutableList.of(memory, compact)) {
+            container.set(of("foo", "bar"), 1);
+            container.set(of("baz"), "baz");
+            container.set(of("bytes"), new byte[] {1, 2});
+            container.set(of("list"), ImmutableList.of(1, 2));
+        }
+        assertEquals(memory, compact);
+        assertEquals(compact, memory);
+        assertEquals(memory.hashCode(), compact.hashCode());
+        assertEquals(memory.getView(of("foo")).get(), compact.getView(of("foo")).get());
+        compact.set(of("foo", "bar"), 2);
+        assertFalse(memory.equals(compact));
+        assertFalse(compact.equals(memory));
+    }
+
+    @Test
+    public void testCompareWithMemoryContainer() {
+        // The first round only warms up the JIT
+        for (int round = 0; round < 2; round++) {
+            final long memoryStart = System.nanoTime();
+            final DataContainer memory = buildAndCopy(MemoryDataContainer::new);
+            final long memoryNanos = System.nanoTime() - memoryStart;
+            final long compactStart = System.nanoTime();
+            final DataContainer compact = buildAndCopy(CompactDataContainer::new);
+            final long compactNanos = System.nanoTime() - compactStart;
+            assertEquals(memory, compact);
+            if (round == 1) {
+                System.out.printf("Built, copied and read 10000 containers: memory %d ms, compact %d ms%n",
+                    memoryNanos / 1000000, compactNanos / 1000000);
+            }
+        }
+    }
+
+    /**
+     * Builds containers shaped like serialized item stacks, copies each one
+     * and reads from the copy, which is the usual life of a container.
+     */
+    private static DataContainer buildAndCopy(Supplier<DataContainer> factory) {
+        final List<DataView> views = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            final DataContainer container = factory.get();
+            container.set(of("ContentVersion"), 1);
+            container.set(of("ItemType"), "minecraft:stone");
+            container.set(of("Count"), i % 64);
+            container.set(of("UnsafeDamage"), 0);
+            container.set(of("UnsafeData", "display", "Name"), "Stone " + i);
+            container.set(of("UnsafeData", "RepairCost"), i);
+            container.set(of("Data"), ImmutableList.of());
+            final DataContainer copy = container.copy();
+            assertEquals(i % 64, (int) copy.getInt(of("Count")).get());
+            views.add(copy);
+        }
+        return factory.get().set(of("items"), views);
+    }
+
+}
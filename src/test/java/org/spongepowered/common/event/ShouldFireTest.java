@@ -28,15 +28,19 @@
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
+import org.spongepowered.api.event.Event;
 import org.spongepowered.api.event.EventManager;
 import org.spongepowered.api.event.Listener;
 import org.spongepowered.api.event.entity.SpawnEntityEvent;
+import org.spongepowered.api.event.entity.ai.AITaskEvent;
+import org.spongepowered.api.event.entity.ai.SetAITargetEvent;
 import org.spongepowered.api.plugin.PluginContainer;
 import org.spongepowered.api.plugin.PluginManager;
 import org.spongepowered.common.InjectedTest;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.util.Map;
 import java.util.Optional;
 
 public class ShouldFireTest extends InjectedTest {
@@ -65,6 +69,23 @@ private void resetStatics() throws IllegalAccessException {
         }
     }
 
+    @Test
+    public void testFieldsMatchEventTypes() {
+        Map<String, Class<?>> eventTypes = ListenerChecker.getEventTypesByName();
+        for (Field field: ShouldFire.class.getDeclaredFields()) {
+            if (Modifier.isPublic(field.getModifiers()) && Modifier.isStatic(field.getModifiers())) {
+                Assert.assertTrue("No event type found for " + field.getName(), eventTypes.containsKey(field.getName()));
+            }
+        }
+    }
+
+    @Test
+    public void testAcronymNames() {
+        Map<String, Class<?>> eventTypes = ListenerChecker.getEventTypesByName();
+        Assert.assertEquals(AITaskEvent.Add.class, eventTypes.get("AI_TASK_EVENT_ADD"));
+        Assert.assertEquals(SetAITargetEvent.class, eventTypes.get("SET_A_I_TARGET_EVENT"));
+    }
+
     @Test
     public void testSpawn() {
         SpawnListener listener = new SpawnListener();
@@ -73,7 +94,8 @@ public void testSpawn() {
         Assert.assertFalse("SPAWN_ENTITY_EVENT_CHUNKLOAD is not false!", ShouldFire.SPAWN_ENTITY_EVENT_CHUNKLOAD);
         this.eventManager.registerListeners(this.plugin, listener);
         Assert.assertTrue("SPAWN_ENTITY_EVENT is not true!", ShouldFire.SPAWN_ENTITY_EVENT);
-        Assert.assertFalse("SPAWN_ENTITY_EVENT_CHUNKLOAD is not false!", ShouldFire.SPAWN_ENTITY_EVENT_CHUNKLOAD);
+        // The listener receives all the subevents
+        Assert.assertTrue("SPAWN_ENTITY_EVENT_CHUNKLOAD is not true!", ShouldFire.SPAWN_ENTITY_EVENT_CHUNKLOAD);
 
         this.eventManager.unregisterListeners(listener);
         Assert.assertFalse("SPAWN_ENTITY_EVENT is not false!", ShouldFire.SPAWN_ENTITY_EVENT);
@@ -81,27 +103,42 @@ public void testSpawn() {
     }
 
     @Test
-    public void testMultipleListeners() {
-        SpawnListener first = new SpawnListener();
-        SubListener second = new SubListener();
+    public void testSubListener() {
+        SubListener listener = new SubListener();
 
+        this.eventManager.registerListeners(this.plugin, listener);
+        Assert.assertTrue("SPAWN_ENTITY_EVENT is not true!", ShouldFire.SPAWN_ENTITY_EVENT);
+        Assert.assertTrue("SPAWN_ENTITY_EVENT_CUSTOM is not true!", ShouldFire.SPAWN_ENTITY_EVENT_CUSTOM);
+        Assert.assertFalse("SPAWN_ENTITY_EVENT_CHUNKLOAD is not false!", ShouldFire.SPAWN_ENTITY_EVENT_CHUNKLOAD);
+
+        this.eventManager.unregisterListeners(listener);
         Assert.assertFalse("SPAWN_ENTITY_EVENT is not false!", ShouldFire.SPAWN_ENTITY_EVENT);
         Assert.assertFalse("SPAWN_ENTITY_EVENT_CUSTOM is not false!", ShouldFire.SPAWN_ENTITY_EVENT_CUSTOM);
+    }
+
+    @Test
+    public void testMultipleListeners() {
+        SubListener first = new SubListener();
+        SpawnListener second = new SpawnListener();
+
+        Assert.assertFalse("SPAWN_ENTITY_EVENT is not false!", ShouldFire.SPAWN_ENTITY_EVENT);
+        Assert.assertFalse("SPAWN_ENTITY_EVENT_CHUNKLOAD is not false!", ShouldFire.SPAWN_ENTITY_EVENT_CHUNKLOAD);
 
         this.eventManager.registerListeners(this.plugin, first);
 
         Assert.assertTrue("SPAWN_ENTITY_EVENT is not true!", ShouldFire.SPAWN_ENTITY_EVENT);
-        Assert.assertFalse("SPAWN_ENTITY_EVENT_CUSTOM is not false!", ShouldFire.SPAWN_ENTITY_EVENT_CUSTOM);
+        Assert.assertFalse("SPAWN_ENTITY_EVENT_CHUNKLOAD is not false!", ShouldFire.SPAWN_ENTITY_EVENT_CHUNKLOAD);
 
         this.eventManager.registerListeners(this.plugin, second);
 
         Assert.assertTrue("SPAWN_ENTITY_EVENT is not true!", ShouldFire.SPAWN_ENTITY_EVENT);
-        Assert.assertTrue("SPAWN_ENTITY_EVENT_CUSTOM is not true!", ShouldFire.SPAWN_ENTITY_EVENT_CUSTOM);
+        Assert.assertTrue("SPAWN_ENTITY_EVENT_CHUNKLOAD is not true!", ShouldFire.SPAWN_ENTITY_EVENT_CHUNKLOAD);
 
         this.eventManager.unregisterListeners(second);
 
         Assert.assertTrue("SPAWN_ENTITY_EVENT is not true!", ShouldFire.SPAWN_ENTITY_EVENT);
-        Assert.assertFalse("SPAWN_ENTITY_EVENT_CUSTOM is not false!", ShouldFire.SPAWN_ENTITY_EVENT_CUSTOM);
+        Assert.assertTrue("SPAWN_ENTITY_EVENT_CUSTOM is not true!", ShouldFire.SPAWN_ENTITY_EVENT_CUSTOM);
+        Assert.assertFalse("SPAWN_ENTITY_EVENT_CHUNKLOAD is not false!", ShouldFire.SPAWN_ENTITY_EVENT_CHUNKLOAD);
 
         this.eventManager.unregisterListeners(first);
 
@@ -109,6 +146,35 @@ public void testMultipleListeners() {
         Assert.assertFalse("SPAWN_ENTITY_EVENT_CUSTOM is not false!", ShouldFire.SPAWN_ENTITY_EVENT_CUSTOM);
     }
 
+    @Test
+    public void testSameTypeListeners() {
+        SpawnListener first = new SpawnListener();
+        SpawnListener second = new SpawnListener();
+
+        this.eventManager.registerListeners(this.plugin, first);
+        this.eventManager.registerListeners(this.plugin, second);
+        this.eventManager.unregisterListeners(first);
+
+        Assert.assertTrue("SPAWN_ENTITY_EVENT is not true!", ShouldFire.SPAWN_ENTITY_EVENT);
+
+        this.eventManager.unregisterListeners(second);
+
+        Assert.assertFalse("SPAWN_ENTITY_EVENT is not false!", ShouldFire.SPAWN_ENTITY_EVENT);
+    }
+
+    @Test
+    public void testRootListener() {
+        RootListener listener = new RootListener();
+
+        this.eventManager.registerListeners(this.plugin, listener);
+        Assert.assertTrue("CHANGE_BLOCK_EVENT_PRE is not true!", ShouldFire.CHANGE_BLOCK_EVENT_PRE);
+        Assert.assertTrue("SPAWN_ENTITY_EVENT_CHUNKLOAD is not true!", ShouldFire.SPAWN_ENTITY_EVENT_CHUNKLOAD);
+
+        this.eventManager.unregisterListeners(listener);
+        Assert.assertFalse("CHANGE_BLOCK_EVENT_PRE is not false!", ShouldFire.CHANGE_BLOCK_EVENT_PRE);
+        Assert.assertFalse("SPAWN_ENTITY_EVENT_CHUNKLOAD is not false!", ShouldFire.SPAWN_ENTITY_EVENT_CHUNKLOAD);
+    }
+
     private static class SpawnListener {
 
         @Listener
@@ -121,4 +187,10 @@ private static class SubListener {
         public void onCustom(SpawnEntityEvent.Custom event) {}
     }
 
+    private static class RootListener {
+
+        @Listener
+        public void onEvent(Event event) {}
+    }
+
 }
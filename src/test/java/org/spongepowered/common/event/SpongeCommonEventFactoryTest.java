@@ -0,0 +1,109 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import com.google.common.base.CaseFormat;
+import org.junit.Assert;
+import org.junit.Test;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.FieldInsnNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.spongepowered.api.event.SpongeEventFactory;
+import org.spongepowered.common.SpongeImpl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashSet;
+import java.util.Set;
+
+public class SpongeCommonEventFactoryTest {
+
+    private static final String SHOULD_FIRE = Type.getInternalName(ShouldFire.class);
+    private static final String SPONGE_IMPL = Type.getInternalName(SpongeImpl.class);
+    private static final String EVENT_FACTORY = Type.getInternalName(SpongeEventFactory.class);
+
+    /**
+     * Every factory method has to check the {@link ShouldFire} flag of the
+     * event it posts, so events without listeners are skipped. The bytecode is
+     * checked instead of calling the methods, which would need a server. The
+     * posted event is taken from the last {@code SpongeEventFactory} call
+     * before the post, and a flag of one of its parent events also counts.
+     */
+    @Test
+    public void testPostsAreGated() throws IOException {
+        final ClassNode classNode = new ClassNode();
+        try (InputStream in = SpongeCommonEventFactory.class.getResourceAsStream("SpongeCommonEventFactory.class")) {
+            new ClassReader(in).accept(classNode, 0);
+        }
+        int posts = 0;
+        for (MethodNode method : classNode.methods) {
+            final Set<String> checked = new HashSet<>();
+            String created = null;
+            for (AbstractInsnNode insn = method.instructions.getFirst(); insn != null; insn = insn.getNext()) {
+                if (insn.getOpcode() == Opcodes.GETSTATIC && ((FieldInsnNode) insn).owner.equals(SHOULD_FIRE)) {
+                    checked.add(((FieldInsnNode) insn).name);
+                } else if (insn.getOpcode() == Opcodes.INVOKESTATIC && ((MethodInsnNode) insn).owner.equals(EVENT_FACTORY)
+                        && ((MethodInsnNode) insn).name.startsWith("create")) {
+                    created = getFlagName(((MethodInsnNode) insn).name.substring("create".length()));
+                } else if (insn.getOpcode() == Opcodes.INVOKESTATIC && ((MethodInsnNode) insn).owner.equals(SPONGE_IMPL)
+                        && ((MethodInsnNode) insn).name.equals("postEvent")) {
+                    final String location = "SpongeCommonEventFactory." + method.name + method.desc;
+                    Assert.assertFalse(location + " posts an event without checking ShouldFire", checked.isEmpty());
+                    if (created != null) {
+                        Assert.assertTrue(location + " posts an event without checking ShouldFire." + created + ", only " + checked,
+                                isChecked(checked, created));
+                    }
+                    posts++;
+                }
+            }
+        }
+        Assert.assertTrue("No events are posted by SpongeCommonEventFactory", posts > 0);
+    }
+
+    private static String getFlagName(String eventName) {
+        // Hand specific events share the flag of the event they extend
+        for (String hand : new String[] {"MainHand", "OffHand"}) {
+            if (eventName.endsWith(hand)) {
+                eventName = eventName.substring(0, eventName.length() - hand.length());
+            }
+        }
+        return CaseFormat.UPPER_CAMEL.to(CaseFormat.UPPER_UNDERSCORE, eventName);
+    }
+
+    private static boolean isChecked(Set<String> checked, String flag) {
+        for (String name : checked) {
+            if (flag.equals(name) || flag.startsWith(name + "_")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class TimingWheelTest {
+
+    @Test
+    public void testDeadlines() {
+        TimingWheel<Long> wheel = new TimingWheel<>();
+        long[] deadlines = {1, 2, 63, 64, 65, 4095, 4096, 4097, 300000, 1L << 30};
+        for (long deadline : deadlines) {
+            wheel.schedule(new TimingWheel.Node<>(deadline), deadline);
+        }
+        assertEquals(deadlines.length, wheel.size());
+        for (long deadline : deadlines) {
+            List<Long> fired = new ArrayList<>();
+            wheel.advance(deadline - 1, fired::add);
+            assertTrue(fired.isEmpty());
+            wheel.advance(deadline, fired::add);
+            assertEquals(1, fired.size());
+            assertEquals(deadline, (long) fired.get(0));
+        }
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void testPassedDeadline() {
+        TimingWheel<String> wheel = new TimingWheel<>();
+        wheel.advance(100, value -> {});
+        wheel.schedule(new TimingWheel.Node<>("late"), 50);
+        List<String> fired = new ArrayList<>();
+        wheel.advance(101, fired::add);
+        assertEquals(1, fired.size());
+    }
+
+    @Test
+    public void testUnlinkAndReschedule() {
+        TimingWheel<String> wheel = new TimingWheel<>();
+        TimingWheel.Node<String> node = new TimingWheel.Node<>("task");
+        wheel.schedule(node, 10);
+        assertTrue(node.isScheduled());
+        node.unlink();
+        assertFalse(node.isScheduled());
+        assertEquals(0, wheel.size());
+
+        wheel.schedule(node, 10);
+        wheel.schedule(node, 5000);
+        assertEquals(1, wheel.size());
+        List<String> fired = new ArrayList<>();
+        wheel.advance(4999, fired::add);
+        assertTrue(fired.isEmpty());
+        wheel.advance(5000, fired::add);
+        assertEquals(1, fired.size());
+    }
+
+}
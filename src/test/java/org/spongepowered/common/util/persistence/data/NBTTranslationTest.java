@@ -27,6 +27,7 @@
 import static org.junit.Assert.assertEquals;
 import static org.mockito.Mockito.when;
 
+import net.minecraft.nbt.CompressedStreamTools;
 import net.minecraft.nbt.NBTTagCompound;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -36,9 +37,16 @@
 import org.spongepowered.api.data.DataQuery;
 import org.spongepowered.api.data.DataView;
 import org.spongepowered.api.data.persistence.DataBuilder;
+import org.spongepowered.common.data.persistence.NbtStreams;
 import org.spongepowered.common.data.persistence.NbtTranslator;
 import org.spongepowered.lwts.runner.LaunchWrapperTestRunner;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
 import java.util.Optional;
 
 @RunWith(LaunchWrapperTestRunner.class)
@@ -66,4 +74,38 @@ public void testDotContainerKeys() {
         assertEquals(container, translatedContainer);
     }
 
+    @Test
+    public void testStreamMatchesTranslator() throws IOException {
+        final DataContainer container = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED)
+                .set(DataQuery.of("foo"), "bar")
+                .set(DataQuery.of("flag"), true)
+                .set(DataQuery.of("bytes"), new byte[] {1, 2, 3})
+                .set(DataQuery.of("ints"), Arrays.asList(1, 2, 3))
+                .set(DataQuery.of("nested", "value"), 4L);
+        final NBTTagCompound compound = NbtTranslator.getInstance().translateData(container);
+
+        // Written by vanilla, read by the stream
+        final ByteArrayOutputStream vanillaBytes = new ByteArrayOutputStream();
+        CompressedStreamTools.write(compound, new DataOutputStream(vanillaBytes));
+        final DataContainer streamed = NbtStreams.read(new DataInputStream(new ByteArrayInputStream(vanillaBytes.toByteArray())));
+        assertEquals(NbtTranslator.getInstance().translateFrom(compound), streamed);
+
+        // Written by the stream, read by vanilla
+        final ByteArrayOutputStream streamBytes = new ByteArrayOutputStream();
+        NbtStreams.write(new DataOutputStream(streamBytes), container);
+        assertEquals(compound, CompressedStreamTools.read(new DataInputStream(new ByteArrayInputStream(streamBytes.toByteArray()))));
+    }
+
+    @Test
+    public void testStreamReadChild() throws IOException {
+        final DataContainer container = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED)
+                .set(DataQuery.of("skipped"), Arrays.asList("a", "b"))
+                .set(DataQuery.of("Level", "value"), 1)
+                .set(DataQuery.of("after"), 2.0D);
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        NbtStreams.write(new DataOutputStream(bytes), container);
+        final DataContainer level = NbtStreams.readChild(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), "Level");
+        assertEquals(DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED).set(DataQuery.of("value"), 1), level);
+    }
+
 }
@@ -0,0 +1,154 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.extent.worker;
+
+import com.flowpowered.math.vector.Vector3i;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.world.extent.MutableBlockVolume;
+import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeFiller;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class SectionedBlockWorkTest {
+
+    private static final BlockState[] STATES = new BlockState[5];
+
+    static {
+        for (int i = 0; i < STATES.length; i++) {
+            STATES[i] = Mockito.mock(BlockState.class);
+        }
+    }
+
+    private static BlockState stateAt(int x, int y, int z) {
+        return STATES[Math.floorMod(x * 31 + y * 17 + z, STATES.length)];
+    }
+
+    @Test
+    public void testProduceAndApplyUnalignedVolume() {
+        // Starts and ends in the middle of sections, on both sides of zero
+        assertProducesAndApplies(new Vector3i(-7, 3, -20), new Vector3i(40, 35, 17));
+    }
+
+    @Test
+    public void testProduceAndApplyWithinOneSection() {
+        assertProducesAndApplies(new Vector3i(5, 5, 5), new Vector3i(9, 14, 6));
+    }
+
+    @Test
+    public void testProduceAndApplyAcrossOneBoundary() {
+        assertProducesAndApplies(new Vector3i(15, 0, -1), new Vector3i(16, 0, 0));
+    }
+
+    @Test
+    public void testApplyWithOffset() {
+        final Vector3i min = new Vector3i(-3, 60, 12);
+        final Vector3i max = new Vector3i(20, 63, 33);
+        final Vector3i offset = new Vector3i(100, -50, 7);
+        final SectionedBlockWork work = new SectionedBlockWork(min, max);
+        final Map<Vector3i, BlockState> applied = new HashMap<>();
+        final MutableBlockVolume destination = Mockito.mock(MutableBlockVolume.class);
+        Mockito.when(destination.setBlock(Mockito.anyInt(), Mockito.anyInt(), Mockito.anyInt(), Mockito.any(BlockState.class)))
+            .thenAnswer(invocation -> {
+                final Object[] args = invocation.getArguments();
+                Assert.assertNull(applied.put(new Vector3i((int) args[0], (int) args[1], (int) args[2]), (BlockState) args[3]));
+                return true;
+            });
+        work.apply(work.produce(SectionedBlockWorkTest::stateAt), destination, offset);
+
+        assertCovers(min, max, applied, offset);
+    }
+
+    @Test
+    public void testCompareSequentialAndSectionedProduce() {
+        // The default min-volume of the parallel mode, not aligned to sections
+        final Vector3i min = new Vector3i(-8, 0, -8);
+        final Vector3i max = new Vector3i(55, 63, 55);
+        final Vector3i size = max.sub(min).add(Vector3i.ONE);
+        // Stands in for a mapper that does real work for every block, such as sampling noise
+        final BlockVolumeFiller filler = (x, y, z) -> {
+            int hash = x * 73856093 ^ y * 19349663 ^ z * 83492791;
+            for (int i = 0; i < 200; i++) {
+                hash = hash * 31 + (hash >>> 7);
+            }
+            return STATES[Math.floorMod(hash, STATES.length)];
+        };
+
+        final BlockState[] sequential = new BlockState[size.getX() * size.getY() * size.getZ()];
+        final BlockState[] sectioned = new BlockState[sequential.length];
+        // The first round only warms up the JIT
+        for (int round = 0; round < 2; round++) {
+            long start = System.nanoTime();
+            for (int z = min.getZ(); z <= max.getZ(); z++) {
+                for (int y = min.getY(); y <= max.getY(); y++) {
+                    for (int x = min.getX(); x <= max.getX(); x++) {
+                        sequential[index(min, size, x, y, z)] = filler.produce(x, y, z);
+                    }
+                }
+            }
+            final long sequentialNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            final SectionedBlockWork work = new SectionedBlockWork(min, max);
+            work.apply(work.produce(filler), (x, y, z, block) -> sectioned[index(min, size, x, y, z)] = block);
+            final long sectionedNanos = System.nanoTime() - start;
+
+            Assert.assertArrayEquals(sequential, sectioned);
+            if (round == 1) {
+                System.out.printf("Produced %d blocks: sequential %d ms, sectioned %d ms on %d cores%n", sequential.length,
+                    sequentialNanos / 1000000, sectionedNanos / 1000000, Runtime.getRuntime().availableProcessors());
+            }
+        }
+    }
+
+    private static int index(Vector3i min, Vector3i size, int x, int y, int z) {
+        return ((z - min.getZ()) * size.getY() + y - min.getY()) * size.getX() + x - min.getX();
+    }
+
+    private static void assertProducesAndApplies(Vector3i min, Vector3i max) {
+        final SectionedBlockWork work = new SectionedBlockWork(min, max);
+        final Map<Vector3i, BlockState> applied = new HashMap<>();
+        work.apply(work.produce(SectionedBlockWorkTest::stateAt),
+            (x, y, z, block) -> Assert.assertNull("Applied twice", applied.put(new Vector3i(x, y, z), block)));
+
+        assertCovers(min, max, applied, Vector3i.ZERO);
+    }
+
+    private static void assertCovers(Vector3i min, Vector3i max, Map<Vector3i, BlockState> applied, Vector3i offset) {
+        final Vector3i size = max.sub(min).add(Vector3i.ONE);
+        Assert.assertEquals(size.getX() * size.getY() * size.getZ(), applied.size());
+        for (int z = min.getZ(); z <= max.getZ(); z++) {
+            for (int y = min.getY(); y <= max.getY(); y++) {
+                for (int x = min.getX(); x <= max.getX(); x++) {
+                    Assert.assertSame(stateAt(x, y, z), applied.get(new Vector3i(x, y, z).add(offset)));
+                }
+            }
+        }
+    }
+
+}